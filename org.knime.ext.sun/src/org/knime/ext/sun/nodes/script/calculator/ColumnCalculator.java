@@ -46,8 +46,11 @@
 package org.knime.ext.sun.nodes.script.calculator;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -56,7 +59,7 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.collection.CollectionDataValue;
-import org.knime.core.data.container.CellFactory;
+import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
@@ -67,6 +70,7 @@
 import org.knime.ext.sun.nodes.script.expression.Expression.FieldType;
 import org.knime.ext.sun.nodes.script.expression.Expression.InputField;
 import org.knime.ext.sun.nodes.script.expression.ExpressionInstance;
+import org.knime.ext.sun.nodes.script.expression.ExpressionInstance.FieldSetter;
 import org.knime.ext.sun.nodes.script.expression.IllegalPropertyException;
 import org.knime.ext.sun.nodes.script.settings.JavaScriptingSettings;
 import org.knime.ext.sun.nodes.script.settings.JavaSnippetType;
@@ -75,20 +79,29 @@
  * Interface implementation that executes the java code snippet and calculates
  * the new column, either appended or replaced.
  *
+ * <p>
+ * If the expression has no header, i.e. it cannot keep any state between rows, the rows are processed concurrently
+ * when used in a column rearranger. Each worker then evaluates its own instance of the expression.
+ *
  * @author Bernd Wiswedel, University of Konstanz
  */
-public class ColumnCalculator implements CellFactory {
+public class ColumnCalculator extends AbstractCellFactory {
     private static final NodeLogger LOGGER = NodeLogger
             .getLogger(ColumnCalculator.class);
 
     private final JavaScriptingSettings m_settings;
-    private final ExpressionInstance m_expression;
+    private final Expression m_compiledExpression;
     private final FlowVariableProvider m_flowVarProvider;
-    private boolean m_hasReportedMissing = false;
+    private volatile boolean m_hasReportedMissing = false;
+
+    /** The spec the column indices are bound to, the expression itself only knows the column names. */
+    private final DataTableSpec m_inputSpec;
 
-    private final DataColumnSpec[] m_colSpec;
+    /** Whether rows may be evaluated concurrently, see {@link #isProcessConcurrently(JavaScriptingSettings)}. */
+    private final boolean m_isConcurrent;
 
-    private Map<InputField, Object> m_flowVarAssignmentMap;
+    /** Evaluators not in use, there are at most as many evaluators as rows processed at the same time. */
+    private final Queue<Evaluator> m_idleEvaluators = new ConcurrentLinkedQueue<>();
 
     /**
      * The row index may be used for calculation. Need to be set immediately
@@ -109,23 +122,37 @@ public class ColumnCalculator implements CellFactory {
     public ColumnCalculator(final JavaScriptingSettings settings,
             final FlowVariableProvider flowVarProvider)
             throws InstantiationException, InvalidSettingsException {
+        super(isProcessConcurrently(settings), settings.getNewColSpec());
+        m_isConcurrent = isProcessConcurrently(settings);
         m_settings = settings;
         m_flowVarProvider = flowVarProvider;
-        Expression compiledExpression = settings.getCompiledExpression();
-        if (compiledExpression == null) {
+        m_compiledExpression = settings.getCompiledExpression();
+        if (m_compiledExpression == null) {
             throw new InstantiationException(
                     "No compiled expression in settings");
         }
-        m_expression = compiledExpression.getInstance();
-        m_colSpec = new DataColumnSpec[]{m_settings.getNewColSpec()};
+        m_idleEvaluators.add(new Evaluator(m_compiledExpression.getInstance()));
+        m_inputSpec = settings.getInputSpec();
     }
 
     /**
-     * {@inheritDoc}
+     * Rows can be evaluated in any order by independent instances if the expression has no header, which is the only
+     * place to declare fields that keep state between rows. The row index is passed along with each row.
      */
-    @Override
-    public DataColumnSpec[] getColumnSpecs() {
-        return m_colSpec;
+    private static boolean isProcessConcurrently(final JavaScriptingSettings settings) {
+        final String header = settings.getHeader();
+        return settings.getCompiledExpression() != null && (header == null || header.trim().isEmpty());
+    }
+
+    /**
+     * Whether the expression keeps no state between rows so that {@link #calculate(DataRow, long)} can be called
+     * concurrently and in any row order.
+     *
+     * @return <code>true</code> if rows can be calculated concurrently
+     * @since 4.3
+     */
+    public boolean isConcurrent() {
+        return m_isConcurrent;
     }
 
     /**
@@ -136,6 +163,14 @@ public DataCell[] getCells(final DataRow row) {
         return new DataCell[]{calculate(row)};
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataCell[] getCells(final DataRow row, final long rowIndex) {
+        return new DataCell[]{calculate(row, rowIndex)};
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -147,119 +182,243 @@ public void setProgress(final int curRowNr, final int rowCount,
     }
 
     /**
-     * Performs the calculation.
+     * Performs the calculation. The row index is the number of previous calls of this method, so rows need to be
+     * passed in order.
      *
      * @param row the row to process
      * @return the resulting cell
      */
     public DataCell calculate(final DataRow row) {
-        if (m_flowVarAssignmentMap == null) {
-            m_flowVarAssignmentMap = new HashMap<InputField, Object>();
-            for (Map.Entry<InputField, ExpressionField> e
-                    : m_expression.getFieldMap().entrySet()) {
-                InputField f = e.getKey();
-                if (f.getFieldType().equals(FieldType.Variable)) {
-                    Class<?> c = e.getValue().getFieldClass();
-                    m_flowVarAssignmentMap.put(f,
-                            m_flowVarProvider.readVariable(
-                                    f.getColOrVarName(), c));
-                }
+        return calculate(row, m_lastProcessedRow++);
+    }
+
+    /**
+     * Performs the calculation for a row with the given index. This method is thread-safe, each thread evaluates its
+     * own instance of the expression. The rows may only be passed out of order if {@link #isConcurrent()}.
+     *
+     * @param row the row to process
+     * @param rowIndex the index of the row in the table, assigned to ROWINDEX
+     * @return the resulting cell
+     * @since 4.3
+     */
+    public DataCell calculate(final DataRow row, final long rowIndex) {
+        Evaluator evaluator = m_idleEvaluators.poll();
+        if (evaluator == null) {
+            try {
+                evaluator = new Evaluator(m_compiledExpression.getInstance());
+            } catch (InstantiationException ie) {
+                throw new RuntimeException("Unable to instantiate expression: " + ie.getMessage(), ie);
             }
         }
-        DataTableSpec spec = m_settings.getInputSpec();
-        Class<?> returnType = m_settings.getReturnType();
-        boolean isArrayReturn = m_settings.isArrayReturn();
-        Map<InputField, Object> nameValueMap =
-            new HashMap<InputField, Object>();
-        nameValueMap.put(new InputField(Expression.ROWINDEX,
-                FieldType.TableConstant), m_lastProcessedRow++);
-        nameValueMap.put(new InputField(Expression.ROWID,
-                FieldType.TableConstant), row.getKey().getString());
-        nameValueMap.put(new InputField(Expression.ROWCOUNT,
-                FieldType.TableConstant), m_flowVarProvider.getRowCount());
-        nameValueMap.putAll(m_flowVarAssignmentMap);
-        for (int i = 0; i < row.getNumCells(); i++) {
-            DataColumnSpec columnSpec = spec.getColumnSpec(i);
-            InputField inputField =
-                new InputField(columnSpec.getName(), FieldType.Column);
-            if (!m_expression.needsInputField(inputField)) {
-                continue;
-            }
-            DataCell cell = row.getCell(i);
-            DataType cellType = columnSpec.getType();
-            boolean isArray = cellType.isCollectionType();
-            if (isArray) {
-                cellType = cellType.getCollectionElementType();
-            }
-            Object cellVal = null;
-            if (cell.isMissing()) {
-                if (m_settings.isInsertMissingAsNull()) {
-                    // leave value as null
-                } else {
-                    if (!m_hasReportedMissing) {
-                        m_hasReportedMissing = true;
-                        String message = "Row \"" + row.getKey() + "\" "
-                                + "contains missing value in column \""
-                                + columnSpec.getName() + "\" - returning missing";
-                        LOGGER.warn(message + " (omitting further warnings)");
-                    }
+        try {
+            return evaluator.calculate(row, (int)rowIndex);
+        } finally {
+            m_idleEvaluators.add(evaluator);
+        }
+    }
+
+    /** An instance of the expression with its binding plan, used by one thread at a time. */
+    private final class Evaluator {
+        private final ExpressionInstance m_expression;
+
+        /** The binding plan, created on the first row; see {@link ColumnCalculator#createBindingPlan}. */
+        private BindingPlan m_plan;
+
+        Evaluator(final ExpressionInstance expression) {
+            m_expression = expression;
+        }
+
+        DataCell calculate(final DataRow row, final int rowIndex) {
+            if (m_plan == null) {
+                try {
+                    m_plan = createBindingPlan(m_expression);
+                } catch (IllegalPropertyException ipe) {
+                    LOGGER.warn("Evaluation of expression failed for row \""
+                            + row.getKey() + "\": " + ipe.getMessage(), ipe);
                     return DataType.getMissingCell();
                 }
-            } else {
-                for (JavaSnippetType<?, ?, ?> t : JavaSnippetType.TYPES) {
-                    if (t.checkCompatibility(cellType)) {
-                        if (isArray) {
+            }
+            final BindingPlan plan = m_plan;
+            final int[] colIndices = plan.m_colIndices;
+            final Object[] colValues = plan.m_colValues;
+            for (int c = 0; c < colIndices.length; c++) {
+                DataCell cell = row.getCell(colIndices[c]);
+                Object cellVal = null;
+                if (cell.isMissing()) {
+                    if (m_settings.isInsertMissingAsNull()) {
+                        // leave value as null
+                    } else {
+                        if (!m_hasReportedMissing) {
+                            m_hasReportedMissing = true;
+                            String message = "Row \"" + row.getKey() + "\" "
+                                    + "contains missing value in column \""
+                                    + m_inputSpec.getColumnSpec(colIndices[c]).getName()
+                                    + "\" - returning missing";
+                            LOGGER.warn(message + " (omitting further warnings)");
+                        }
+                        return DataType.getMissingCell();
+                    }
+                } else {
+                    JavaSnippetType<?, ?, ?> t = plan.m_colTypes[c];
+                    if (t != null) {
+                        if (plan.m_colIsArray[c]) {
                             cellVal = t.asJavaArray((CollectionDataValue)cell);
                         } else {
-                            cellVal = t.asJavaObject(cell);
+                            cellVal = t.readJavaObject(cell);
                         }
-                        break;
                     }
                 }
+                colValues[c] = cellVal;
             }
-            nameValueMap.put(inputField, cellVal);
-        }
-        Object o = null;
-        try {
-            m_expression.set(nameValueMap);
-            o = m_expression.evaluate();
-            // class correctness is asserted by compiler
-        } catch (Abort ee) {
-            StringBuilder builder = new StringBuilder("Calculation aborted: ");
-            String message = ee.getMessage();
-            builder.append(message == null ? "<no details>" : message);
-            throw new RuntimeException(builder.toString(), ee);
-        } catch (EvaluationFailedException ee) {
-            Throwable cause = ee.getCause();
-            if (cause instanceof InvocationTargetException) {
-                cause = ((InvocationTargetException)cause).getCause();
+            Object o = null;
+            try {
+                plan.set(rowIndex, row.getKey().getString(), m_flowVarProvider.getRowCount());
+                o = m_expression.evaluate();
+                // class correctness is asserted by compiler
+            } catch (Abort ee) {
+                StringBuilder builder = new StringBuilder("Calculation aborted: ");
+                String message = ee.getMessage();
+                builder.append(message == null ? "<no details>" : message);
+                throw new RuntimeException(builder.toString(), ee);
+            } catch (EvaluationFailedException ee) {
+                Throwable cause = ee.getCause();
+                if (cause instanceof InvocationTargetException) {
+                    cause = ((InvocationTargetException)cause).getCause();
+                }
+                String message =
+                    cause != null ? cause.getMessage() : ee.getMessage();
+                LOGGER.warn("Evaluation of expression failed for row \""
+                        + row.getKey() + "\": " + message, ee);
+            } catch (IllegalPropertyException ipe) {
+                LOGGER.warn("Evaluation of expression failed for row \""
+                        + row.getKey() + "\": " + ipe.getMessage(), ipe);
             }
-            String message =
-                cause != null ? cause.getMessage() : ee.getMessage();
-            LOGGER.warn("Evaluation of expression failed for row \""
-                    + row.getKey() + "\": " + message, ee);
-        } catch (IllegalPropertyException ipe) {
-            LOGGER.warn("Evaluation of expression failed for row \""
-                    + row.getKey() + "\": " + ipe.getMessage(), ipe);
-        }
-        DataCell result = null;
-        for (JavaSnippetType<?, ?, ?> t : JavaSnippetType.TYPES) {
-            if (returnType.equals(t.getJavaClass(false))) {
+            DataCell result = null;
+            JavaSnippetType<?, ?, ?> t = plan.m_returnType;
+            if (t != null) {
                 if (o == null) {
                     result = DataType.getMissingCell();
-                } else if (isArrayReturn) {
+                } else if (plan.m_isArrayReturn) {
                     result = t.asKNIMEListCell((Object[])o);
                 } else {
                     result = t.asKNIMECell(o);
                 }
+            }
+            if (result == null) {
+                throw new InternalError("No mapping for objects of class "
+                        + o.getClass().getName());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Resolves everything that does not depend on the row: the columns used by the expression along with their type
+     * adapter and field setter, the flow variable values and the type of the result. The per-row work is then
+     * reduced to reading the cells and setting the fields, without any type dispatch.
+     */
+    private BindingPlan createBindingPlan(final ExpressionInstance expression) throws IllegalPropertyException {
+        DataTableSpec spec = m_inputSpec;
+        BindingPlan plan = new BindingPlan();
+        plan.m_rowIndex = expression.getFieldSetter(new InputField(Expression.ROWINDEX, FieldType.TableConstant));
+        plan.m_rowId = expression.getFieldSetter(new InputField(Expression.ROWID, FieldType.TableConstant));
+        plan.m_rowCount = expression.getFieldSetter(new InputField(Expression.ROWCOUNT, FieldType.TableConstant));
+
+        List<FieldSetter> varSetters = new ArrayList<>();
+        List<Object> varValues = new ArrayList<>();
+        for (Map.Entry<InputField, ExpressionField> e
+                : expression.getFieldMap().entrySet()) {
+            InputField f = e.getKey();
+            if (f.getFieldType().equals(FieldType.Variable)) {
+                Class<?> c = e.getValue().getFieldClass();
+                varSetters.add(expression.getFieldSetter(f));
+                varValues.add(m_flowVarProvider.readVariable(f.getColOrVarName(), c));
+            }
+        }
+        plan.m_varSetters = varSetters.toArray(new FieldSetter[varSetters.size()]);
+        plan.m_varValues = varValues.toArray();
+
+        List<Integer> colIndices = new ArrayList<>();
+        for (int i = 0; i < spec.getNumColumns(); i++) {
+            if (expression.needsInputField(new InputField(spec.getColumnSpec(i).getName(), FieldType.Column))) {
+                colIndices.add(i);
+            }
+        }
+        int nrCols = colIndices.size();
+        plan.m_colIndices = new int[nrCols];
+        plan.m_colSetters = new FieldSetter[nrCols];
+        plan.m_colTypes = new JavaSnippetType<?, ?, ?>[nrCols];
+        plan.m_colIsArray = new boolean[nrCols];
+        plan.m_colValues = new Object[nrCols];
+        for (int c = 0; c < nrCols; c++) {
+            int i = colIndices.get(c);
+            DataColumnSpec columnSpec = spec.getColumnSpec(i);
+            plan.m_colIndices[c] = i;
+            plan.m_colSetters[c] =
+                expression.getFieldSetter(new InputField(columnSpec.getName(), FieldType.Column));
+            DataType cellType = columnSpec.getType();
+            boolean isArray = cellType.isCollectionType();
+            if (isArray) {
+                cellType = cellType.getCollectionElementType();
+            }
+            plan.m_colIsArray[c] = isArray;
+            for (JavaSnippetType<?, ?, ?> t : JavaSnippetType.TYPES) {
+                if (t.checkCompatibility(cellType)) {
+                    plan.m_colTypes[c] = t;
+                    break;
+                }
+            }
+        }
+
+        Class<?> returnType = m_settings.getReturnType();
+        for (JavaSnippetType<?, ?, ?> t : JavaSnippetType.TYPES) {
+            if (returnType.equals(t.getJavaClass(false))) {
+                plan.m_returnType = t;
                 break;
             }
         }
-        if (result == null) {
-            throw new InternalError("No mapping for objects of class "
-                    + o.getClass().getName());
+        plan.m_isArrayReturn = m_settings.isArrayReturn();
+        return plan;
+    }
+
+    /** The row independent part of the field assignment, see {@link ColumnCalculator#createBindingPlan}. */
+    private static final class BindingPlan {
+        private FieldSetter m_rowIndex;
+        private FieldSetter m_rowId;
+        private FieldSetter m_rowCount;
+
+        private FieldSetter[] m_varSetters;
+        private Object[] m_varValues;
+
+        private int[] m_colIndices;
+        private FieldSetter[] m_colSetters;
+        private JavaSnippetType<?, ?, ?>[] m_colTypes;
+        private boolean[] m_colIsArray;
+        /** The values of the current row, filled by the caller before {@link #set(int, String, int)}. */
+        private Object[] m_colValues;
+
+        private JavaSnippetType<?, ?, ?> m_returnType;
+        private boolean m_isArrayReturn;
+
+        /** Assign all fields of the expression. */
+        private void set(final int rowIndex, final String rowId, final int rowCount)
+                throws IllegalPropertyException {
+            if (m_rowIndex != null) {
+                m_rowIndex.set(rowIndex);
+            }
+            if (m_rowId != null) {
+                m_rowId.set(rowId);
+            }
+            if (m_rowCount != null) {
+                m_rowCount.set(rowCount);
+            }
+            for (int i = 0; i < m_varSetters.length; i++) {
+                m_varSetters[i].set(m_varValues[i]);
+            }
+            for (int i = 0; i < m_colSetters.length; i++) {
+                m_colSetters[i].set(m_colValues[i]);
+            }
         }
-        return result;
     }
 
 }
@@ -0,0 +1,313 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.sun.nodes.script.compile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * File manager used by {@link JavaCodeCompiler} to compile in memory. Generated class files are collected as byte
+ * arrays instead of being written to an output folder, and the support classes the compiled code depends on (e.g.
+ * the abstract super class of an expression) are served from their class loader instead of being copied to a
+ * temporary class path folder first.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class InMemoryFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+
+    /** Binary class name to byte code, filled by the compiler; <code>null</code> if written by the delegate. */
+    private final Map<String, byte[]> m_classFiles;
+
+    private final List<SupportClassFile> m_supportClasses = new ArrayList<>();
+
+    /**
+     * @param delegate the file manager for everything else, e.g. the JDK classes and the class path
+     * @param classFiles the map receiving the byte code of the compiled classes, keyed by binary name, or
+     *            <code>null</code> to leave the output to the delegate
+     * @param supportClasses the classes to serve on the class path from their class loader
+     */
+    InMemoryFileManager(final JavaFileManager delegate, final Map<String, byte[]> classFiles,
+        final Class<?>... supportClasses) {
+        super(delegate);
+        m_classFiles = classFiles;
+        for (Class<?> c : supportClasses) {
+            m_supportClasses.add(new SupportClassFile(c));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JavaFileObject getJavaFileForOutput(final Location location, final String className, final Kind kind,
+        final FileObject sibling) throws IOException {
+        if (kind == Kind.CLASS && m_classFiles != null) {
+            return new ClassFile(className);
+        }
+        return super.getJavaFileForOutput(location, className, kind, sibling);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Iterable<JavaFileObject> list(final Location location, final String packageName, final Set<Kind> kinds,
+        final boolean recurse) throws IOException {
+        final Iterable<JavaFileObject> listed = super.list(location, packageName, kinds, recurse);
+        if (location != StandardLocation.CLASS_PATH || !kinds.contains(Kind.CLASS)) {
+            return listed;
+        }
+        List<JavaFileObject> result = null;
+        for (SupportClassFile file : m_supportClasses) {
+            final String pack = file.m_packageName;
+            if (pack.equals(packageName) || (recurse && pack.startsWith(packageName + "."))) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                    for (JavaFileObject f : listed) {
+                        result.add(f);
+                    }
+                }
+                result.add(file);
+            }
+        }
+        return result == null ? listed : result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String inferBinaryName(final Location location, final JavaFileObject file) {
+        if (file instanceof SupportClassFile) {
+            return ((SupportClassFile)file).m_binaryName;
+        }
+        return super.inferBinaryName(location, file);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JavaFileObject getJavaFileForInput(final Location location, final String className, final Kind kind)
+        throws IOException {
+        if (location == StandardLocation.CLASS_PATH && kind == Kind.CLASS) {
+            // compilers other than javac (e.g. ECJ) look up types by name instead of listing the package
+            final SupportClassFile file = findSupportClass(className);
+            if (file != null) {
+                return file;
+            }
+        }
+        return super.getJavaFileForInput(location, className, kind);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasLocation(final Location location) {
+        return (location == StandardLocation.CLASS_PATH && !m_supportClasses.isEmpty()) || super.hasLocation(location);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSameFile(final FileObject a, final FileObject b) {
+        if (a instanceof SupportClassFile || b instanceof SupportClassFile) {
+            return a == b;
+        }
+        return super.isSameFile(a, b);
+    }
+
+    /**
+     * Whether the file is contained in the location, see <code>JavaFileManager#contains</code>. That method is new in
+     * Java 9, this implementation overrides it on newer runtimes and forwards to the delegate by reflection.
+     *
+     * @param location the location
+     * @param fo the file
+     * @return <code>true</code> if the file is in the location, <code>false</code> if it is not or if the delegate
+     *         cannot tell (e.g. on Java 8)
+     * @throws IOException if the delegate cannot determine the answer
+     */
+    public boolean contains(final Location location, final FileObject fo) throws IOException {
+        if (fo instanceof SupportClassFile) {
+            return location == StandardLocation.CLASS_PATH;
+        }
+        try {
+            final Method contains = JavaFileManager.class.getMethod("contains", Location.class, FileObject.class);
+            return (Boolean)contains.invoke(fileManager, location, fo);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // the delegate predates the method, it knows nothing about the file
+            return false;
+        } catch (InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof UnsupportedOperationException) {
+                // the default implementation of the interface
+                return false;
+            } else if (cause instanceof IOException) {
+                throw (IOException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private SupportClassFile findSupportClass(final String binaryName) {
+        for (SupportClassFile file : m_supportClasses) {
+            if (file.m_binaryName.equals(binaryName)) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Create a source file object held in memory.
+     *
+     * @param className the binary name of the class declared in the source
+     * @param source the source code
+     * @return the file object
+     */
+    static JavaFileObject createSourceFile(final String className, final String source) {
+        return new SourceFile(className, source);
+    }
+
+    private static URI toURI(final String binaryName, final Kind kind) {
+        return URI.create("memory:///" + binaryName.replace('.', '/') + kind.extension);
+    }
+
+    /** A source kept as string. */
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String m_source;
+
+        SourceFile(final String className, final String source) {
+            super(toURI(className, Kind.SOURCE), Kind.SOURCE);
+            m_source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return m_source;
+        }
+
+        @Override
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(m_source.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /** A compiled class, put into the class file map when its stream is closed. */
+    private final class ClassFile extends SimpleJavaFileObject {
+        private final String m_className;
+
+        ClassFile(final String className) {
+            super(toURI(className, Kind.CLASS), Kind.CLASS);
+            m_className = className;
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            return new ByteArrayOutputStream() {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    synchronized (m_classFiles) {
+                        m_classFiles.put(m_className, toByteArray());
+                    }
+                }
+            };
+        }
+    }
+
+    /** A class file read from the class loader of an already loaded class. */
+    private static final class SupportClassFile extends SimpleJavaFileObject {
+        private final Class<?> m_class;
+
+        private final String m_binaryName;
+
+        private final String m_packageName;
+
+        SupportClassFile(final Class<?> c) {
+            super(toURI(c.getName(), Kind.CLASS), Kind.CLASS);
+            m_class = c;
+            m_binaryName = c.getName();
+            final int dot = m_binaryName.lastIndexOf('.');
+            m_packageName = dot < 0 ? "" : m_binaryName.substring(0, dot);
+        }
+
+        @Override
+        public InputStream openInputStream() throws IOException {
+            final String resource = m_binaryName.replace('.', '/') + Kind.CLASS.extension;
+            final InputStream in = m_class.getClassLoader().getResourceAsStream(resource);
+            if (in == null) {
+                throw new IOException("Unable to read class file " + resource);
+            }
+            return in;
+        }
+    }
+}
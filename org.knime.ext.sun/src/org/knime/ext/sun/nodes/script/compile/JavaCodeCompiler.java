@@ -60,18 +60,23 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.tools.Diagnostic;
 import javax.tools.DiagnosticCollector;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileManager;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardJavaFileManager;
 import javax.tools.StandardLocation;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.tool.EclipseCompiler;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.CheckUtils;
@@ -94,9 +99,21 @@ public enum JavaVersion {
         /**Java 8.*/
         JAVA_8,
         /**The default version to use.*/
-        DEFAULT;
+        DEFAULT,
+        /**
+         * The language level of the running JVM, limited to what the compiler supports, see
+         * {@link JavaCodeCompiler#getRuntimeJavaVersion()}.
+         * @since 4.3
+         */
+        RUNTIME;
     }
 
+    /** The oldest language level supported for compilation, also used as fallback for old workflows. */
+    private static final int MIN_JAVA_LEVEL = 8;
+
+    /** Lazily initialized, see {@link #getSupportedJavaVersions()}. */
+    private static List<String> supportedJavaVersions;
+
     private static final NodeLogger LOGGER =
         NodeLogger.getLogger(JavaCodeCompiler.class);
     private final JavaVersion m_javaVersion;
@@ -128,20 +145,27 @@ public JavaCodeCompiler(final JavaVersion javaVersion) {
 
     /**
      * @param javaVersion The non-null java version to use for compilation.
-     * @param outputFileLocation The location where the .class files will be generated in.
+     * @param outputFileLocation The location where the .class files will be generated in or <code>null</code> to
+     *            keep them in memory (since 4.3), in which case they are only accessible through
+     *            {@link #createClassLoader(ClassLoader)}.
      * @since 3.6
      */
     public JavaCodeCompiler(final JavaVersion javaVersion, final File outputFileLocation) {
         m_javaVersion = CheckUtils.checkArgumentNotNull(javaVersion);
-        CheckUtils.checkArgument(outputFileLocation.isDirectory() && outputFileLocation.canWrite(),
+        CheckUtils.checkArgument(
+            outputFileLocation == null || (outputFileLocation.isDirectory() && outputFileLocation.canWrite()),
             "File location does not denote an existing writable directory: " + outputFileLocation);
-        m_outputFileLocation = CheckUtils.checkArgumentNotNull(outputFileLocation);
+        m_outputFileLocation = outputFileLocation;
     }
 
     private File[] m_classpaths;
+    private Class<?>[] m_supportClasses;
     private String[] m_additionalCompileArgs;
     private JavaFileObject[] m_sources;
 
+    /** Byte code of the last compilation if compiling in memory, keyed by binary class name. */
+    private Map<String, byte[]> m_classFiles;
+
     private File m_sourceCodeDebugDir;
 
     /** @param classpaths the classpaths to set */
@@ -154,6 +178,31 @@ public File[] getClasspaths() {
         return m_classpaths;
     }
 
+    /**
+     * Set classes the compiled code depends on which are not part of the {@link #setClasspaths(File...) class path}.
+     * Their byte code is read from their own class loader during compilation, hence there is no need to copy them
+     * to a folder on the class path. The class loader passed to {@link #createClassLoader(ClassLoader)} needs to
+     * be able to load them.
+     *
+     * @param supportClasses the support classes
+     * @since 4.3
+     */
+    public void setSupportClasses(final Class<?>... supportClasses) {
+        m_supportClasses = supportClasses;
+    }
+
+    /**
+     * Create a source file object whose content is held in memory.
+     *
+     * @param className the binary name of the class declared in the source
+     * @param source the source code
+     * @return a new source file object for {@link #setSources(JavaFileObject...)}
+     * @since 4.3
+     */
+    public static JavaFileObject createSourceFile(final String className, final String source) {
+        return InMemoryFileManager.createSourceFile(className, source);
+    }
+
     /** Set a location to which the source code is written for debug purposes.
      * By default this location is <code>null</code>, i.e. everything happens
      * in memory.
@@ -261,8 +310,18 @@ public void compile() throws CompilationFailedException {
         boolean compileCallSuccess;
         try (StandardJavaFileManager stdFileMgr = compiler.getStandardFileManager(
             digsCollector, null, StandardCharsets.UTF_8)) {
-            stdFileMgr.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(m_outputFileLocation));
-            CompilationTask compileTask = compiler.getTask(logString, stdFileMgr,
+            JavaFileManager fileMgr = stdFileMgr;
+            if (m_outputFileLocation != null) {
+                stdFileMgr.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(m_outputFileLocation));
+                m_classFiles = null;
+            } else {
+                m_classFiles = new HashMap<>();
+            }
+            if (m_outputFileLocation == null || !ArrayUtils.isEmpty(m_supportClasses)) {
+                fileMgr = new InMemoryFileManager(stdFileMgr, m_classFiles,
+                    m_supportClasses == null ? new Class<?>[0] : m_supportClasses);
+            }
+            CompilationTask compileTask = compiler.getTask(logString, fileMgr,
                 digsCollector, compileArgs, null, Arrays.asList(m_sources));
             compileCallSuccess = compileTask.call();
         } catch (IOException ioe) {
@@ -344,12 +403,99 @@ private String getJavaVersion() {
             case DEFAULT:
                 javaVersion = "1.8";
                 break;
+            case RUNTIME:
+                javaVersion = getRuntimeJavaVersion();
+                break;
             default:
                 throw new IllegalStateException("Incompatible java version selected");
         }
         return javaVersion;
     }
 
+    /**
+     * Get the highest language level which is supported by both the running JVM and the compiler, e.g. "1.8" or
+     * "11". Classes compiled for this level can be loaded by the running JVM.
+     *
+     * @return the language level as passed to the <code>-source</code> and <code>-target</code> compiler arguments
+     * @since 4.3
+     */
+    public static String getRuntimeJavaVersion() {
+        final List<String> versions = getSupportedJavaVersions();
+        return versions.get(versions.size() - 1);
+    }
+
+    /**
+     * Get all language levels from Java 8 up to {@link #getRuntimeJavaVersion()}, in ascending order.
+     *
+     * @return the supported language levels, never empty
+     * @since 4.3
+     */
+    public static synchronized List<String> getSupportedJavaVersions() {
+        if (supportedJavaVersions == null) {
+            final int runtimeLevel = toJavaLevel(System.getProperty("java.specification.version"));
+            final List<String> versions = new ArrayList<>();
+            versions.add(toJavaVersion(MIN_JAVA_LEVEL));
+            for (int level = MIN_JAVA_LEVEL + 1; level <= runtimeLevel; level++) {
+                final String version = toJavaVersion(level);
+                if (CompilerOptions.versionToJdkLevel(version) == 0) {
+                    // the compiler does not know this (nor any later) version
+                    break;
+                }
+                versions.add(version);
+            }
+            supportedJavaVersions = Collections.unmodifiableList(versions);
+        }
+        return supportedJavaVersions;
+    }
+
+    /**
+     * Check whether source code can be compiled for the given language level in this installation.
+     *
+     * @param version the language level, e.g. "1.8" or "11"
+     * @return <code>true</code> if the version is one of {@link #getSupportedJavaVersions()}
+     * @since 4.3
+     */
+    public static boolean isSupportedJavaVersion(final String version) {
+        return version != null && getSupportedJavaVersions().contains(normalizeJavaVersion(version));
+    }
+
+    /**
+     * Bring a language level into the format used by the compiler, i.e. "8" becomes "1.8" and "1.11" becomes "11".
+     *
+     * @param version the language level, not <code>null</code>
+     * @return the normalized language level or the argument if it cannot be parsed
+     * @since 4.3
+     */
+    public static String normalizeJavaVersion(final String version) {
+        final int level = toJavaLevel(version);
+        return level > 0 ? toJavaVersion(level) : version;
+    }
+
+    /** "1.8" -&gt; 8, "11" -&gt; 11, invalid -&gt; -1 */
+    private static int toJavaLevel(final String version) {
+        if (version == null) {
+            return -1;
+        }
+        String v = version.trim();
+        if (v.startsWith("1.")) {
+            v = v.substring(2);
+        }
+        final int dot = v.indexOf('.');
+        if (dot >= 0) {
+            v = v.substring(0, dot);
+        }
+        try {
+            return Integer.parseInt(v);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /** 8 -&gt; "1.8", 11 -&gt; "11" */
+    private static String toJavaVersion(final int level) {
+        return level <= MIN_JAVA_LEVEL ? "1." + level : Integer.toString(level);
+    }
+
     /**
      * Creates a class loader for the compiled classes.
      * @param parent the parent class loader that is used as fallback when a class is not found.
@@ -359,7 +505,8 @@ private String getJavaVersion() {
     public URLClassLoader createClassLoader(final ClassLoader parent)
         throws CompilationFailedException {
 
-        File[] classpathFiles = ArrayUtils.add(m_classpaths, m_outputFileLocation);
+        File[] classpathFiles = m_outputFileLocation == null ? ArrayUtils.nullToEmpty(m_classpaths)
+            : ArrayUtils.add(m_classpaths, m_outputFileLocation);
 
         final URL[] urls = new URL[classpathFiles.length];
 
@@ -368,11 +515,41 @@ public URLClassLoader createClassLoader(final ClassLoader parent)
                 urls[i] = classpathFiles[i].toURI().toURL();
             } catch (MalformedURLException e) {
                 throw new CompilationFailedException(
-                    "Unable to retrieve URL from class path entry \"" + m_classpaths[i].getAbsolutePath() + "\"", e);
+                    "Unable to retrieve URL from class path entry \"" + classpathFiles[i].getAbsolutePath() + "\"", e);
             }
         }
 
+        if (m_outputFileLocation == null) {
+            if (m_classFiles == null) {
+                throw new CompilationFailedException("Sources have not been compiled");
+            }
+            return new InMemoryClassLoader(urls, parent, m_classFiles);
+        }
         return URLClassLoader.newInstance(urls, parent);
     }
 
+    /** Defines the classes compiled in memory, everything else is delegated as usual. */
+    private static final class InMemoryClassLoader extends URLClassLoader {
+
+        static {
+            ClassLoader.registerAsParallelCapable();
+        }
+
+        private final Map<String, byte[]> m_classFiles;
+
+        InMemoryClassLoader(final URL[] urls, final ClassLoader parent, final Map<String, byte[]> classFiles) {
+            super(urls, parent);
+            m_classFiles = classFiles;
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+            final byte[] b = m_classFiles.get(name);
+            if (b != null) {
+                return defineClass(name, b, 0, b.length);
+            }
+            return super.findClass(name);
+        }
+    }
+
 }
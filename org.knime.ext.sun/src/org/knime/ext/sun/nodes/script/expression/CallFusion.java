@@ -0,0 +1,77 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.sun.nodes.script.expression;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Replaces a chain of nested calls of statically imported methods, such as <code>f(g(h(x)))</code>, with a single
+ * handle evaluating the entire chain at once. A chain consists of methods returning a string whose first argument is
+ * the result of the next inner call and whose other arguments are constant. Only used for expressions that are
+ * interpreted and whose statically imported methods are pure, see
+ * {@link org.knime.ext.sun.nodes.script.settings.JavaScriptingSettings#setCallFusion(CallFusion)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ */
+@FunctionalInterface
+public interface CallFusion {
+
+    /**
+     * Fuses a chain of calls. The returned handle must return the same result as the chain for each argument.
+     *
+     * @param methods the methods of the chain, from the innermost to the outermost call
+     * @param constants the values of the constant arguments of each method, i.e. all but the first one
+     * @param calls handles of type <code>(String)String</code> calling each method with its constant arguments
+     * @return a handle of type <code>(String)String</code> evaluating the chain, or <code>null</code> if the chain is
+     *         evaluated call by call
+     */
+    MethodHandle fuse(List<Method> methods, List<Object[]> constants, List<MethodHandle> calls);
+}
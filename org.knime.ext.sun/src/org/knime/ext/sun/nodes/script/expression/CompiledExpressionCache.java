@@ -0,0 +1,271 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.sun.nodes.script.expression;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.sun.nodes.script.compile.CompilationFailedException;
+
+/**
+ * JVM-wide cache of compiled expression classes. Workflows often contain many String Manipulation or Java
+ * expression nodes with the very same expression (e.g. <code>lowerCase($name$)</code>); these share a single
+ * compiled class instead of each running the compiler and creating a class loader of its own.
+ *
+ * <p>
+ * Entries are keyed by the normalized source of the expression class (the source generated with a fixed class
+ * name, which covers fields, return type, imports and body) along with the additional class path. Every
+ * {@link Expression} holds a reference to its entry, which it releases when it is closed, i.e. when the owning
+ * settings are {@link org.knime.ext.sun.nodes.script.settings.JavaScriptingSettings#discard() discarded}. Entries
+ * that are no longer referenced are kept for later reuse, up to {@link #MAX_IDLE_ENTRIES}; beyond that the least
+ * recently used one is disposed. Expressions whose header declares static members are not shared, as their
+ * state would otherwise leak between nodes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class CompiledExpressionCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CompiledExpressionCache.class);
+
+    /** Maximum number of unreferenced compiled classes kept for reuse. */
+    static final int MAX_IDLE_ENTRIES = 64;
+
+    private static final Object LOCK = new Object();
+
+    /** All entries, including the ones being compiled. Guarded by {@link #LOCK}. */
+    private static final Map<String, Entry> ENTRIES = new HashMap<>();
+
+    /** The unreferenced entries, least recently released first. Guarded by {@link #LOCK}. */
+    private static final LinkedHashMap<String, Entry> IDLE = new LinkedHashMap<>();
+
+    private CompiledExpressionCache() {
+    }
+
+    /** Compiles the class of an entry on a cache miss. */
+    interface ClassCompiler {
+        /**
+         * @return the compiled class
+         * @throws CompilationFailedException if the compilation fails
+         */
+        CompiledClass compile() throws CompilationFailedException;
+    }
+
+    /** A compiled expression class along with the resources it needs. */
+    static final class CompiledClass {
+        private final Class<? extends AbstractSnippetExpression> m_class;
+
+        private final URLClassLoader m_classLoader;
+
+        /**
+         * @param clazz the loaded class
+         * @param classLoader the class loader it was loaded with
+         */
+        CompiledClass(final Class<? extends AbstractSnippetExpression> clazz, final URLClassLoader classLoader) {
+            m_class = clazz;
+            m_classLoader = classLoader;
+        }
+
+        /** @return the compiled class */
+        Class<? extends AbstractSnippetExpression> getExpressionClass() {
+            return m_class;
+        }
+
+        private void dispose() {
+            try {
+                m_classLoader.close();
+            } catch (IOException e) {
+                LOGGER.debug("Unable to close class loader of expression " + m_class.getName(), e);
+            }
+        }
+    }
+
+    /** A cache entry, referenced by the expressions using it. */
+    static final class Entry {
+        private final String m_key;
+
+        /** Guarded by {@link CompiledExpressionCache#LOCK}. */
+        private int m_refCount;
+
+        /** Set once the compilation has finished, guarded by this. */
+        private CompiledClass m_compiled;
+
+        private CompilationFailedException m_failure;
+
+        private Entry(final String key) {
+            m_key = key;
+        }
+
+        private synchronized void finish(final CompiledClass compiled, final CompilationFailedException failure) {
+            m_compiled = compiled;
+            m_failure = failure;
+            notifyAll();
+        }
+
+        private synchronized CompiledClass await() throws CompilationFailedException {
+            boolean interrupted = false;
+            while (m_compiled == null && m_failure == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (m_failure != null) {
+                throw new CompilationFailedException(m_failure.getMessage(), m_failure);
+            }
+            return m_compiled;
+        }
+
+        /** @return the compiled class, only valid after {@link CompiledExpressionCache#acquire} returned */
+        synchronized Class<? extends AbstractSnippetExpression> getExpressionClass() {
+            return m_compiled.getExpressionClass();
+        }
+    }
+
+    /**
+     * Get the entry for the given key, compiling the class if it is not cached yet. Concurrent requests for the same
+     * key wait for a single compilation. The returned entry must be {@link #release(Entry) released} when it is no
+     * longer used.
+     *
+     * @param key the normalized source and class path of the expression, <code>null</code> if the class must not be
+     *            shared; it is then disposed as soon as it is released
+     * @param compiler compiles the class on a cache miss
+     * @return the referenced entry
+     * @throws CompilationFailedException if the compilation fails
+     */
+    static Entry acquire(final String key, final ClassCompiler compiler) throws CompilationFailedException {
+        if (key == null) {
+            final Entry entry = new Entry(null);
+            entry.m_refCount = 1;
+            entry.finish(compiler.compile(), null);
+            return entry;
+        }
+        final Entry entry;
+        final boolean isOwner;
+        synchronized (LOCK) {
+            Entry existing = ENTRIES.get(key);
+            isOwner = existing == null;
+            if (isOwner) {
+                existing = new Entry(key);
+                ENTRIES.put(key, existing);
+            }
+            existing.m_refCount++;
+            IDLE.remove(key);
+            entry = existing;
+        }
+        if (isOwner) {
+            CompiledClass compiled = null;
+            try {
+                compiled = compiler.compile();
+            } catch (CompilationFailedException | RuntimeException | Error e) {
+                synchronized (LOCK) {
+                    ENTRIES.remove(key, entry);
+                }
+                entry.finish(null, e instanceof CompilationFailedException ? (CompilationFailedException)e
+                    : new CompilationFailedException("Unable to compile expression", e));
+                throw e;
+            }
+            entry.finish(compiled, null);
+            return entry;
+        }
+        try {
+            entry.await();
+        } catch (CompilationFailedException e) {
+            synchronized (LOCK) {
+                entry.m_refCount--;
+            }
+            throw e;
+        }
+        return entry;
+    }
+
+    /**
+     * Release a reference obtained by {@link #acquire(String, ClassCompiler)}.
+     *
+     * @param entry the entry to release
+     */
+    static void release(final Entry entry) {
+        final List<Entry> evicted = new ArrayList<>();
+        synchronized (LOCK) {
+            entry.m_refCount--;
+            if (entry.m_refCount > 0) {
+                return;
+            }
+            if (entry.m_key == null || ENTRIES.get(entry.m_key) != entry) {
+                // not shared (or failed to compile)
+                evicted.add(entry);
+            } else {
+                IDLE.put(entry.m_key, entry);
+                final Iterator<Entry> it = IDLE.values().iterator();
+                while (IDLE.size() > MAX_IDLE_ENTRIES && it.hasNext()) {
+                    final Entry eldest = it.next();
+                    it.remove();
+                    ENTRIES.remove(eldest.m_key);
+                    evicted.add(eldest);
+                }
+            }
+        }
+        for (Entry e : evicted) {
+            synchronized (e) {
+                if (e.m_compiled != null) {
+                    e.m_compiled.dispose();
+                }
+            }
+        }
+    }
+}
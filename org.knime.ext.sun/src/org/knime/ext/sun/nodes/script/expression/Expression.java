@@ -46,29 +46,18 @@
 package org.knime.ext.sun.nodes.script.expression;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.StreamTokenizer;
 import java.io.StringReader;
 import java.net.URLClassLoader;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import javax.tools.JavaFileObject.Kind;
-
-import org.eclipse.jdt.internal.compiler.tool.EclipseFileObject;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.node.InvalidSettingsException;
-import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
-import org.knime.core.util.FileUtil;
 import org.knime.ext.sun.nodes.script.compile.CompilationFailedException;
 import org.knime.ext.sun.nodes.script.compile.JavaCodeCompiler;
 import org.knime.ext.sun.nodes.script.compile.JavaCodeCompiler.JavaVersion;
@@ -119,14 +108,14 @@ public enum FieldType {
     /** An unique id to ensure uniqueness of class names (per vm). */
     private static final AtomicInteger COUNTER = new AtomicInteger();
 
+    /** The class name used in the source that serves as key of the {@link CompiledExpressionCache}. */
+    private static final String CACHE_KEY_CLASS_NAME = "Expression";
+
     /** These imports are put in the import section of the source file. */
     private static final String[] DEFAULT_IMPORTS =
         new String[]{"java.text.*", "java.util.*", "java.io.*",
                      "java.net.*", "java.util.regex.*"};
 
-    /** Contains the class files of {@link #REQUIRED_COMPILATION_UNITS}. */
-    private static File tempClassPath;
-
     /** The list of classes that are required for compilation/execution (the
      * abstract super class). */
     private static final Class<?>[] REQUIRED_COMPILATION_UNITS = new Class[] {
@@ -139,14 +128,17 @@ public enum FieldType {
      */
     private final Map<InputField, ExpressionField> m_fieldMap;
 
-    /** The folder containing the generated .class files --- the class loader is pointed at it. */
-    private final File m_instanceTempFolder;
-
-    /** The compiled class for the instance of the expression. */
+    /** The compiled class for the instance of the expression, <code>null</code> if interpreted. */
     private final Class<? extends AbstractSnippetExpression> m_abstractExpression;
 
-    /** The class loader of the auto-generated {@link AbstractSnippetExpression}. Needs to be {@link #close() closed} */
-    private final URLClassLoader m_abstractExpressionClassLoader;
+    /** The shared compiled class of the expression, released on {@link #close()}, <code>null</code> if interpreted. */
+    private final CompiledExpressionCache.Entry m_compiled;
+
+    /** The expression if it does not need to be compiled, see {@link InterpretedExpression}. */
+    private final InterpretedExpression m_interpreted;
+
+    /** Whether {@link #close()} has been called. */
+    private boolean m_isClosed;
 
     /**
      * Constructor for an expression with fields.
@@ -167,58 +159,73 @@ private Expression(final String body, final Map<InputField, ExpressionField> fie
         int version = settings.getExpressionVersion();
         boolean isArrayReturn = settings.isArrayReturn();
         String header = settings.getHeader();
-        String source;
-        String name = "Expression" + COUNTER.getAndIncrement();
         String[] imports = null != settings.getImports()
                 ? settings.getImports()
                 : getDefaultImports();
+        File[] additionalJarFiles;
+        try {
+            additionalJarFiles = settings.getJarFilesAsFiles();
+        } catch (InvalidSettingsException e1) {
+            throw new CompilationFailedException(e1.getMessage(), e1);
+        }
+        // simple expressions (nested calls of static methods) are not compiled, unless a header may contain state
+        m_interpreted = version == VERSION_2X && (header == null || header.trim().isEmpty())
+            ? InterpretedExpression.parse(body, fieldMap, imports, settings.isStaticImportsPure(),
+                settings.getCallFusion(), rType, isArrayReturn, additionalJarFiles) : null;
+        if (m_interpreted != null) {
+            m_compiled = null;
+            m_abstractExpression = null;
+            return;
+        }
+        // the source with a fixed class name identifies the class, along with the class path
+        StringBuilder key = new StringBuilder(
+            generateSource(CACHE_KEY_CLASS_NAME, body, header, rType, imports, version, isArrayReturn));
+        for (File jar : additionalJarFiles) {
+            key.append('\n').append(jar.getAbsolutePath()).append('|').append(jar.length())
+                .append('|').append(jar.lastModified());
+        }
+        // static members in the header would be shared between all nodes using the class
+        boolean isShareable = header == null || !header.contains("static");
+        m_compiled = CompiledExpressionCache.acquire(isShareable ? key.toString() : null, () -> {
+            String name = "Expression" + COUNTER.getAndIncrement();
+            String source = generateSource(name, body, header, rType, imports, version, isArrayReturn);
+            return compileClass(name, source, additionalJarFiles);
+        });
+        m_abstractExpression = m_compiled.getExpressionClass();
+    }
+
+    private String generateSource(final String name, final String body, final String header,
+        final Class<?> rType, final String[] imports, final int version, final boolean isArrayReturn)
+        throws CompilationFailedException {
         // Generate the well known source of the Expression
         switch (version) {
         case VERSION_1X:
-            source = generateSourceVersion1(name, body, rType, imports);
-            break;
+            return generateSourceVersion1(name, body, rType, imports);
         case VERSION_2X:
-            source = generateSourceVersion2(
+            return generateSourceVersion2(
                     name, body, header, rType, imports, isArrayReturn);
-            break;
         default:
             throw new CompilationFailedException(
                     "Unknown snippet version number: " + version);
         }
-        try {
-            ensureStaticTempClassPathExists();
-            m_instanceTempFolder = FileUtil.createTempDir(name.toLowerCase());
-        } catch (IOException e1) {
-            throw new CompilationFailedException("Unable to copy required class path files", e1);
-        }
-        File[] additionalJarFiles;
-        try {
-            additionalJarFiles = settings.getJarFilesAsFiles();
-        } catch (InvalidSettingsException e1) {
-            throw new CompilationFailedException(e1.getMessage(), e1);
-        }
-        File[] classPathFiles = new File[additionalJarFiles.length + 1];
-        classPathFiles[0] = tempClassPath;
-        System.arraycopy(additionalJarFiles, 0,
-                classPathFiles, 1, additionalJarFiles.length);
+    }
 
-        File instanceTempFile = new File(m_instanceTempFolder, name.concat(".java"));
-        try {
-            Files.write(instanceTempFile.toPath(), Collections.singleton(source));
-        } catch (IOException e) {
-            throw new CompilationFailedException(
-                "Unable to write expression source to temp file \"" + instanceTempFile.getAbsolutePath() + "\"", e);
-        }
-        JavaCodeCompiler compiler = new JavaCodeCompiler(JavaVersion.JAVA_8, m_instanceTempFolder);
-        EclipseFileObject snippetFile =
-            new EclipseFileObject(name, instanceTempFile.toURI(), Kind.SOURCE, StandardCharsets.UTF_8);
-        compiler.setSources(snippetFile);
-        compiler.setClasspaths(classPathFiles);
+    /**
+     * Compiles the source in memory and loads the class. The required compilation units are read from the bundle
+     * class loader, which is also the parent of the class loader of the compiled class.
+     */
+    @SuppressWarnings("unchecked")
+    private static CompiledExpressionCache.CompiledClass compileClass(final String name, final String source,
+        final File[] additionalJarFiles) throws CompilationFailedException {
+        JavaCodeCompiler compiler = new JavaCodeCompiler(JavaVersion.JAVA_8, null);
+        compiler.setSources(JavaCodeCompiler.createSourceFile(name, source));
+        compiler.setClasspaths(additionalJarFiles);
+        compiler.setSupportClasses(REQUIRED_COMPILATION_UNITS);
         compiler.compile();
-        m_abstractExpressionClassLoader = compiler.createClassLoader(compiler.getClass().getClassLoader());
+        URLClassLoader classLoader = compiler.createClassLoader(compiler.getClass().getClassLoader());
         try {
-            m_abstractExpression =
-                    (Class<? extends AbstractSnippetExpression>)m_abstractExpressionClassLoader.loadClass(name);
+            return new CompiledExpressionCache.CompiledClass(
+                (Class<? extends AbstractSnippetExpression>)classLoader.loadClass(name), classLoader);
         } catch (ClassNotFoundException e) {
             throw new CompilationFailedException("Could not load generated class", e);
         }
@@ -241,6 +248,9 @@ public static String[] getDefaultImports() {
      *             instantiated
      */
     public ExpressionInstance getInstance() throws InstantiationException {
+        if (m_interpreted != null) {
+            return new ExpressionInstance(m_interpreted.newInstance(), m_fieldMap);
+        }
         try {
             return new ExpressionInstance(m_abstractExpression.newInstance(), m_fieldMap);
         } catch (IllegalAccessException iae) {
@@ -249,6 +259,18 @@ public ExpressionInstance getInstance() throws InstantiationException {
         }
     }
 
+    /**
+     * Whether the expression is evaluated without compiling it. This is the case for simple expressions of the
+     * current version without header, i.e. nested calls of statically imported methods. Interpreted and compiled
+     * expressions give the same results.
+     *
+     * @return <code>true</code> if the expression is interpreted
+     * @since 4.3
+     */
+    public boolean isInterpreted() {
+        return m_interpreted != null;
+    }
+
     /**
      * @return the fieldMap
      */
@@ -392,42 +414,11 @@ private String generateSourceVersion2(final String name, final String body,
     }
 
     /**
-     * @throws IOException
-     */
-    private static synchronized void ensureStaticTempClassPathExists()
-        throws IOException {
-        // the temp directory may get deleted under Linux if it has not been
-        // accessed for some time, see bug #3319
-        if ((tempClassPath == null) || !tempClassPath.isDirectory()) {
-            File tempClassPathDir =
-                FileUtil.createTempDir("knime_javasnippet", new File(KNIMEConstants.getKNIMETempDir()));
-            for (Class<?> cl : REQUIRED_COMPILATION_UNITS) {
-                Package pack = cl.getPackage();
-                File childDir = tempClassPathDir;
-                for (String subDir : pack.getName().split("\\.")) {
-                    childDir = new File(childDir, subDir);
-                }
-                if (!childDir.isDirectory() && !childDir.mkdirs()) {
-                    throw new IOException("Could not create temporary directory for Java Snippet class files: "
-                        + childDir.getAbsolutePath());
-                }
-                String className = cl.getSimpleName();
-                className = className.concat(".class");
-                File classFile = new File(childDir, className);
-                ClassLoader loader = cl.getClassLoader();
-                try (InputStream inStream = loader.getResourceAsStream(cl.getName().replace('.', '/') + ".class");
-                        OutputStream outStream = new FileOutputStream(classFile)) {
-                    FileUtil.copy(inStream, outStream);
-                }
-            }
-            tempClassPath = tempClassPathDir;
-        }
-    }
-
-    /**
-     * Get name of the field as it is used in the temp-java file.
+     * Get name of the field as it is used in the temp-java file. Columns are numbered in the order of their first
+     * reference in the expression, not by their position in the input table, so that the generated class does not
+     * change when unrelated columns are added or moved.
      *
-     * @param col the number of the column
+     * @param col the number of the column reference
      * @return "col" + col
      */
     public static String createColField(final int col) {
@@ -473,6 +464,7 @@ public static Expression compile(final JavaScriptingSettings settings,
         t.quoteChar('$');
         int tokType;
         int variableIndex = 0;
+        int columnIndex = 0;
         boolean isNextTokenSpecial = false;
         try {
             while ((tokType = t.nextToken()) != StreamTokenizer.TT_EOF) {
@@ -585,7 +577,14 @@ public static Expression compile(final JavaScriptingSettings settings,
                         }
                         inputFieldName = s;
                         inputFieldType = FieldType.Column;
-                        expFieldName = createColField(colIndex);
+                        ExpressionField oldExpressionField =
+                            nameValueMap.get(new InputField(inputFieldName, inputFieldType));
+                        if (oldExpressionField != null) {
+                            expFieldName =
+                                oldExpressionField.getExpressionFieldName();
+                        } else {
+                            expFieldName = createColField(columnIndex++);
+                        }
                         DataType colType =
                             spec.getColumnSpec(colIndex).getType();
                         correctedExp.append(getJavaFieldName(expFieldName));
@@ -636,10 +635,24 @@ public boolean usesRowIndex() {
         return m_fieldMap.keySet().stream().anyMatch(f -> ROWINDEX.equals(f.getColOrVarName()));
     }
 
+    /**
+     * Releases the compiled class, which is shared with other expressions of the same source, or the class loader of
+     * an interpreted expression. Subsequent calls have no effect.
+     */
     @Override
     public void close() throws IOException {
-        m_abstractExpressionClassLoader.close();
-        FileUtil.deleteRecursively(m_instanceTempFolder);
+        synchronized (this) {
+            if (m_isClosed) {
+                return;
+            }
+            m_isClosed = true;
+        }
+        if (m_compiled != null) {
+            CompiledExpressionCache.release(m_compiled);
+        }
+        if (m_interpreted != null) {
+            m_interpreted.close();
+        }
     }
 
     /** Object that pairs the name of the field used in the temporarily created
@@ -45,7 +45,11 @@
  */
 package org.knime.ext.sun.nodes.script.expression;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.knime.ext.sun.nodes.script.expression.Expression.ExpressionField;
@@ -62,6 +66,9 @@ public final class ExpressionInstance {
 
     private final AbstractSnippetExpression m_abstractExpression;
 
+    /** The setters of the fields, resolved on first access. */
+    private final Map<InputField, FieldSetter> m_setters = new HashMap<>();
+
     /**
      * Creates new expression instance wrapping a compiled object with that has
      * fields according to the properties argument.
@@ -135,38 +142,89 @@ public final void set(final Map<InputField, Object> property2ValueMap)
                     // null represents missing value
                 }
             }
-            if (value != null
-                    && !expressionField.getFieldClass().isInstance(value)) {
-                throw new IllegalPropertyException(
-                        "Type for field \"" + field + "\" not matched: got "
-                        + value.getClass().getName() + " but expected "
-                        + expressionField.getFieldClass().getName());
-            }
-            setField(expressionField.getFieldNameInJava(), value);
+            getFieldSetter(field, expressionField).set(value);
         }
     }
 
-    /*
-     * Sets a field on m_compiled using reflection.
+    /**
+     * Get a setter for the field of the given input. The field is looked up only once, callers that evaluate the
+     * expression for many rows should keep the setter and use it instead of {@link #set(Map)}.
+     *
+     * @param field the input field
+     * @return the setter or <code>null</code> if the field is not used by the expression
+     * @throws IllegalPropertyException if the field cannot be accessed
+     * @since 4.3
      */
-    private void setField(final String property, final Object value)
+    public FieldSetter getFieldSetter(final InputField field) throws IllegalPropertyException {
+        ExpressionField expressionField = m_fieldMap.get(field);
+        return expressionField == null ? null : getFieldSetter(field, expressionField);
+    }
+
+    private FieldSetter getFieldSetter(final InputField field, final ExpressionField expressionField)
             throws IllegalPropertyException {
-        String fieldType = "<UNKNOWN>";
-        try {
-            Class<?> type = m_abstractExpression.getClass();
-            Field f = type.getDeclaredField(property);
-            fieldType = f.getType().getName();
-            f.set(m_abstractExpression, value);
-        } catch (NoSuchFieldException e) {
-            throw new IllegalPropertyException("Unknown Field: " + property, e);
-        } catch (IllegalAccessException e) {
-            throw new IllegalPropertyException("Field couldn't be accessed: "
-                    + property, e);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalPropertyException("Field type " + fieldType
-                    + " doesn't match value type "
-                    + value != null ? value.getClass().getName() : "<null>"
-                    + ".", e);
+        FieldSetter setter = m_setters.get(field);
+        if (setter == null) {
+            String property = expressionField.getFieldNameInJava();
+            try {
+                MethodHandle handle;
+                if (m_abstractExpression instanceof InterpretedExpression.Instance) {
+                    handle = ((InterpretedExpression.Instance)m_abstractExpression).getSetter(property);
+                    if (handle == null) {
+                        throw new NoSuchFieldException(property);
+                    }
+                } else {
+                    Field f = m_abstractExpression.getClass().getDeclaredField(property);
+                    handle = MethodHandles.lookup().unreflectSetter(f).bindTo(m_abstractExpression)
+                        .asType(MethodType.methodType(void.class, Object.class));
+                }
+                setter = new FieldSetter(field, expressionField.getFieldClass(), handle);
+            } catch (NoSuchFieldException e) {
+                throw new IllegalPropertyException("Unknown Field: " + property, e);
+            } catch (IllegalAccessException e) {
+                throw new IllegalPropertyException("Field couldn't be accessed: "
+                        + property, e);
+            }
+            m_setters.put(field, setter);
+        }
+        return setter;
+    }
+
+    /**
+     * Sets the value of a single field of the expression instance it was created by.
+     *
+     * @since 4.3
+     */
+    public static final class FieldSetter {
+        private final InputField m_field;
+
+        private final Class<?> m_fieldClass;
+
+        private final MethodHandle m_setter;
+
+        private FieldSetter(final InputField field, final Class<?> fieldClass, final MethodHandle setter) {
+            m_field = field;
+            m_fieldClass = fieldClass;
+            m_setter = setter;
+        }
+
+        /**
+         * Sets the field value.
+         *
+         * @param value the value, <code>null</code> represents a missing value
+         * @throws IllegalPropertyException if the value is incompatible
+         */
+        public void set(final Object value) throws IllegalPropertyException {
+            if (value != null && !m_fieldClass.isInstance(value)) {
+                throw new IllegalPropertyException(
+                        "Type for field \"" + m_field + "\" not matched: got "
+                        + value.getClass().getName() + " but expected "
+                        + m_fieldClass.getName());
+            }
+            try {
+                m_setter.invokeExact(value);
+            } catch (Throwable t) {
+                throw new IllegalPropertyException("Field couldn't be set: " + m_field, t);
+            }
         }
     }
 }
@@ -0,0 +1,1137 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.sun.nodes.script.expression;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.ext.sun.nodes.script.expression.Expression.ExpressionField;
+import org.knime.ext.sun.nodes.script.expression.Expression.InputField;
+
+/**
+ * An expression that is evaluated without compiling it. Only the most common form of expressions is supported:
+ * <code>return f(...);</code> where the arguments are again calls of statically imported methods, fields (i.e.
+ * columns, flow variables or table constants) or literals, e.g. <code>return join(upperCase($a$), "-", $b$);</code>.
+ * Such an expression is parsed into a single {@link MethodHandle}, which avoids running the compiler on configure
+ * and on the first row. For everything else
+ * {@link #parse(String, Map, String[], boolean, CallFusion, Class, boolean, File[])} returns <code>null</code> and the
+ * expression needs to be compiled.
+ *
+ * <p>
+ * If the statically imported methods are declared pure, calls with constant arguments are evaluated once while
+ * parsing, and calls that occur more than once with the same arguments are evaluated once per row. Chains of nested
+ * calls can then also be replaced by a single handle of a {@link CallFusion}.
+ *
+ * <p>
+ * Overloaded methods are resolved in the three phases of the Java language (without boxing, with boxing, with
+ * variable arity). If there is no single most specific method, the expression is left to the compiler, which will
+ * then report the ambiguity.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class InterpretedExpression {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(InterpretedExpression.class);
+
+    /** Maximum number of unreferenced class loaders kept for reuse. */
+    static final int MAX_IDLE_CLASS_LOADERS = 8;
+
+    /**
+     * Class loaders for the static imports, keyed by the jar files they load from. Each interpreted expression
+     * holds a reference to its loader, which it releases when it is closed. Guarded by the class.
+     */
+    private static final Map<String, ClassLoaderEntry> CLASS_LOADERS = new HashMap<>();
+
+    /** The unreferenced class loaders, least recently released first. Guarded by the class. */
+    private static final LinkedHashMap<String, ClassLoaderEntry> IDLE_CLASS_LOADERS = new LinkedHashMap<>();
+
+    /** Type of the handle of each node in the expression tree, the argument holds the field values. */
+    private static final Class<?>[] VALUES = {Object[].class};
+
+    /** The value of an intermediate slot that has not been computed for the current row. */
+    private static final Object UNSET = new Object();
+
+    private static final MethodHandle IS_UNSET;
+
+    private static final MethodHandle STORE;
+
+    private static final MethodHandle RESET;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            IS_UNSET = lookup.findStatic(InterpretedExpression.class, "isUnset",
+                MethodType.methodType(boolean.class, Object[].class, int.class));
+            STORE = lookup.findStatic(InterpretedExpression.class, "store",
+                MethodType.methodType(Object.class, Object[].class, int.class, Object.class));
+            RESET = lookup.findStatic(InterpretedExpression.class, "reset",
+                MethodType.methodType(void.class, Object[].class, int.class, int.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandle m_handle;
+
+    /** The slots of the fields by their java name. */
+    private final Map<String, Integer> m_slots;
+
+    /** The number of slots, i.e. fields and intermediate results. */
+    private final int m_nrSlots;
+
+    /** The loader of the statically imported classes, <code>null</code> if they are loaded by the bundle. */
+    private final ClassLoaderEntry m_classLoader;
+
+    private InterpretedExpression(final MethodHandle handle, final Map<String, Integer> slots, final int nrSlots,
+        final ClassLoaderEntry classLoader) {
+        m_handle = handle;
+        m_slots = slots;
+        m_nrSlots = nrSlots;
+        m_classLoader = classLoader;
+    }
+
+    /** @return a new instance to evaluate the expression with its own field values */
+    AbstractSnippetExpression newInstance() {
+        return new Instance(m_handle, m_slots, m_nrSlots);
+    }
+
+    /** Releases the class loader of the statically imported classes, must be called once. */
+    void close() {
+        if (m_classLoader != null) {
+            releaseClassLoader(m_classLoader);
+        }
+    }
+
+    /**
+     * Tries to parse the body of an expression.
+     *
+     * @param body the body as passed to the compiler, i.e. with fields already replaced by their java names
+     * @param fieldMap the fields of the expression
+     * @param imports the imports, only static imports are considered
+     * @param isPure whether the statically imported methods are free of side effects and deterministic
+     * @param fusion the fusion of call chains, only used if the methods are pure, may be <code>null</code>
+     * @param rType the return type of the expression
+     * @param isArrayReturn whether an array of the return type is returned
+     * @param jarFiles the class path to load the statically imported classes from
+     * @return the parsed expression or <code>null</code> if it needs to be compiled
+     */
+    static InterpretedExpression parse(final String body, final Map<InputField, ExpressionField> fieldMap,
+        final String[] imports, final boolean isPure, final CallFusion fusion, final Class<?> rType,
+        final boolean isArrayReturn, final File[] jarFiles) {
+        final StaticImports staticImports = new StaticImports(jarFiles);
+        try {
+            final Map<String, Integer> slots = new HashMap<>();
+            final Map<String, Class<?>> fieldTypes = new HashMap<>();
+            for (ExpressionField f : fieldMap.values()) {
+                slots.put(f.getFieldNameInJava(), slots.size());
+                fieldTypes.put(f.getFieldNameInJava(), f.getFieldClass());
+            }
+            staticImports.load(imports);
+            final Parser parser = new Parser(body, slots, fieldTypes, staticImports);
+            Node node = parser.parseReturnStatement();
+            final Class<?> declaredType = isArrayReturn ? java.lang.reflect.Array.newInstance(rType, 0).getClass()
+                : rType;
+            if (node.m_type != null && !declaredType.isAssignableFrom(box(node.m_type))) {
+                staticImports.close();
+                return null;
+            }
+            MethodHandle handle;
+            int nrSlots = slots.size();
+            if (isPure) {
+                final Optimizer optimizer = new Optimizer(nrSlots, fusion);
+                node = optimizer.optimize(node);
+                handle = optimizer.resetIntermediates(node.toHandle());
+                nrSlots = optimizer.m_nrSlots;
+            } else {
+                handle = node.toHandle();
+            }
+            return new InterpretedExpression(handle.asType(MethodType.methodType(Object.class, VALUES)),
+                Collections.unmodifiableMap(slots), nrSlots, staticImports.m_classLoader);
+        } catch (UnsupportedExpressionException e) {
+            staticImports.close();
+            LOGGER.debug("Expression is compiled: " + e.getMessage());
+            return null;
+        } catch (RuntimeException | Error e) {
+            staticImports.close();
+            throw e;
+        }
+    }
+
+    private static boolean isUnset(final Object[] values, final int slot) {
+        return values[slot] == UNSET;
+    }
+
+    private static Object store(final Object[] values, final int slot, final Object value) {
+        values[slot] = value;
+        return value;
+    }
+
+    private static void reset(final Object[] values, final int from, final int to) {
+        Arrays.fill(values, from, to, UNSET);
+    }
+
+    /** A shared class loader of the statically imported classes. */
+    private static final class ClassLoaderEntry {
+        private final String m_key;
+
+        private final URLClassLoader m_loader;
+
+        /** Guarded by {@link InterpretedExpression}. */
+        private int m_refCount;
+
+        private ClassLoaderEntry(final String key, final URLClassLoader loader) {
+            m_key = key;
+            m_loader = loader;
+        }
+    }
+
+    /**
+     * Get the class loader for the given jar files. The returned entry must be released by
+     * {@link #releaseClassLoader(ClassLoaderEntry)} when it is no longer used.
+     */
+    private static synchronized ClassLoaderEntry acquireClassLoader(final File[] jarFiles)
+        throws UnsupportedExpressionException {
+        final StringBuilder key = new StringBuilder();
+        for (File jar : jarFiles) {
+            key.append(jar.getAbsolutePath()).append('|').append(jar.length()).append('|')
+                .append(jar.lastModified()).append('\n');
+        }
+        ClassLoaderEntry entry = CLASS_LOADERS.get(key.toString());
+        if (entry == null) {
+            final URL[] urls = new URL[jarFiles.length];
+            for (int i = 0; i < jarFiles.length; i++) {
+                try {
+                    urls[i] = jarFiles[i].toURI().toURL();
+                } catch (MalformedURLException e) {
+                    throw new UnsupportedExpressionException("invalid class path entry " + jarFiles[i]);
+                }
+            }
+            // same parent as the class loaders of compiled expressions
+            entry = new ClassLoaderEntry(key.toString(),
+                URLClassLoader.newInstance(urls, Expression.class.getClassLoader()));
+            CLASS_LOADERS.put(entry.m_key, entry);
+        }
+        entry.m_refCount++;
+        IDLE_CLASS_LOADERS.remove(entry.m_key);
+        return entry;
+    }
+
+    /**
+     * Release a class loader obtained by {@link #acquireClassLoader(File[])}. Unreferenced loaders are kept for
+     * reuse up to {@link #MAX_IDLE_CLASS_LOADERS}; beyond that the least recently released one is closed.
+     */
+    private static void releaseClassLoader(final ClassLoaderEntry entry) {
+        final List<ClassLoaderEntry> evicted = new ArrayList<>();
+        synchronized (InterpretedExpression.class) {
+            entry.m_refCount--;
+            if (entry.m_refCount > 0) {
+                return;
+            }
+            IDLE_CLASS_LOADERS.put(entry.m_key, entry);
+            final Iterator<ClassLoaderEntry> it = IDLE_CLASS_LOADERS.values().iterator();
+            while (IDLE_CLASS_LOADERS.size() > MAX_IDLE_CLASS_LOADERS && it.hasNext()) {
+                final ClassLoaderEntry eldest = it.next();
+                it.remove();
+                CLASS_LOADERS.remove(eldest.m_key);
+                evicted.add(eldest);
+            }
+        }
+        for (ClassLoaderEntry e : evicted) {
+            try {
+                e.m_loader.close();
+            } catch (IOException ex) {
+                LOGGER.debug("Unable to close class loader of static imports", ex);
+            }
+        }
+    }
+
+    /** An instance holding the field values. */
+    static final class Instance extends AbstractSnippetExpression {
+        private final MethodHandle m_handle;
+
+        private final Map<String, Integer> m_slots;
+
+        private final Object[] m_values;
+
+        private Instance(final MethodHandle handle, final Map<String, Integer> slots, final int nrSlots) {
+            m_handle = handle;
+            m_slots = slots;
+            m_values = new Object[nrSlots];
+        }
+
+        /**
+         * @param javaFieldName the name of the field in java
+         * @return a handle of type <code>(Object)void</code> setting the value of the field or <code>null</code> if
+         *         the field does not exist
+         */
+        MethodHandle getSetter(final String javaFieldName) {
+            final Integer slot = m_slots.get(javaFieldName);
+            if (slot == null) {
+                return null;
+            }
+            return MethodHandles.insertArguments(
+                MethodHandles.arrayElementSetter(Object[].class).bindTo(m_values), 0, slot.intValue());
+        }
+
+        @Override
+        public Object internalEvaluate() throws Abort {
+            try {
+                return m_handle.invokeExact(m_values);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // methods declaring checked exceptions are not interpreted
+                throw new UndeclaredThrowableException(t);
+            }
+        }
+    }
+
+    /** Thrown while parsing if the expression needs to be compiled. */
+    private static final class UnsupportedExpressionException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedExpressionException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /** A parsed sub-expression, <code>m_type</code> is <code>null</code> for the <code>null</code> literal. */
+    private abstract static class Node {
+        final Class<?> m_type;
+
+        Node(final Class<?> type) {
+            m_type = type;
+        }
+
+        /** @return a handle of type <code>(Object[])m_type</code> evaluating the node for the given slot values */
+        abstract MethodHandle toHandle();
+
+        /** @return a string that is equal for nodes which evaluate to the same value for each row */
+        abstract String getKey();
+
+        static Node constant(final Class<?> type, final Object value) {
+            return new Constant(type, value);
+        }
+    }
+
+    /** A literal or the result of a call with constant arguments. */
+    private static final class Constant extends Node {
+        private final Object m_value;
+
+        Constant(final Class<?> type, final Object value) {
+            super(type);
+            m_value = value;
+        }
+
+        @Override
+        MethodHandle toHandle() {
+            final Class<?> handleType = m_type == null ? Object.class : m_type;
+            return MethodHandles.dropArguments(MethodHandles.constant(handleType, m_value), 0, VALUES);
+        }
+
+        @Override
+        String getKey() {
+            final String value = String.valueOf(m_value);
+            return (m_type == null ? "null" : m_type.getName()) + ':' + value.length() + ':' + value;
+        }
+    }
+
+    /** The value of a field or of an intermediate result. */
+    private static final class Slot extends Node {
+        private final int m_slot;
+
+        Slot(final int slot, final Class<?> type) {
+            super(type);
+            m_slot = slot;
+        }
+
+        @Override
+        MethodHandle toHandle() {
+            final MethodHandle getter =
+                MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, m_slot);
+            return getter.asType(MethodType.methodType(m_type, VALUES));
+        }
+
+        @Override
+        String getKey() {
+            return "#" + m_slot;
+        }
+    }
+
+    /** The call of a static method or of a fused chain of calls. */
+    private static final class Call extends Node {
+        /** Identifies the target in the key of the call. */
+        private final String m_name;
+
+        /** The called method, <code>null</code> for a fused chain. */
+        private final Method m_method;
+
+        /** The method handle taking one parameter per argument, i.e. with variable arity already collected. */
+        private final MethodHandle m_target;
+
+        private final List<Node> m_args;
+
+        Call(final Method method, final MethodHandle target, final List<Node> args) {
+            this(method.getReturnType(), method.toString(), method, target, args);
+        }
+
+        private Call(final Class<?> type, final String name, final Method method, final MethodHandle target,
+            final List<Node> args) {
+            super(type);
+            m_name = name;
+            m_method = method;
+            m_target = target;
+            m_args = args;
+        }
+
+        /** @return a call of the same target with other arguments */
+        Call withArgs(final List<Node> args) {
+            return new Call(m_type, m_name, m_method, m_target, args);
+        }
+
+        @Override
+        MethodHandle toHandle() {
+            final MethodType type = m_target.type();
+            if (m_args.isEmpty()) {
+                return MethodHandles.dropArguments(m_target, 0, VALUES);
+            }
+            final MethodHandle[] filters = new MethodHandle[m_args.size()];
+            for (int i = 0; i < filters.length; i++) {
+                filters[i] = m_args.get(i).toHandle().asType(MethodType.methodType(type.parameterType(i), VALUES));
+            }
+            // all arguments read from the same slot values
+            return MethodHandles.permuteArguments(MethodHandles.filterArguments(m_target, 0, filters),
+                MethodType.methodType(type.returnType(), VALUES), new int[filters.length]);
+        }
+
+        @Override
+        String getKey() {
+            final StringBuilder b = new StringBuilder(m_name).append('(');
+            for (Node arg : m_args) {
+                b.append(arg.getKey()).append(',');
+            }
+            return b.append(')').toString();
+        }
+    }
+
+    /**
+     * The result of a call occurring more than once, kept in a slot. Each occurrence computes the call unless the
+     * slot has already been set for the current row. The call is thus evaluated where Java evaluates its first
+     * occurrence, and a failing row throws the same exception as the compiled expression.
+     */
+    private static final class Intermediate extends Node {
+        private final int m_slot;
+
+        private final Call m_call;
+
+        Intermediate(final int slot, final Call call) {
+            super(call.m_type);
+            m_slot = slot;
+            m_call = call;
+        }
+
+        @Override
+        MethodHandle toHandle() {
+            final MethodType type = MethodType.methodType(m_type, VALUES);
+            final MethodHandle read = MethodHandles.insertArguments(
+                MethodHandles.arrayElementGetter(Object[].class), 1, m_slot).asType(type);
+            // (Object[])m_type, storing the result of the call in the slot
+            final MethodHandle compute = MethodHandles.permuteArguments(
+                MethodHandles.filterArguments(MethodHandles.insertArguments(STORE, 1, m_slot), 1,
+                    m_call.toHandle().asType(MethodType.methodType(Object.class, VALUES))),
+                MethodType.methodType(Object.class, VALUES), 0, 0).asType(type);
+            return MethodHandles.guardWithTest(MethodHandles.insertArguments(IS_UNSET, 1, m_slot), compute, read);
+        }
+
+        @Override
+        String getKey() {
+            return "#" + m_slot;
+        }
+    }
+
+    /**
+     * Folds calls with constant arguments, fuses chains of calls and moves calls occurring more than once into
+     * intermediate slots, which are computed at most once per row.
+     */
+    private static final class Optimizer {
+        /** Result types that can be shared between rows. */
+        private static final List<Class<?>> IMMUTABLE_TYPES = Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class);
+
+        private final Map<String, Integer> m_counts = new HashMap<>();
+
+        private final Map<String, Intermediate> m_intermediates = new HashMap<>();
+
+        private final CallFusion m_fusion;
+
+        /** The first slot of the intermediate results, the slots before hold the fields. */
+        private final int m_firstIntermediate;
+
+        private int m_nrSlots;
+
+        Optimizer(final int nrSlots, final CallFusion fusion) {
+            m_firstIntermediate = nrSlots;
+            m_nrSlots = nrSlots;
+            m_fusion = fusion;
+        }
+
+        Node optimize(final Node node) {
+            final Node folded = fold(node);
+            final Node fused = m_fusion == null ? folded : fuse(folded);
+            count(fused);
+            return replaceRepeated(fused);
+        }
+
+        /** Replaces calls whose arguments are all constant with their result. */
+        private static Node fold(final Node node) {
+            if (!(node instanceof Call)) {
+                return node;
+            }
+            final Call call = (Call)node;
+            final List<Node> args = new ArrayList<>(call.m_args.size());
+            boolean isConstant = true;
+            for (Node arg : call.m_args) {
+                final Node folded = fold(arg);
+                isConstant &= folded instanceof Constant;
+                args.add(folded);
+            }
+            final Call result = call.withArgs(args);
+            if (isConstant && IMMUTABLE_TYPES.contains(box(result.m_type))) {
+                try {
+                    return new Constant(result.m_type, result.toHandle().invoke((Object[])null));
+                } catch (Throwable t) {
+                    // keep the call, its exception is reported when evaluating a row
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Replaces the longest chains of calls that the fusion accepts, starting with the outermost call. A chain
+         * needs at least two calls, otherwise there is nothing to gain.
+         */
+        private Node fuse(final Node node) {
+            if (!(node instanceof Call)) {
+                return node;
+            }
+            final List<Call> chain = new ArrayList<>();
+            Node base = node;
+            while (isChainable(base)) {
+                chain.add((Call)base);
+                base = ((Call)base).m_args.get(0);
+            }
+            if (chain.size() >= 2) {
+                Collections.reverse(chain);
+                final List<Method> methods = new ArrayList<>(chain.size());
+                final List<Object[]> constants = new ArrayList<>(chain.size());
+                final List<MethodHandle> calls = new ArrayList<>(chain.size());
+                final StringBuilder name = new StringBuilder("fused");
+                for (Call call : chain) {
+                    final Object[] values = new Object[call.m_args.size() - 1];
+                    // the constants are converted to the parameter types like in toHandle()
+                    MethodType type = call.m_target.type();
+                    name.append('[').append(call.m_name);
+                    for (int i = 0; i < values.length; i++) {
+                        final Constant arg = (Constant)call.m_args.get(i + 1);
+                        values[i] = arg.m_value;
+                        if (arg.m_type != null) {
+                            type = type.changeParameterType(i + 1, arg.m_type);
+                        }
+                        name.append(',').append(arg.getKey());
+                    }
+                    name.append(']');
+                    methods.add(call.m_method);
+                    constants.add(values);
+                    calls.add(MethodHandles.insertArguments(call.m_target.asType(type), 1, values)
+                        .asType(MethodType.methodType(String.class, String.class)));
+                }
+                final MethodHandle fused = m_fusion.fuse(Collections.unmodifiableList(methods),
+                    Collections.unmodifiableList(constants), Collections.unmodifiableList(calls));
+                if (fused != null) {
+                    return new Call(String.class, name.toString(), null,
+                        fused.asType(MethodType.methodType(String.class, String.class)),
+                        Collections.singletonList(fuse(base)));
+                }
+            }
+            final Call call = (Call)node;
+            final List<Node> args = new ArrayList<>(call.m_args.size());
+            for (Node arg : call.m_args) {
+                args.add(fuse(arg));
+            }
+            return call.withArgs(args);
+        }
+
+        /** @return whether the node is a call taking a string and constants and returning a string */
+        private static boolean isChainable(final Node node) {
+            if (!(node instanceof Call) || ((Call)node).m_method == null || node.m_type != String.class) {
+                return false;
+            }
+            final Call call = (Call)node;
+            if (call.m_args.isEmpty() || call.m_args.get(0).m_type != String.class
+                || call.m_target.type().parameterType(0) != String.class) {
+                return false;
+            }
+            for (int i = 1; i < call.m_args.size(); i++) {
+                if (!(call.m_args.get(i) instanceof Constant)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Counts the occurrences of each call, the arguments of a repeated call are counted once. */
+        private void count(final Node node) {
+            if (node instanceof Call && m_counts.merge(node.getKey(), 1, Integer::sum) == 1) {
+                for (Node arg : ((Call)node).m_args) {
+                    count(arg);
+                }
+            }
+        }
+
+        private Node replaceRepeated(final Node node) {
+            if (!(node instanceof Call)) {
+                return node;
+            }
+            final String key = node.getKey();
+            final Intermediate existing = m_intermediates.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            final Call call = (Call)node;
+            final List<Node> args = new ArrayList<>(call.m_args.size());
+            for (Node arg : call.m_args) {
+                args.add(replaceRepeated(arg));
+            }
+            final Call result = call.withArgs(args);
+            if (m_counts.get(key) < 2) {
+                return result;
+            }
+            // all occurrences share the slot, the arguments may again be intermediates of their own
+            final Intermediate intermediate = new Intermediate(m_nrSlots++, result);
+            m_intermediates.put(key, intermediate);
+            return intermediate;
+        }
+
+        /** @return the handle which first clears the intermediate results of the last row and then evaluates the
+         *         expression */
+        MethodHandle resetIntermediates(final MethodHandle expression) {
+            if (m_nrSlots == m_firstIntermediate) {
+                return expression;
+            }
+            return MethodHandles.foldArguments(expression,
+                MethodHandles.insertArguments(RESET, 1, m_firstIntermediate, m_nrSlots));
+        }
+    }
+
+    /** The statically imported methods by name. */
+    private static final class StaticImports {
+        private final Map<String, List<Method>> m_methods = new HashMap<>();
+
+        private final File[] m_jarFiles;
+
+        /** Acquired when the first static import is loaded from jar files, <code>null</code> otherwise. */
+        private ClassLoaderEntry m_classLoader;
+
+        StaticImports(final File[] jarFiles) {
+            m_jarFiles = jarFiles;
+        }
+
+        /** Releases the class loader, unless it has been passed on to the parsed expression. */
+        void close() {
+            if (m_classLoader != null) {
+                releaseClassLoader(m_classLoader);
+                m_classLoader = null;
+            }
+        }
+
+        void load(final String[] imports) throws UnsupportedExpressionException {
+            ClassLoader loader = null;
+            for (String imp : imports) {
+                final String trimmed = imp.trim();
+                if (!trimmed.startsWith("static ")) {
+                    continue;
+                }
+                final String name = trimmed.substring("static ".length()).trim();
+                final int dot = name.lastIndexOf('.');
+                if (dot < 0) {
+                    throw new UnsupportedExpressionException("invalid import " + imp);
+                }
+                final String member = name.substring(dot + 1);
+                if (loader == null) {
+                    if (m_jarFiles.length == 0) {
+                        // the bundle class path, which is also the parent of the class loaders of compiled expressions
+                        loader = Expression.class.getClassLoader();
+                    } else {
+                        m_classLoader = acquireClassLoader(m_jarFiles);
+                        loader = m_classLoader.m_loader;
+                    }
+                }
+                final Class<?> c;
+                try {
+                    c = Class.forName(name.substring(0, dot), false, loader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    throw new UnsupportedExpressionException("unable to load " + name.substring(0, dot));
+                }
+                if (!Modifier.isPublic(c.getModifiers())) {
+                    throw new UnsupportedExpressionException("class not public: " + c.getName());
+                }
+                for (Method m : c.getMethods()) {
+                    if (Modifier.isStatic(m.getModifiers()) && ("*".equals(member) || member.equals(m.getName()))) {
+                        m_methods.computeIfAbsent(m.getName(), k -> new ArrayList<>()).add(m);
+                    }
+                }
+            }
+        }
+
+        List<Method> get(final String name) {
+            final List<Method> methods = m_methods.get(name);
+            return methods == null ? Collections.emptyList() : methods;
+        }
+    }
+
+    /** Recursive descent parser for <code>return call;</code>. */
+    private static final class Parser {
+        private final String m_body;
+
+        private final Map<String, Integer> m_slots;
+
+        private final Map<String, Class<?>> m_fieldTypes;
+
+        private final StaticImports m_imports;
+
+        private int m_pos;
+
+        Parser(final String body, final Map<String, Integer> slots, final Map<String, Class<?>> fieldTypes,
+            final StaticImports imports) {
+            m_body = body;
+            m_slots = slots;
+            m_fieldTypes = fieldTypes;
+            m_imports = imports;
+        }
+
+        Node parseReturnStatement() throws UnsupportedExpressionException {
+            if (!"return".equals(readIdentifier())) {
+                throw unsupported("no single return statement");
+            }
+            final Node node = parseExpression();
+            expect(';');
+            skipWhitespace();
+            if (m_pos < m_body.length()) {
+                throw unsupported("statements after return");
+            }
+            return node;
+        }
+
+        private Node parseExpression() throws UnsupportedExpressionException {
+            skipWhitespace();
+            if (m_pos >= m_body.length()) {
+                throw unsupported("unexpected end");
+            }
+            final char c = m_body.charAt(m_pos);
+            if (c == '"') {
+                return Node.constant(String.class, readQuoted('"'));
+            } else if (c == '\'') {
+                final String s = readQuoted('\'');
+                if (s.length() != 1) {
+                    throw unsupported("invalid character literal");
+                }
+                return Node.constant(char.class, s.charAt(0));
+            } else if (c == '-' || Character.isDigit(c)) {
+                return parseNumber();
+            } else if (Character.isJavaIdentifierStart(c)) {
+                final String identifier = readIdentifier();
+                skipWhitespace();
+                if (m_pos < m_body.length() && m_body.charAt(m_pos) == '(') {
+                    m_pos++;
+                    return parseCall(identifier);
+                }
+                return parseName(identifier);
+            }
+            throw unsupported("unexpected character '" + c + "'");
+        }
+
+        private Node parseName(final String identifier) throws UnsupportedExpressionException {
+            final Integer slot = m_slots.get(identifier);
+            if (slot != null) {
+                return new Slot(slot, m_fieldTypes.get(identifier));
+            }
+            switch (identifier) {
+                case "true":
+                    return Node.constant(boolean.class, Boolean.TRUE);
+                case "false":
+                    return Node.constant(boolean.class, Boolean.FALSE);
+                case "null":
+                    return Node.constant(null, null);
+                default:
+                    throw unsupported("unknown identifier " + identifier);
+            }
+        }
+
+        private Node parseCall(final String name) throws UnsupportedExpressionException {
+            final List<Node> args = new ArrayList<>();
+            skipWhitespace();
+            if (m_pos < m_body.length() && m_body.charAt(m_pos) == ')') {
+                m_pos++;
+            } else {
+                while (true) {
+                    args.add(parseExpression());
+                    skipWhitespace();
+                    if (m_pos < m_body.length() && m_body.charAt(m_pos) == ',') {
+                        m_pos++;
+                    } else {
+                        expect(')');
+                        break;
+                    }
+                }
+            }
+            final Class<?>[] argTypes = new Class<?>[args.size()];
+            for (int i = 0; i < argTypes.length; i++) {
+                argTypes[i] = args.get(i).m_type;
+            }
+            final Method method = resolve(name, argTypes);
+            MethodHandle handle;
+            try {
+                handle = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+            } catch (IllegalAccessException e) {
+                throw unsupported("method not accessible: " + method);
+            }
+            final Class<?>[] params = method.getParameterTypes();
+            // the phases with fixed arity take precedence, see resolve
+            if (method.isVarArgs() && !isApplicable(params, argTypes, true, true)) {
+                handle = handle.asCollector(params[params.length - 1], args.size() - params.length + 1);
+            }
+            return new Call(method, handle, args);
+        }
+
+        /** Selects the method like the compiler would, see JLS 15.12.2. */
+        private Method resolve(final String name, final Class<?>[] argTypes) throws UnsupportedExpressionException {
+            final List<Method> candidates = new ArrayList<>();
+            for (Method m : m_imports.get(name)) {
+                if (m.getReturnType() != void.class && !declaresCheckedException(m)) {
+                    candidates.add(m);
+                }
+            }
+            for (int phase = 1; phase <= 3; phase++) {
+                final boolean boxing = phase >= 2;
+                final boolean varArgs = phase == 3;
+                final List<Method> applicable = new ArrayList<>();
+                for (Method m : candidates) {
+                    if ((!varArgs || m.isVarArgs())
+                        && isApplicable(m.getParameterTypes(), argTypes, boxing, !varArgs)) {
+                        applicable.add(m);
+                    }
+                }
+                if (!applicable.isEmpty()) {
+                    return mostSpecific(applicable, argTypes.length, varArgs);
+                }
+            }
+            throw unsupported("no applicable method " + name + " for " + argTypes.length + " arguments");
+        }
+
+        private Method mostSpecific(final List<Method> applicable, final int nrArgs, final boolean varArgs)
+            throws UnsupportedExpressionException {
+            Method result = null;
+            for (Method m1 : applicable) {
+                boolean isMostSpecific = true;
+                for (Method m2 : applicable) {
+                    if (m1 != m2 && !isMoreSpecific(m1, m2, nrArgs, varArgs)) {
+                        isMostSpecific = false;
+                        break;
+                    }
+                }
+                if (isMostSpecific) {
+                    if (result != null) {
+                        throw unsupported("ambiguous method " + m1.getName());
+                    }
+                    result = m1;
+                }
+            }
+            if (result == null) {
+                throw unsupported("ambiguous method " + applicable.get(0).getName());
+            }
+            return result;
+        }
+
+        private static boolean isMoreSpecific(final Method m1, final Method m2, final int nrArgs,
+            final boolean varArgs) {
+            final Class<?>[] p1 = m1.getParameterTypes();
+            final Class<?>[] p2 = m2.getParameterTypes();
+            final int n = varArgs ? Math.max(nrArgs, Math.max(p1.length, p2.length)) : p1.length;
+            for (int i = 0; i < n; i++) {
+                if (!isConvertible(parameterType(p1, i, varArgs), parameterType(p2, i, varArgs), false)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Class<?> parameterType(final Class<?>[] params, final int i, final boolean varArgs) {
+            if (varArgs && i >= params.length - 1) {
+                return params[params.length - 1].getComponentType();
+            }
+            return params[i];
+        }
+
+        /**
+         * @param fixedArity <code>true</code> to check the parameters as declared, <code>false</code> to expand the
+         *            trailing array of a method with variable arity
+         */
+        private static boolean isApplicable(final Class<?>[] params, final Class<?>[] argTypes,
+            final boolean boxing, final boolean fixedArity) {
+            if (fixedArity) {
+                if (params.length != argTypes.length) {
+                    return false;
+                }
+                for (int i = 0; i < params.length; i++) {
+                    if (!isConvertible(argTypes[i], params[i], boxing)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (argTypes.length < params.length - 1) {
+                return false;
+            }
+            for (int i = 0; i < argTypes.length; i++) {
+                if (!isConvertible(argTypes[i], parameterType(params, i, true), boxing)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean declaresCheckedException(final Method m) {
+            for (Class<?> e : m.getExceptionTypes()) {
+                if (!RuntimeException.class.isAssignableFrom(e) && !Error.class.isAssignableFrom(e)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Node parseNumber() throws UnsupportedExpressionException {
+            final int start = m_pos;
+            if (m_body.charAt(m_pos) == '-') {
+                m_pos++;
+            }
+            while (m_pos < m_body.length()
+                && (Character.isLetterOrDigit(m_body.charAt(m_pos)) || m_body.charAt(m_pos) == '.')) {
+                final char c = m_body.charAt(m_pos++);
+                if ((c == 'e' || c == 'E') && m_pos < m_body.length()
+                    && (m_body.charAt(m_pos) == '-' || m_body.charAt(m_pos) == '+')) {
+                    m_pos++;
+                }
+            }
+            final String literal = m_body.substring(start, m_pos);
+            try {
+                // octal numbers (leading 0) are left to the compiler
+                if (literal.matches("-?(0|[1-9]\\d*)")) {
+                    return Node.constant(int.class, Integer.parseInt(literal));
+                } else if (literal.matches("-?(0|[1-9]\\d*)[lL]")) {
+                    return Node.constant(long.class, Long.parseLong(literal.substring(0, literal.length() - 1)));
+                } else if (literal.matches("-?\\d+(\\.\\d*)?([eE][-+]?\\d+)?[dD]?") && !literal.matches("-?\\d+")) {
+                    return Node.constant(double.class, Double.parseDouble(literal));
+                }
+            } catch (NumberFormatException e) {
+                // fall through, the compiler reports numbers out of range
+            }
+            throw unsupported("unsupported number literal " + literal);
+        }
+
+        private String readQuoted(final char quote) throws UnsupportedExpressionException {
+            final StringBuilder b = new StringBuilder();
+            m_pos++;
+            while (m_pos < m_body.length()) {
+                char c = m_body.charAt(m_pos++);
+                if (c == quote) {
+                    return b.toString();
+                } else if (c == '\\') {
+                    if (m_pos >= m_body.length()) {
+                        break;
+                    }
+                    c = m_body.charAt(m_pos++);
+                    switch (c) {
+                        case 'n': b.append('\n'); break;
+                        case 'r': b.append('\r'); break;
+                        case 't': b.append('\t'); break;
+                        case 'b': b.append('\b'); break;
+                        case 'f': b.append('\f'); break;
+                        case '\\':
+                        case '\'':
+                        case '"':
+                            b.append(c);
+                            break;
+                        default:
+                            throw unsupported("unsupported escape sequence \\" + c);
+                    }
+                } else if (c == '\n' || c == '\r') {
+                    break;
+                } else {
+                    b.append(c);
+                }
+            }
+            throw unsupported("unterminated literal");
+        }
+
+        private String readIdentifier() throws UnsupportedExpressionException {
+            skipWhitespace();
+            final int start = m_pos;
+            if (m_pos < m_body.length() && Character.isJavaIdentifierStart(m_body.charAt(m_pos))) {
+                m_pos++;
+                while (m_pos < m_body.length() && Character.isJavaIdentifierPart(m_body.charAt(m_pos))) {
+                    m_pos++;
+                }
+            }
+            if (start == m_pos) {
+                throw unsupported("identifier expected");
+            }
+            return m_body.substring(start, m_pos);
+        }
+
+        private void expect(final char c) throws UnsupportedExpressionException {
+            skipWhitespace();
+            if (m_pos >= m_body.length() || m_body.charAt(m_pos) != c) {
+                throw unsupported("'" + c + "' expected");
+            }
+            m_pos++;
+        }
+
+        private void skipWhitespace() {
+            while (m_pos < m_body.length() && Character.isWhitespace(m_body.charAt(m_pos))) {
+                m_pos++;
+            }
+        }
+
+        private UnsupportedExpressionException unsupported(final String reason) {
+            return new UnsupportedExpressionException(reason + " at position " + m_pos);
+        }
+    }
+
+    /**
+     * Whether a value of the first type can be passed as argument of the second type, see JLS 5.3.
+     *
+     * @param from the type of the argument, <code>null</code> for the <code>null</code> literal
+     * @param to the type of the parameter
+     * @param boxing whether boxing and unboxing conversions are allowed
+     */
+    private static boolean isConvertible(final Class<?> from, final Class<?> to, final boolean boxing) {
+        if (from == null) {
+            return !to.isPrimitive();
+        }
+        if (from == to) {
+            return true;
+        }
+        if (from.isPrimitive() && to.isPrimitive()) {
+            return isWideningPrimitive(from, to);
+        }
+        if (!from.isPrimitive() && !to.isPrimitive()) {
+            return to.isAssignableFrom(from);
+        }
+        if (!boxing) {
+            return false;
+        }
+        if (from.isPrimitive()) {
+            return to.isAssignableFrom(box(from));
+        }
+        final Class<?> unboxed = unbox(from);
+        return unboxed != null && (unboxed == to || isWideningPrimitive(unboxed, to));
+    }
+
+    private static boolean isWideningPrimitive(final Class<?> from, final Class<?> to) {
+        final int toIndex = NUMERIC_TYPES.indexOf(to);
+        if (from == char.class) {
+            return toIndex >= NUMERIC_TYPES.indexOf(int.class);
+        }
+        final int fromIndex = NUMERIC_TYPES.indexOf(from);
+        return fromIndex >= 0 && toIndex > fromIndex;
+    }
+
+    /** The numeric primitive types, each one can be widened to the ones after it. */
+    private static final List<Class<?>> NUMERIC_TYPES =
+        Arrays.asList(byte.class, short.class, int.class, long.class, float.class, double.class);
+
+    private static final Class<?>[][] WRAPPERS = {{boolean.class, Boolean.class}, {byte.class, Byte.class},
+        {short.class, Short.class}, {char.class, Character.class}, {int.class, Integer.class},
+        {long.class, Long.class}, {float.class, Float.class}, {double.class, Double.class}};
+
+    private static Class<?> box(final Class<?> c) {
+        for (Class<?>[] w : WRAPPERS) {
+            if (w[0] == c) {
+                return w[1];
+            }
+        }
+        return c;
+    }
+
+    private static Class<?> unbox(final Class<?> c) {
+        for (Class<?>[] w : WRAPPERS) {
+            if (w[1] == c) {
+                return w[0];
+            }
+        }
+        return null;
+    }
+}
@@ -47,7 +47,13 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -62,6 +68,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
@@ -80,6 +87,7 @@
 import org.knime.core.node.streamable.StreamableOperatorInternals;
 import org.knime.core.node.streamable.simple.SimpleStreamableOperatorInternals;
 import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.MultiThreadWorker;
 import org.knime.ext.sun.nodes.script.calculator.ColumnCalculator;
 import org.knime.ext.sun.nodes.script.calculator.FlowVariableProvider;
 import org.knime.ext.sun.nodes.script.expression.Expression;
@@ -95,6 +103,13 @@ public class JavaRowSplitterNodeModel extends NodeModel
 
     private static final String SIMPLE_STREAMABLE_ROWCOUNT_KEY = "rowCount-int";
 
+    /** Number of rows evaluated as one unit of work in the pipelined execution. */
+    private static final int BATCH_SIZE = 1024;
+
+    /** Warning set if the expression returns a missing value. */
+    private static final String MISSING_WARNING =
+        "Expression returned missing value for some rows (interpreted as no match)";
+
     private final JavaScriptingCustomizer m_customizer;
     private JavaScriptingSettings m_settings;
 
@@ -160,17 +175,21 @@ private void execute(final RowInput inData, final RowOutput[] outputs, final Exe
         DataTableSpec spec = inData.getDataTableSpec();
         m_settings.setInputAndCompile(spec);
         ColumnCalculator cc = new ColumnCalculator(m_settings, this);
-        int rowIndex = 0;
-        DataRow r;
         RowOutput trueMatch = outputs[0];
         RowOutput falseMatch = outputs.length > 1 ? outputs[1] : null;
+        if (cc.isConcurrent()) {
+            executePipelined(cc, inData, trueMatch, falseMatch, exec);
+            return;
+        }
+        int rowIndex = 0;
+        DataRow r;
         while ((r = inData.poll()) != null) {
             cc.setProgress(rowIndex, m_rowCount, r.getKey(), exec);
             DataCell result = cc.calculate(r);
             boolean b;
             if (result.isMissing()) {
                 b = false;
-                setWarningMessage("Expression returned missing value for some rows (interpreted as no match)");
+                setWarningMessage(MISSING_WARNING);
             } else {
                 b = ((BooleanValue)result).getBooleanValue();
             }
@@ -188,6 +207,131 @@ private void execute(final RowInput inData, final RowOutput[] outputs, final Exe
         }
     }
 
+    /**
+     * Evaluates the predicate concurrently: the input is read in batches, each batch is evaluated by one of the
+     * workers, and the rows are pushed to the outputs batch by batch in their original order. Progress, warning and
+     * cancellation are handled once per batch.
+     */
+    private void executePipelined(final ColumnCalculator cc, final RowInput inData, final RowOutput trueMatch,
+        final RowOutput falseMatch, final ExecutionContext exec) throws Exception {
+        final int maxActive = Math.max(1, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+        final MultiThreadWorker<List<DataRow>, BatchResult> worker =
+            new MultiThreadWorker<List<DataRow>, BatchResult>(4 * maxActive, maxActive) {
+
+            private long m_rowIndex = 0;
+
+            private boolean m_hasReportedMissing = false;
+
+            @Override
+            protected BatchResult compute(final List<DataRow> batch, final long index) throws Exception {
+                final long firstRowIndex = index * BATCH_SIZE;
+                final BatchResult result = new BatchResult(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    DataCell cell = cc.calculate(batch.get(i), firstRowIndex + i);
+                    if (cell.isMissing()) {
+                        result.m_hasMissing = true;
+                    } else {
+                        result.m_matches[i] = ((BooleanValue)cell).getBooleanValue();
+                    }
+                }
+                return result;
+            }
+
+            @Override
+            protected void processFinished(final ComputationTask task)
+                throws ExecutionException, CancellationException, InterruptedException {
+                final List<DataRow> batch = task.getInput();
+                final BatchResult result = task.get();
+                for (int i = 0; i < batch.size(); i++) {
+                    DataRow r = batch.get(i);
+                    if (result.m_matches[i]) {
+                        trueMatch.push(r);
+                    } else if (falseMatch != null) {
+                        falseMatch.push(r);
+                    }
+                }
+                if (result.m_hasMissing && !m_hasReportedMissing) {
+                    m_hasReportedMissing = true;
+                    setWarningMessage(MISSING_WARNING);
+                }
+                m_rowIndex += batch.size();
+                try {
+                    exec.checkCanceled();
+                } catch (CanceledExecutionException cee) {
+                    throw new CancellationException(cee.getMessage());
+                }
+                cc.setProgress((int)m_rowIndex, (int)m_rowCount, batch.get(batch.size() - 1).getKey(), exec);
+            }
+        };
+        try {
+            worker.run(() -> new BatchIterator(inData));
+        } catch (CancellationException ce) {
+            exec.checkCanceled();
+            throw ce;
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw ee;
+        }
+        trueMatch.close();
+        if (falseMatch != null) {
+            falseMatch.close();
+        }
+    }
+
+    /** The outcome of the predicate for a batch of rows. */
+    private static final class BatchResult {
+        private final boolean[] m_matches;
+
+        /** Whether the expression returned a missing value, which is interpreted as no match. */
+        private boolean m_hasMissing;
+
+        BatchResult(final int size) {
+            m_matches = new boolean[size];
+        }
+    }
+
+    /** Reads the rows of the input in lists of {@link #BATCH_SIZE}. */
+    private static final class BatchIterator implements Iterator<List<DataRow>> {
+        private final RowInput m_input;
+
+        private List<DataRow> m_next;
+
+        BatchIterator(final RowInput input) {
+            m_input = input;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (m_next == null) {
+                final List<DataRow> batch = new ArrayList<>(BATCH_SIZE);
+                try {
+                    DataRow r;
+                    while (batch.size() < BATCH_SIZE && (r = m_input.poll()) != null) {
+                        batch.add(r);
+                    }
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Interrupted while reading input");
+                }
+                m_next = batch.isEmpty() ? null : batch;
+            }
+            return m_next != null;
+        }
+
+        @Override
+        public List<DataRow> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final List<DataRow> batch = m_next;
+            m_next = null;
+            return batch;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void reset() {
@@ -63,7 +63,10 @@
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.util.UniqueNameGenerator;
 import org.knime.ext.sun.nodes.script.compile.CompilationFailedException;
+import org.knime.ext.sun.nodes.script.expression.CallFusion;
 import org.knime.ext.sun.nodes.script.expression.Expression;
+import org.knime.ext.sun.nodes.script.expression.Expression.FieldType;
+import org.knime.ext.sun.nodes.script.expression.Expression.InputField;
 
 /**
  * Settings proxy used by dialog and model implementation.
@@ -134,6 +137,12 @@ public final class JavaScriptingSettings {
     /** Imports used by the snippet. */
     private String[] m_imports;
 
+    /** Whether the statically imported methods have no side effects, not persisted. */
+    private boolean m_isStaticImportsPure = false;
+
+    /** Fuses chains of calls of the statically imported methods, not persisted. */
+    private CallFusion m_callFusion = null;
+
 
     /** New settings for given customizer. */
     public JavaScriptingSettings(final JavaScriptingCustomizer customizer) {
@@ -380,6 +389,51 @@ public void setImports(final String[] imports) {
         m_imports = imports;
     }
 
+    /**
+     * Whether the statically imported methods are free of side effects and their result depends on the arguments
+     * only, see {@link #setStaticImportsPure(boolean)}.
+     *
+     * @return the property, <code>false</code> by default
+     * @since 4.3
+     */
+    public boolean isStaticImportsPure() {
+        return m_isStaticImportsPure;
+    }
+
+    /**
+     * Declare the statically imported methods free of side effects and their result dependent on the arguments
+     * only. This allows calls with constant arguments to be evaluated once and repeated calls with the same
+     * arguments to be evaluated once per row. The property is not saved with the settings.
+     *
+     * @param isPure the property
+     * @since 4.3
+     */
+    public void setStaticImportsPure(final boolean isPure) {
+        m_isStaticImportsPure = isPure;
+    }
+
+    /**
+     * The fusion of chains of calls of the statically imported methods, see {@link #setCallFusion(CallFusion)}.
+     *
+     * @return the fusion or <code>null</code> (default)
+     * @since 4.3
+     */
+    public CallFusion getCallFusion() {
+        return m_callFusion;
+    }
+
+    /**
+     * Set a fusion that evaluates chains of nested calls of the statically imported methods at once, e.g. in a single
+     * pass over a string. It is only used if the methods are declared pure, see
+     * {@link #setStaticImportsPure(boolean)}. The property is not saved with the settings.
+     *
+     * @param fusion the fusion or <code>null</code> to evaluate each call on its own
+     * @since 4.3
+     */
+    public void setCallFusion(final CallFusion fusion) {
+        m_callFusion = fusion;
+    }
+
     /** Convert jar file location to File. Also accepts file in URL format
      * (e.g. local drop files as URL).
      * @param location The location string.
@@ -426,16 +480,37 @@ public void setJarFiles(final String[] jarFiles) {
      */
     public void setInputAndCompile(final DataTableSpec spec)
         throws CompilationFailedException, InvalidSettingsException {
-        if ((m_compiledExpression == null) || (!spec.equalStructure(m_inputSpec))) {
+        if ((m_compiledExpression == null) || !isCompiledFor(spec)) {
             discard();
-            // if the spec changes, we need to re-compile the expression
+            // if a referenced column changes, we need to re-compile the expression
             m_compiledExpression = Expression.compile(this, spec);
-            m_inputSpec = spec;
         }
+        // the column indices are bound by name at execution time
+        m_inputSpec = spec;
+    }
+
+    /** Whether all columns referenced by the compiled expression are present in the argument spec with the same
+     * type as in the spec the expression was compiled for. Other columns do not affect the generated class. */
+    private boolean isCompiledFor(final DataTableSpec spec) {
+        if (m_inputSpec == null) {
+            return false;
+        }
+        for (InputField field : m_compiledExpression.getFieldMap().keySet()) {
+            if (field.getFieldType() != FieldType.Column) {
+                continue;
+            }
+            DataColumnSpec oldCol = m_inputSpec.getColumnSpec(field.getColOrVarName());
+            DataColumnSpec newCol = spec.getColumnSpec(field.getColOrVarName());
+            if (oldCol == null || newCol == null || !oldCol.getType().equals(newCol.getType())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /** Cleans up the old {@link Expression} object that is kept as member. Called when node is discarded or a new
-     * expression is to be compiled.
+     * expression is to be compiled. This releases the reference to the compiled class, which is shared between all
+     * expressions of the same source in the JVM.
      * @since 3.6 */
     public void discard() {
         if (m_compiledExpression != null) {
@@ -137,7 +137,8 @@ public J[] asJavaArray(final CollectionDataValue value) {
         J[] result = (J[])Array.newInstance(m_javaClass, value.size());
         int i = 0;
         for (DataCell c : value) {
-            result[i++] = asJavaObject(c);
+            // the elements of a collection are compatible to its element type
+            result[i++] = c.isMissing() ? null : readJavaObject(c);
         }
         return result;
     }
@@ -161,6 +162,20 @@ public J asJavaObject(final DataCell cell) {
         return toJavaClass(value);
     }
 
+    /** Convert a non-missing cell of a column, whose type was found compatible
+     * with {@link #checkCompatibility(DataType)}, to a plain java object.
+     * Other than {@link #asJavaObject(DataCell)} the cell class is not
+     * checked again, this is meant for callers that resolve the type once per
+     * column and then convert all of its cells. The types override this with
+     * a direct access to their value interface.
+     * @param cell To convert, not missing
+     * @return Java object representing the cell argument.
+     * @since 4.3
+     */
+    public J readJavaObject(final DataCell cell) {
+        return toJavaClass(m_knimeValueClass.cast(cell));
+    }
+
     /** Converted java array to knime list cell. Null values in the array
      * are converted to missing cells.
      * @param obj Array to convert.
@@ -258,6 +273,12 @@ protected Boolean toJavaClass(final BooleanValue value) {
             return value.getBooleanValue();
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public Boolean readJavaObject(final DataCell cell) {
+            return ((BooleanValue)cell).getBooleanValue();
+        }
+
         /** {@inheritDoc} */
         @Override
         protected BooleanCell toKNIMECell(final Boolean value) {
@@ -285,6 +306,12 @@ protected Integer toJavaClass(final IntValue value) {
             return value.getIntValue();
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public Integer readJavaObject(final DataCell cell) {
+            return ((IntValue)cell).getIntValue();
+        }
+
         /** {@inheritDoc} */
         @Override
         protected IntCell toKNIMECell(final Integer value) {
@@ -311,6 +338,12 @@ protected Long toJavaClass(final LongValue value) {
             return value.getLongValue();
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public Long readJavaObject(final DataCell cell) {
+            return ((LongValue)cell).getLongValue();
+        }
+
         /** {@inheritDoc} */
         @Override
         protected LongCell toKNIMECell(final Long value) {
@@ -337,6 +370,12 @@ protected Double toJavaClass(final DoubleValue value) {
             return value.getDoubleValue();
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public Double readJavaObject(final DataCell cell) {
+            return ((DoubleValue)cell).getDoubleValue();
+        }
+
         /** {@inheritDoc} */
         @Override
         protected DoubleCell toKNIMECell(final Double value) {
@@ -367,6 +406,12 @@ protected String toJavaClass(final DataValue value) {
             return value.toString();
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public String readJavaObject(final DataCell cell) {
+            return toJavaClass(cell);
+        }
+
         /** {@inheritDoc} */
         @Override
         protected StringCell toKNIMECell(final String value) {
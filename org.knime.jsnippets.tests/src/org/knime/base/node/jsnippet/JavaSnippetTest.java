@@ -1,10 +1,21 @@
 package org.knime.base.node.jsnippet;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import javax.swing.text.Document;
 
@@ -14,12 +25,26 @@
 import org.knime.base.node.jsnippet.expression.Abort;
 import org.knime.base.node.jsnippet.expression.AbstractJSnippet;
 import org.knime.base.node.jsnippet.type.ConverterUtil;
+import org.knime.base.node.jsnippet.util.FlowVariableRepository;
 import org.knime.base.node.jsnippet.util.JavaSnippetFields;
 import org.knime.base.node.jsnippet.util.JavaSnippetSettings;
 import org.knime.base.node.jsnippet.util.field.InCol;
+import org.knime.base.node.jsnippet.util.field.InColGroup;
 import org.knime.base.node.jsnippet.util.field.OutCol;
+import org.knime.base.node.jsnippet.util.field.OutVar;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.ext.sun.nodes.script.compile.JavaCodeCompiler;
 
 /*
  * ------------------------------------------------------------------------
@@ -154,6 +179,275 @@ public void testAdditionalBundles() throws Exception {
         s.snippet();
     }
 
+    /**
+     * Test that a snippet with custom instance fields is not reloaded for every instance, while a snippet with
+     * static custom fields is.
+     * @throws Exception
+     */
+    @Test
+    public void testSnippetClassReuseWithCustomFields() throws Exception {
+        final JavaSnippetSettings settings = new JavaSnippetSettings("m_counter++;");
+        settings.setScriptFields("int m_counter = 0;");
+        snippet.setSettings(settings);
+
+        final AbstractJSnippet first = snippet.createSnippetInstance();
+        final AbstractJSnippet second = snippet.createSnippetInstance();
+        assertSame("Snippet class with custom instance fields should be reused", first.getClass(),
+            second.getClass());
+
+        settings.setScriptFields("static int m_counter = 0;");
+        snippet.setSettings(settings);
+
+        final AbstractJSnippet third = snippet.createSnippetInstance();
+        final AbstractJSnippet fourth = snippet.createSnippetInstance();
+        assertNotSame("Snippet class with static custom fields should be reloaded", third.getClass(),
+            fourth.getClass());
+    }
+
+    /**
+     * Test repeated execution of a snippet without input table, as done by the Java Edit Variable node in a loop.
+     * @throws Exception
+     */
+    @Test
+    public void testFlowVariableExecution() throws Exception {
+        final JavaSnippetSettings settings = new JavaSnippetSettings("out_counter = ++m_counter;");
+        settings.setScriptFields("int m_counter = 0;");
+
+        final OutVar outVar = new OutVar();
+        outVar.setJavaName("out_counter");
+        outVar.setKnimeName("counter");
+        outVar.setFlowVarType(FlowVariable.Type.INTEGER);
+        outVar.setJavaType(Integer.class);
+        settings.getJavaSnippetFields().getOutVarFields().add(outVar);
+        snippet.setSettings(settings);
+
+        for (int i = 0; i < 3; i++) {
+            final FlowVariableRepository flowVars = new FlowVariableRepository(Collections.emptyMap());
+            snippet.execute(flowVars, null);
+            // custom instance fields must not keep their state across executions
+            assertEquals(1, flowVars.getFlowVariable("counter").getIntValue());
+        }
+    }
+
+    /**
+     * Test that the configured language level is used and that unsupported levels fall back to the level of the
+     * running JVM.
+     * @throws Exception
+     */
+    @Test
+    public void testJavaVersion() throws Exception {
+        final JavaSnippetSettings settings = new JavaSnippetSettings("String s = \"a\" + ROWINDEX;");
+        assertEquals(JavaCodeCompiler.getRuntimeJavaVersion(), settings.getJavaVersion());
+
+        settings.setJavaVersion("1.8");
+        snippet.setSettings(settings);
+        assertEquals("1.8", snippet.getJavaVersion());
+        assertNotNull(snippet.createSnippetInstance());
+
+        settings.setJavaVersion("8");
+        assertEquals("1.8", snippet.getJavaVersion());
+
+        settings.setJavaVersion("999");
+        assertEquals(JavaCodeCompiler.getRuntimeJavaVersion(), snippet.getJavaVersion());
+        assertNotNull(snippet.createSnippetInstance());
+    }
+
+    /**
+     * Test binding a selection of columns to one array field which is written back into the columns.
+     * @throws Exception
+     */
+    @Test
+    public void testColumnGroup() throws Exception {
+        final JavaSnippetSettings settings =
+            new JavaSnippetSettings("for (int i = 0; i < m_values.length; i++) { m_values[i] *= 2; }");
+
+        final InColGroup group = new InColGroup();
+        group.setJavaName("m_values");
+        group.setKnimeName("value.*");
+        group.setElementType(InColGroup.ElementType.DOUBLE);
+        group.setReplaceColumns(true);
+        settings.getJavaSnippetFields().getInColGroupFields().add(group);
+        snippet.setSettings(settings);
+
+        final DataTableSpec spec = new DataTableSpec(new String[]{"value1", "name", "value2"},
+            new DataType[]{DoubleCell.TYPE, StringCell.TYPE, DoubleCell.TYPE});
+        final FlowVariableRepository flowVars = new FlowVariableRepository(Collections.emptyMap());
+        assertArrayEquals(new int[]{0, 2}, group.findColumnIndices(spec));
+        assertFalse(snippet.validateSettings(spec, flowVars).hasErrors());
+        assertEquals(spec, snippet.configure(spec, flowVars));
+
+        final JavaSnippetCellFactory factory = new JavaSnippetCellFactory(snippet, spec, flowVars, 1, null);
+        final DataCell[] cells = factory.getCells(new DefaultRow(RowKey.createRowKey(0L), new DoubleCell(1.5),
+            new StringCell("a"), DataType.getMissingCell()));
+        assertEquals(2, cells.length);
+        assertEquals(new DoubleCell(3.0), cells[0]);
+        assertTrue(cells[1].isMissing());
+    }
+
+    /**
+     * Test that NaN assigned to a double column group is written back as NaN, while missing input cells stay missing.
+     * @throws Exception
+     */
+    @Test
+    public void testColumnGroupKeepsNaN() throws Exception {
+        final JavaSnippetSettings settings = new JavaSnippetSettings("m_values[0] = Double.NaN;");
+
+        final InColGroup group = new InColGroup();
+        group.setJavaName("m_values");
+        group.setKnimeName("value.*");
+        group.setReplaceColumns(true);
+        settings.getJavaSnippetFields().getInColGroupFields().add(group);
+        snippet.setSettings(settings);
+
+        final DataTableSpec spec =
+            new DataTableSpec(new String[]{"value1", "value2"}, new DataType[]{DoubleCell.TYPE, DoubleCell.TYPE});
+        final FlowVariableRepository flowVars = new FlowVariableRepository(Collections.emptyMap());
+        assertFalse(snippet.validateSettings(spec, flowVars).hasErrors());
+
+        final JavaSnippetCellFactory factory = new JavaSnippetCellFactory(snippet, spec, flowVars, 1, null);
+        final DataCell[] cells = factory.getCells(
+            new DefaultRow(RowKey.createRowKey(0L), new DoubleCell(1.5), DataType.getMissingCell()));
+        assertEquals(2, cells.length);
+        assertFalse(cells[0].isMissing());
+        assertTrue(Double.isNaN(((DoubleCell)cells[0]).getDoubleValue()));
+        assertTrue(cells[1].isMissing());
+    }
+
+    /**
+     * Test that a column group is only written back to columns of its output type, integer columns would otherwise
+     * become double columns.
+     * @throws Exception
+     */
+    @Test
+    public void testColumnGroupWriteBackKeepsTypes() throws Exception {
+        final JavaSnippetSettings settings = new JavaSnippetSettings("");
+
+        final InColGroup group = new InColGroup();
+        group.setJavaName("m_values");
+        group.setKnimeName("value.*");
+        group.setReplaceColumns(true);
+        settings.getJavaSnippetFields().getInColGroupFields().add(group);
+        snippet.setSettings(settings);
+
+        final DataTableSpec spec =
+            new DataTableSpec(new String[]{"value1", "value2"}, new DataType[]{DoubleCell.TYPE, IntCell.TYPE});
+        final FlowVariableRepository flowVars = new FlowVariableRepository(Collections.emptyMap());
+        assertArrayEquals(new int[]{0, 1}, group.findColumnIndices(spec));
+        assertTrue(snippet.validateSettings(spec, flowVars).hasErrors());
+
+        group.setReplaceColumns(false);
+        assertFalse(snippet.validateSettings(spec, flowVars).hasErrors());
+
+        group.setReplaceColumns(true);
+        group.setKnimeName("value1");
+        assertFalse(snippet.validateSettings(spec, flowVars).hasErrors());
+    }
+
+    /**
+     * Test that a column group cannot use the java name of another field.
+     * @throws Exception
+     */
+    @Test
+    public void testColumnGroupDuplicateJavaName() throws Exception {
+        final JavaSnippetSettings settings = new JavaSnippetSettings("");
+
+        final InCol inCol = new InCol();
+        inCol.setKnimeName("value1");
+        inCol.setJavaName("m_values");
+        inCol.setConverterFactory(DoubleCell.TYPE,
+            ConverterUtil.getConverterFactory(DoubleCell.TYPE, Double.class).get());
+        settings.getJavaSnippetFields().getInColFields().add(inCol);
+
+        final InColGroup group = new InColGroup();
+        group.setJavaName("m_values");
+        group.setKnimeName("value.*");
+        settings.getJavaSnippetFields().getInColGroupFields().add(group);
+        snippet.setSettings(settings);
+
+        final DataTableSpec spec =
+            new DataTableSpec(new String[]{"value1", "value2"}, new DataType[]{DoubleCell.TYPE, DoubleCell.TYPE});
+        final FlowVariableRepository flowVars = new FlowVariableRepository(Collections.emptyMap());
+        assertTrue(snippet.validateSettings(spec, flowVars).hasErrors());
+
+        group.setJavaName("m_others");
+        assertFalse(snippet.validateSettings(spec, flowVars).hasErrors());
+    }
+
+    /**
+     * Test that failures of many rows are aggregated into one warning.
+     * @throws Exception
+     */
+    @Test
+    public void testRowFailures() throws Exception {
+        final JavaSnippetSettings settings = new JavaSnippetSettings("out = 1 / ROWCOUNT;");
+        settings.setScriptFields("int out;");
+        snippet.setSettings(settings);
+
+        final DataTableSpec spec = new DataTableSpec();
+        final FlowVariableRepository flowVars = new FlowVariableRepository(Collections.emptyMap());
+        final JavaSnippetCellFactory factory = new JavaSnippetCellFactory(snippet, spec, flowVars, 0, null);
+        for (long i = 0; i < 50; i++) {
+            assertEquals(0, factory.getCells(new DefaultRow(RowKey.createRowKey(i))).length);
+        }
+        factory.afterProcessing();
+        assertTrue(snippet.getWarningMessage(), snippet.getWarningMessage().contains("50 rows"));
+    }
+
+    /**
+     * Test filtering rows with a {@link JavaRowFilterSnippet}, failing rows are excluded.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRowFilter() throws Exception {
+        final JavaRowFilterSnippet filterSnippet = new JavaRowFilterSnippet();
+        filterSnippet.setSettings(new JavaSnippetSettings(
+            "if (ROWINDEX == 3) { throw new RuntimeException(); }\nINCLUDE = ROWINDEX % 2 == 1;"));
+
+        final DataTableSpec spec = new DataTableSpec();
+        final Iterator<DataRow> rows = IntStream.range(0, 6)
+            .mapToObj(i -> (DataRow)new DefaultRow(RowKey.createRowKey((long)i))).iterator();
+        final RowInput input = new RowInput() {
+            @Override
+            public DataTableSpec getDataTableSpec() {
+                return spec;
+            }
+
+            @Override
+            public DataRow poll() {
+                return rows.hasNext() ? rows.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final List<String> included = new ArrayList<>();
+        final List<String> excluded = new ArrayList<>();
+        filterSnippet.filter(input, new CollectingRowOutput(included), new CollectingRowOutput(excluded),
+            new FlowVariableRepository(Collections.emptyMap()), 6, null);
+
+        assertEquals(Arrays.asList("Row1", "Row5"), included);
+        assertEquals(Arrays.asList("Row0", "Row2", "Row3", "Row4"), excluded);
+    }
+
+    private static final class CollectingRowOutput extends RowOutput {
+        private final List<String> m_keys;
+
+        CollectingRowOutput(final List<String> keys) {
+            m_keys = keys;
+        }
+
+        @Override
+        public void push(final DataRow row) {
+            m_keys.add(row.getKey().getString());
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     /**
      * Test code generation
      * @throws Exception
@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.template;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.base.node.jsnippet.JavaSnippetNodeFactory;
+import org.knime.base.node.jsnippet.util.JavaSnippetSettings;
+
+/**
+ * Test for {@link FileTemplateRepository}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class FileTemplateRepositoryTest {
+
+    /** The folder of the repository. */
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+
+    /**
+     * Test that templates are found after reopening the repository and that other meta categories are not changed.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testLazyLoading() throws Exception {
+        final File folder = m_folder.getRoot();
+        final FileTemplateRepository<JavaSnippetTemplate> repo =
+            FileTemplateRepository.create(folder, JavaSnippetTemplate::create);
+        final JavaSnippetTemplate template =
+            new JavaSnippetTemplate(JavaSnippetNodeFactory.class, new JavaSnippetSettings("// template"));
+        template.setName("Lazy");
+        repo.addTemplate(template);
+
+        // a broken file in another meta category must not be touched
+        final File other = new File(folder, "some.other.Category");
+        other.mkdir();
+        final File broken = new File(other, "broken.xml");
+        final byte[] content = "no template".getBytes("UTF-8");
+        try (FileOutputStream out = new FileOutputStream(broken)) {
+            out.write(content);
+        }
+        // a time in the past, a rewrite of the file would be noticed even on file systems with coarse time stamps
+        final long lastModified = (broken.lastModified() / 1000L - 60L) * 1000L;
+        assertTrue(broken.setLastModified(lastModified));
+
+        final FileTemplateRepository<JavaSnippetTemplate> reopened =
+            FileTemplateRepository.create(folder, JavaSnippetTemplate::create);
+        final JavaSnippetTemplate found = reopened.getTemplate(UUID.fromString(template.getUUID()));
+        assertNotNull(found);
+        assertEquals("Lazy", found.getName());
+        assertNull(reopened.getTemplate(UUID.randomUUID()));
+
+        assertEquals(Collections.singletonList(found),
+            reopened.getTemplates(Collections.singletonList(JavaSnippetNodeFactory.class)));
+        assertTrue(reopened.removeTemplate(found));
+        assertTrue(reopened.getTemplates(Collections.singletonList(JavaSnippetNodeFactory.class)).isEmpty());
+
+        assertTrue(broken.isFile());
+        assertArrayEquals(content, Files.readAllBytes(broken.toPath()));
+        assertEquals(lastModified, broken.lastModified());
+    }
+
+    /**
+     * Test that a template is found although its file name does not end with its id, e.g. in a protected repository.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testTemplateWithOtherFileName() throws Exception {
+        final File folder = m_folder.getRoot();
+        final FileTemplateRepository<JavaSnippetTemplate> repo =
+            FileTemplateRepository.create(folder, JavaSnippetTemplate::create);
+        final JavaSnippetTemplate template =
+            new JavaSnippetTemplate(JavaSnippetNodeFactory.class, new JavaSnippetSettings("// template"));
+        template.setName("Renamed");
+        repo.addTemplate(template);
+
+        final File[] files = new File(folder, JavaSnippetNodeFactory.class.getName()).listFiles();
+        assertEquals(1, files.length);
+        assertTrue(files[0].renameTo(new File(files[0].getParentFile(), "renamed.xml")));
+
+        final FileTemplateRepository<JavaSnippetTemplate> reopened =
+            FileTemplateRepository.createProtected(folder, JavaSnippetTemplate::create);
+        final JavaSnippetTemplate found = reopened.getTemplate(UUID.fromString(template.getUUID()));
+        assertNotNull(found);
+        assertEquals("Renamed", found.getName());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.type;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.collection.ListCell;
+import org.knime.core.data.collection.ListDataValue;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.FileStoreFactory;
+
+/**
+ * Test for {@link CollectionViewUtil}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CollectionViewUtilTest {
+
+    private static final ListCell LIST =
+        CollectionCellFactory.createListCell(Arrays.asList(new DoubleCell(1.5), DataType.getMissingCell()));
+
+    /**
+     * Test that the views are offered for matching collection types only.
+     */
+    @Test
+    public void testFactoriesForSourceType() {
+        assertTrue(ConverterUtil.getFactoriesForSourceType(ListCell.getCollectionType(DoubleCell.TYPE))
+            .contains(CollectionViewUtil.toDoubleArrayFactory));
+        assertTrue(CollectionViewUtil.getFactoriesForSourceType(ListCell.getCollectionType(StringCell.TYPE))
+            .equals(Arrays.asList(CollectionViewUtil.toStringListFactory)));
+        assertTrue(CollectionViewUtil.getFactoriesForSourceType(DoubleCell.TYPE).isEmpty());
+        assertEquals(CollectionViewUtil.toDoubleListFactory, ConverterUtil
+            .getDataCellToJavaConverterFactory(CollectionViewUtil.toDoubleListFactory.getIdentifier()).get());
+    }
+
+    /**
+     * Test reading collection cells through the views.
+     * @throws Exception
+     */
+    @Test
+    public void testInput() throws Exception {
+        final double[] array = CollectionViewUtil.toDoubleArrayFactory.create().convert((CollectionDataValue)LIST);
+        assertArrayEquals(new double[]{1.5, Double.NaN}, array, 0.0);
+
+        final List<?> view = CollectionViewUtil.toDoubleListFactory.create().convert((ListDataValue)LIST);
+        assertEquals(2, view.size());
+        assertEquals(1.5, view.get(0));
+        assertNull(view.get(1));
+    }
+
+    /**
+     * Test creating collection cells from arrays and lists.
+     * @throws Exception
+     */
+    @Test
+    public void testOutput() throws Exception {
+        final DataCell fromArray = CollectionViewUtil.fromDoubleArrayFactory.create((FileStoreFactory)null)
+            .convert(new double[]{1.5, Double.NaN});
+        // NaN computed by the snippet is kept, only the list factories create missing elements
+        final ListCell arrayList = (ListCell)fromArray;
+        assertEquals(2, arrayList.size());
+        assertEquals(new DoubleCell(1.5), arrayList.get(0));
+        assertFalse(arrayList.get(1).isMissing());
+        assertTrue(Double.isNaN(((DoubleValue)arrayList.get(1)).getDoubleValue()));
+
+        final DataCell fromList = CollectionViewUtil.fromDoubleListFactory.create((FileStoreFactory)null)
+            .convert(Arrays.asList(1.5, null));
+        assertEquals(LIST, fromList);
+    }
+}
@@ -7,6 +7,7 @@
 import static org.junit.Assert.assertTrue;
 
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
 import java.util.Arrays;
 
 import org.eclipse.core.runtime.Platform;
@@ -75,7 +76,9 @@ public class BundleListPanelTest extends UiTest {
 
     /** Setup the panel */
     @Before
-    public void before() {
+    public void before() throws Exception {
+        BundleCatalogue.getInstance().whenReady().get();
+        panel.m_bundleModel.refresh();
         getTestFrame().add(panel);
         getTestFrame().setVisible(true);
     }
@@ -86,9 +89,9 @@ public void before() {
     @Test
     public void testBundleListPanel() {
         /* Test initialization */
-        assertFalse(BundleListPanel.bundleNames.isEmpty());
+        assertFalse(BundleCatalogue.getInstance().getNames().isEmpty());
 
-        final String firstBundle = BundleListPanel.bundleNames.get(0);
+        final String firstBundle = BundleCatalogue.getInstance().getNames().get(0);
 
         /* Test adding a bundle */
         assertFalse(panel.addBundle(null));
@@ -169,4 +172,36 @@ public void testBundleListPanel() {
         panel.m_tree.clearSelection();
         panel.removeSelectedBundles();
     }
+
+    /**
+     * Test searching the shared bundle catalogue.
+     */
+    @Test
+    public void testBundleCatalogueSearch() {
+        final BundleCatalogue catalogue = BundleCatalogue.getInstance();
+        assertEquals(catalogue.getNames(), catalogue.search(""));
+
+        final String bundle = catalogue.getNames().get(catalogue.getNames().size() / 2);
+        final String symbolicName = bundle.split(" ")[0];
+        assertEquals("Search should ignore case", bundle, catalogue.search(bundle.toUpperCase()).get(0));
+        final String infix = symbolicName.substring(1);
+        for (final String match : catalogue.search(infix)) {
+            assertTrue(match.toLowerCase().contains(infix.toLowerCase()));
+        }
+        assertTrue(catalogue.search(infix).contains(bundle));
+        assertTrue(catalogue.search("no bundle is named like this").isEmpty());
+    }
+
+    /**
+     * Test that bundle names differing only in case are kept and found by the search.
+     */
+    @Test
+    public void testBundleNamesDifferingInCase() {
+        final BundleCatalogue.Index index = new BundleCatalogue.Index(
+            new ArrayList<>(Arrays.asList("org.foo 1.0.0", "org.bar 1.0.0", "org.Foo 1.0.0", "org.foobar 1.0.0")));
+        assertEquals(Arrays.asList("org.bar 1.0.0", "org.Foo 1.0.0", "org.foo 1.0.0", "org.foobar 1.0.0"),
+            index.search(""));
+        assertEquals(Arrays.asList("org.Foo 1.0.0", "org.foo 1.0.0"), index.search("org.foo 1"));
+        assertEquals(Arrays.asList("org.Foo 1.0.0", "org.foo 1.0.0", "org.foobar 1.0.0"), index.search("foo"));
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.jsnippet.ui.FieldsTableModel.Column;
+import org.knime.base.node.jsnippet.util.JavaFieldList.InColGroupList;
+import org.knime.base.node.jsnippet.util.JavaSnippetFields;
+import org.knime.base.node.jsnippet.util.field.InColGroup;
+import org.knime.base.node.jsnippet.util.field.InColGroup.ElementType;
+import org.knime.base.node.jsnippet.util.field.InVar;
+import org.knime.core.data.DataTableSpec;
+
+/**
+ * Test for {@link InColGroupsTable}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class InColGroupsTableTest {
+
+    private InColGroupsTable m_table;
+
+    private InColGroupsTableModel m_model;
+
+    /** Create a table with one group */
+    @Before
+    public void before() {
+        m_table = new InColGroupsTable();
+        m_model = (InColGroupsTableModel)m_table.getTable().getModel();
+
+        final JavaSnippetFields fields = new JavaSnippetFields();
+        final InColGroup group = new InColGroup();
+        group.setKnimeName("value.*");
+        group.setJavaName("m_values");
+        group.setReplaceColumns(true);
+        fields.getInColGroupFields().add(group);
+        m_table.updateData(fields, new DataTableSpec());
+    }
+
+    /**
+     * Test that the groups defined in the table are returned.
+     */
+    @Test
+    public void testGetInColGroupFields() {
+        final InColGroupList groups = m_table.getInColGroupFields();
+        assertEquals(1, groups.size());
+        assertEquals("value.*", groups.get(0).getKnimeName());
+        assertEquals("m_values", groups.get(0).getJavaName());
+        assertEquals(ElementType.DOUBLE, groups.get(0).getElementType());
+        assertTrue(groups.get(0).getReplaceColumns());
+    }
+
+    /**
+     * Test that rows with an invalid pattern or a java name used by another field are skipped.
+     */
+    @Test
+    public void testValidation() {
+        m_model.setValueAt("value[", 0, Column.COLUMN);
+        assertFalse(m_model.validateValues());
+        assertTrue(m_table.getInColGroupFields().isEmpty());
+        m_model.setValueAt("value.*", 0, Column.COLUMN);
+        assertTrue(m_model.validateValues());
+
+        final JavaSnippetFields fields = new JavaSnippetFields();
+        final InVar inVar = new InVar();
+        inVar.setJavaName("m_values");
+        fields.getInVarFields().add(inVar);
+        m_table.setOtherFields(fields);
+        assertFalse(m_model.validateValues());
+        assertTrue(m_table.getInColGroupFields().isEmpty());
+
+        m_table.setOtherFields(new JavaSnippetFields());
+        assertTrue(m_model.validateValues());
+    }
+
+    /**
+     * Test that object arrays cannot be written back.
+     */
+    @Test
+    public void testObjectArraysAreNotWrittenBack() {
+        final int replaceIndex = m_model.getIndex(Column.REPLACE_EXISTING);
+        assertTrue(m_model.isCellEditable(0, replaceIndex));
+
+        m_model.setValueAt(Object[].class, 0, Column.JAVA_TYPE);
+        assertEquals(Boolean.FALSE, m_model.getValueAt(0, Column.REPLACE_EXISTING));
+        assertFalse(m_model.isCellEditable(0, replaceIndex));
+        assertEquals(ElementType.OBJECT, m_table.getInColGroupFields().get(0).getElementType());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.stringmanipulation.manipulator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the fusion of chains of character level manipulators.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class FusedManipulatorsTest {
+
+    private static final String[] VALUES = {"  processed   by\tKNIME  ", "a,  b , c", "", "   ", "äöü AÖÜ ß",
+        "  Grüße  aus   Zürich ", null};
+
+    private final List<Method> m_methods = new ArrayList<>();
+
+    private final List<Object[]> m_constants = new ArrayList<>();
+
+    private final List<MethodHandle> m_calls = new ArrayList<>();
+
+    private void add(final Class<?> manipulator, final String name, final Object... constants) throws Exception {
+        final Class<?>[] types = new Class<?>[constants.length + 1];
+        types[0] = String.class;
+        for (int i = 0; i < constants.length; i++) {
+            types[i + 1] = constants[i] instanceof Boolean ? boolean.class : constants[i].getClass();
+        }
+        final Method method = manipulator.getMethod(name, types);
+        m_methods.add(method);
+        m_constants.add(constants);
+        m_calls.add(MethodHandles.insertArguments(MethodHandles.publicLookup().unreflect(method), 1, constants)
+            .asType(MethodType.methodType(String.class, String.class)));
+    }
+
+    /** @return the result of calling the manipulators one by one */
+    private String callChain(final String value) throws Throwable {
+        String result = value;
+        for (MethodHandle call : m_calls) {
+            result = (String)call.invokeExact(result);
+        }
+        return result;
+    }
+
+    private void assertFusedEqualsChain() throws Throwable {
+        final MethodHandle fused = FusedManipulators.getInstance().fuse(m_methods, m_constants, m_calls);
+        Assert.assertNotNull("Chain not fused", fused);
+        for (String value : VALUES) {
+            Assert.assertEquals("Wrong result for \"" + value + "\"", callChain(value),
+                (String)fused.invokeExact(value));
+        }
+    }
+
+    /**
+     * Test a typical normalization chain.
+     *
+     * @throws Throwable if the test fails
+     */
+    @Test
+    public void testNormalization() throws Throwable {
+        add(ReplaceUmlautsManipulator.class, "replaceUmlauts", Boolean.TRUE);
+        add(RemoveDiacriticManipulator.class, "removeDiacritic");
+        add(LowerCaseManipulator.class, "lowerCase");
+        add(StripManipulator.class, "strip");
+        add(RemoveSpaceCharDuplicatesManipulator.class, "removeDuplicates");
+        assertFusedEqualsChain();
+    }
+
+    /**
+     * Test the removal of characters after stripping the end.
+     *
+     * @throws Throwable if the test fails
+     */
+    @Test
+    public void testRemoveChars() throws Throwable {
+        add(UpperCaseManipulator.class, "upperCase");
+        add(StripEndManipulator.class, "stripEnd");
+        add(RemoveCharsManipulator.class, "removeChars", ",");
+        add(StripStartManipulator.class, "stripStart");
+        add(RemoveSpaceCharsManipulator.class, "removeChars");
+        assertFusedEqualsChain();
+    }
+
+    /**
+     * Test that chains with other manipulators are not fused.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testUnsupportedManipulator() throws Exception {
+        add(LowerCaseManipulator.class, "lowerCase");
+        add(CapitalizeManipulator.class, "capitalize");
+        Assert.assertNull(FusedManipulators.getInstance().fuse(m_methods, m_constants, m_calls));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.stringmanipulation.manipulator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Basic test for the regexReplace string manipulator.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RegexReplaceManipulatorTest {
+
+    /**
+     * Test method for {@link RegexReplaceManipulator#regexReplace(String, String, String)}.
+     */
+    @Test
+    public void testRegexReplaceExamples() {
+        // Test the examples in the description of the regexReplace function
+        Assert.assertEquals("cba", RegexReplaceManipulator.regexReplace("abc", "[a-zA-Z]{3}", "cba"));
+        Assert.assertEquals("AbC", RegexReplaceManipulator.regexReplace("aBc", "[a-zA-Z]{3}", "AbC"));
+        Assert.assertEquals("ABCd", RegexReplaceManipulator.regexReplace("abcd", "[a-zA-Z]{3}", "ABC"));
+    }
+
+    /**
+     * Test that distinct patterns are applied correctly also when there are more of them than are cached.
+     */
+    @Test
+    public void testManyPatterns() {
+        for (int i = 0; i < 2 * PatternCache.MAX_SIZE + 1; i++) {
+            Assert.assertEquals("x-" + i, RegexReplaceManipulator.regexReplace("x" + i, "(?<=x)" + i + "$", "-" + i));
+        }
+        Assert.assertEquals("a_b_c", RegexReplaceManipulator.regexReplace("a b  c", "\\s+", "_"));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.text.Position;
+
+import org.junit.Test;
+
+/**
+ * Test for {@link SnippetListModel}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SnippetListModelTest {
+
+    /**
+     * Test that replacing the content fires a bounded number of events independent of the number of elements.
+     */
+    @Test
+    public void testSetElements() {
+        final SnippetListModel<String> model = new SnippetListModel<>();
+        final List<ListDataEvent> events = new ArrayList<>();
+        model.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(final ListDataEvent e) {
+                events.add(e);
+            }
+
+            @Override
+            public void intervalRemoved(final ListDataEvent e) {
+                events.add(e);
+            }
+
+            @Override
+            public void contentsChanged(final ListDataEvent e) {
+                events.add(e);
+            }
+        });
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            names.add("column" + i);
+        }
+        model.setElements(names);
+        assertEquals(1, events.size());
+        assertEquals(10000, model.getSize());
+        assertEquals("column9999", model.getElementAt(9999));
+        assertEquals("column1000", model.getPrototypeElement());
+
+        model.setElements(Arrays.asList("a"));
+        assertEquals(3, events.size());
+        assertEquals(1, model.getSize());
+    }
+
+    /**
+     * Test the type-ahead search while the prefix grows and shrinks.
+     */
+    @Test
+    public void testGetNextMatch() {
+        final SnippetListModel<String> model = new SnippetListModel<>();
+        model.setElements(Arrays.asList("Alpha", "beta", "Bravo", "alpine", "Charlie", "BRAVE"));
+        assertEquals(0, model.getNextMatch("a", 0, Position.Bias.Forward));
+        assertEquals(3, model.getNextMatch("a", 1, Position.Bias.Forward));
+        assertEquals(3, model.getNextMatch("alp", 1, Position.Bias.Forward));
+        assertEquals(-1, model.getNextMatch("alpx", 1, Position.Bias.Forward));
+        assertEquals(1, model.getNextMatch("b", 1, Position.Bias.Forward));
+        assertEquals(2, model.getNextMatch("BR", 1, Position.Bias.Forward));
+        assertEquals(5, model.getNextMatch("bra", 3, Position.Bias.Forward));
+        assertEquals(2, model.getNextMatch("bra", 4, Position.Bias.Backward));
+        // wraps around at the end of the list
+        assertEquals(0, model.getNextMatch("al", 4, Position.Bias.Forward));
+        assertEquals(3, model.getNextMatch("al", 1, Position.Bias.Forward));
+    }
+
+    /**
+     * Test that a match cache does not survive a change of the content.
+     */
+    @Test
+    public void testMatchesAfterUpdate() {
+        final SnippetListModel<String> model = new SnippetListModel<>();
+        model.setElements(Arrays.asList("x1", "y1"));
+        assertEquals(1, model.getNextMatch("y", 0, Position.Bias.Forward));
+        model.setElements(Arrays.asList("y2", "x2"));
+        assertEquals(0, model.getNextMatch("y", 0, Position.Bias.Forward));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.sun.nodes.script.expression;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.ext.sun.nodes.script.expression.Expression.FieldType;
+import org.knime.ext.sun.nodes.script.expression.Expression.InputField;
+import org.knime.ext.sun.nodes.script.settings.JavaScriptingCustomizer;
+import org.knime.ext.sun.nodes.script.settings.JavaScriptingSettings;
+
+/**
+ * Test for {@link Expression}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ExpressionTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("a", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("b", IntCell.TYPE).createSpec());
+
+    /**
+     * Compiles the expression and evaluates it for the given column values.
+     *
+     * @param version the expression version
+     * @param header the header, a non-blank header forces compilation
+     * @param expression the expression
+     * @param returnType the name of the return type
+     * @param a the value of column "a"
+     * @param b the value of column "b"
+     * @return the result
+     * @throws Exception if compilation or evaluation fails
+     */
+    static Object evaluate(final int version, final String header, final String expression, final String returnType,
+        final Double a, final Integer b) throws Exception {
+        final JavaScriptingSettings settings = new JavaScriptingSettings(new JavaScriptingCustomizer());
+        settings.setExpressionVersion(version);
+        settings.setHeader(header);
+        settings.setExpression(expression);
+        settings.setReturnType(returnType);
+        try (Expression compiled = Expression.compile(settings, SPEC)) {
+            final ExpressionInstance instance = compiled.getInstance();
+            final Map<InputField, Object> values = new HashMap<>();
+            values.put(new InputField("a", FieldType.Column), a);
+            values.put(new InputField("b", FieldType.Column), b);
+            instance.set(values);
+            return instance.evaluate();
+        }
+    }
+
+    /**
+     * Test that an expression of the current version is compiled against the support classes, which are not on the
+     * class path of the compiler.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCompile() throws Exception {
+        assertEquals(7.0,
+            evaluate(Expression.VERSION_2X, "// compiled", "return $a$ * 2 + Math.max($b$, 1);", "java.lang.Double",
+                2.0, 3));
+    }
+
+    /**
+     * Test that a legacy expression is compiled against the support classes.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCompileVersion1() throws Exception {
+        assertEquals(7.0, evaluate(Expression.VERSION_1X, "", "$a$ * 2 + Math.max($b$, 1)", "java.lang.Double",
+            2.0, 3));
+    }
+
+    /**
+     * Test that the {@link Abort} thrown by a compiled expression reaches the caller.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCompiledAbort() throws Exception {
+        try {
+            evaluate(Expression.VERSION_2X, "// compiled", "if ($b$ > 0) { throw new Abort(\"stop\"); } return $b$;",
+                "java.lang.Integer", 1.0, 1);
+            fail("Abort expected");
+        } catch (Abort e) {
+            assertEquals("stop", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.ext.sun.nodes.script.expression;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.ext.sun.nodes.script.expression.Expression.FieldType;
+import org.knime.ext.sun.nodes.script.expression.Expression.InputField;
+import org.knime.ext.sun.nodes.script.expression.ExpressionInstance.FieldSetter;
+import org.knime.ext.sun.nodes.script.settings.JavaScriptingCustomizer;
+import org.knime.ext.sun.nodes.script.settings.JavaScriptingSettings;
+
+/**
+ * Test that interpreted expressions give the same results as compiled ones. An expression without header is
+ * interpreted if possible, the same expression with a header is always compiled.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class InterpretedExpressionTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("a", DoubleCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("b", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("s", StringCell.TYPE).createSpec());
+
+    private static final String[] IMPORTS = {"java.util.*", "static java.lang.Math.*", "static java.lang.String.*",
+        "static java.lang.Character.toUpperCase", "static java.lang.Character.isDigit",
+        "static java.lang.Integer.parseInt"};
+
+    private static final String STRING = "java.lang.String";
+
+    /**
+     * Evaluates the expression for one row.
+     *
+     * @param header the header, a non-blank header forces compilation
+     * @param isPure whether the statically imported methods are declared pure
+     * @param isInterpreted whether the expression is expected to be interpreted
+     * @return the result as "class:value" or the class of the exception thrown by the expression
+     */
+    static String evaluate(final String header, final boolean isPure, final boolean isInterpreted,
+        final String expression, final String returnType, final Double a, final Integer b, final String s)
+        throws Exception {
+        final JavaScriptingSettings settings = new JavaScriptingSettings(new JavaScriptingCustomizer());
+        settings.setHeader(header);
+        settings.setExpression(expression);
+        settings.setReturnType(returnType);
+        settings.setImports(IMPORTS);
+        settings.setStaticImportsPure(isPure);
+        try (Expression compiled = Expression.compile(settings, SPEC)) {
+            assertEquals(expression, isInterpreted, compiled.isInterpreted());
+            final ExpressionInstance instance = compiled.getInstance();
+            final Map<InputField, Object> values = new HashMap<>();
+            values.put(new InputField("a", FieldType.Column), a);
+            values.put(new InputField("b", FieldType.Column), b);
+            values.put(new InputField("s", FieldType.Column), s);
+            instance.set(values);
+            try {
+                final Object result = instance.evaluate();
+                return result == null ? "null" : result.getClass().getName() + ":" + result;
+            } catch (EvaluationFailedException e) {
+                // the messages of the same exception may differ, e.g. of a NullPointerException
+                return "throws " + e.getCause().getClass().getName();
+            }
+        }
+    }
+
+    /**
+     * Asserts that the expression is interpreted and gives the same result as the compiled expression.
+     *
+     * @return the result, see {@link #evaluate(String, boolean, boolean, String, String, Double, Integer, String)}
+     */
+    static String assertInterpreted(final boolean isPure, final String expression, final String returnType,
+        final Double a, final Integer b, final String s) throws Exception {
+        final String compiled = evaluate("// compiled", isPure, false, expression, returnType, a, b, s);
+        final String interpreted = evaluate("", isPure, true, expression, returnType, a, b, s);
+        assertEquals(expression, compiled, interpreted);
+        return interpreted;
+    }
+
+    private static String assertInterpreted(final String expression, final String returnType) throws Exception {
+        return assertInterpreted(false, expression, returnType, -1.5, 3, "x");
+    }
+
+    /** Asserts that the expression is compiled although it has no header. */
+    private static String assertCompiled(final String expression, final String returnType) throws Exception {
+        return evaluate("", false, false, expression, returnType, -1.5, 3, "x");
+    }
+
+    /**
+     * Test that overloaded methods are resolved like the compiler does.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOverloads() throws Exception {
+        assertEquals("java.lang.String:3", assertInterpreted("return valueOf(max($b$, 2));", STRING));
+        assertEquals("java.lang.String:3", assertInterpreted("return valueOf(max($b$, 2L));", STRING));
+        assertEquals("java.lang.String:3.0", assertInterpreted("return valueOf(max($b$, 2.5));", STRING));
+        // char is preferred over int, which would return 65
+        assertEquals("java.lang.String:A", assertInterpreted("return valueOf(toUpperCase('a'));", STRING));
+        assertEquals("java.lang.String:66", assertInterpreted("return valueOf(toUpperCase(98));", STRING));
+        assertEquals("java.lang.Boolean:true", assertInterpreted("return isDigit('7');", "java.lang.Boolean"));
+    }
+
+    /**
+     * Test boxing and unboxing of arguments and results.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testBoxing() throws Exception {
+        assertEquals("java.lang.Double:1.5", assertInterpreted("return abs($a$);", "java.lang.Double"));
+        assertEquals("java.lang.String:-1.5", assertInterpreted("return valueOf($a$);", STRING));
+        assertEquals("java.lang.Integer:3", assertInterpreted("return max($b$, 1);", "java.lang.Integer"));
+        assertEquals("java.lang.Long:9000000000",
+            assertInterpreted("return max(9000000000L, $b$);", "java.lang.Long"));
+    }
+
+    /**
+     * Test methods with variable arity.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testVarArgs() throws Exception {
+        assertEquals("java.lang.String:x-3-c",
+            assertInterpreted("return format(\"%s-%d-%s\", $s$, $b$, 'c');", STRING));
+        assertEquals("java.lang.String:x-y-z", assertInterpreted("return join(\"-\", $s$, \"y\", \"z\");", STRING));
+        assertEquals("java.lang.String:none", assertInterpreted("return format(\"none\");", STRING));
+    }
+
+    /**
+     * Test the <code>null</code> literal and missing values.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testNull() throws Exception {
+        assertEquals("java.lang.String:null-x", assertInterpreted("return join(\"-\", null, $s$);", STRING));
+        // valueOf(char[]) is more specific than valueOf(Object)
+        assertEquals("throws java.lang.NullPointerException", assertInterpreted("return valueOf(null);", STRING));
+        assertEquals("java.lang.String:null",
+            assertInterpreted(false, "return valueOf($s$);", STRING, -1.5, 3, null));
+        assertEquals("throws java.lang.NullPointerException",
+            assertInterpreted(false, "return abs($a$);", "java.lang.Double", null, 3, "x"));
+    }
+
+    /**
+     * Test char, long and double literals and escape sequences.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testLiterals() throws Exception {
+        assertEquals("java.lang.String:'", assertInterpreted("return valueOf('\\'');", STRING));
+        assertEquals("java.lang.String:9000000000", assertInterpreted("return valueOf(9000000000L);", STRING));
+        assertEquals("java.lang.String:-9000000000", assertInterpreted("return valueOf(-9000000000L);", STRING));
+        assertEquals("java.lang.String:1500.0", assertInterpreted("return valueOf(1.5e3);", STRING));
+        assertEquals("java.lang.String:2.0", assertInterpreted("return valueOf(2d);", STRING));
+        assertEquals("java.lang.String:1.0", assertInterpreted("return valueOf(1.);", STRING));
+        assertEquals("java.lang.String:a\tb\\c\"x\"\n",
+            assertInterpreted("return format(\"a\\tb\\\\c\\\"%s\\\"\\n\", 'x');", STRING));
+    }
+
+    /**
+     * Test that exceptions thrown by the methods reach the caller.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testException() throws Exception {
+        assertEquals("throws java.lang.NumberFormatException",
+            assertInterpreted("return valueOf(parseInt($s$));", STRING));
+        assertEquals("java.lang.String:12",
+            assertInterpreted(false, "return valueOf(parseInt($s$));", STRING, -1.5, 3, "12"));
+    }
+
+    /**
+     * Test that calls with constant arguments, which are evaluated while parsing, give the same results.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFolding() throws Exception {
+        assertEquals("java.lang.String:3",
+            assertInterpreted(true, "return valueOf(max(2, 3L));", STRING, -1.5, 3, "x"));
+        // the call fails while parsing, the exception is thrown when evaluating the row
+        assertEquals("throws java.lang.ArithmeticException",
+            assertInterpreted(true, "return format(\"%s %s\", parseInt($s$), addExact(2147483647, 1));", STRING,
+                -1.5, 3, "1"));
+        // ... and only if the arguments before it are evaluated without exception
+        assertEquals("throws java.lang.NumberFormatException",
+            assertInterpreted(true, "return format(\"%s %s\", parseInt($s$), addExact(2147483647, 1));", STRING,
+                -1.5, 3, "x"));
+    }
+
+    /**
+     * Test that calls occurring more than once, which are evaluated once per row, give the same results and throw
+     * the same exception as the compiled expression, which evaluates from left to right.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRepeatedCalls() throws Exception {
+        assertEquals("java.lang.String:1.5-1.5-1.5", assertInterpreted(true,
+            "return join(\"-\", valueOf(abs($a$)), valueOf(abs($a$)), valueOf(abs($a$)));", STRING, -1.5, 3, "x"));
+        final String nested = "return join(\"-\", valueOf(max(parseInt($s$), $b$)), "
+            + "valueOf(max(parseInt($s$), $b$)), valueOf(parseInt($s$)));";
+        assertEquals("java.lang.String:12-12-12", assertInterpreted(true, nested, STRING, -1.5, 3, "12"));
+        assertEquals("java.lang.String:3-3-1", assertInterpreted(true, nested, STRING, -1.5, 3, "1"));
+        // the repeated call comes after the failing one
+        assertEquals("throws java.lang.ArithmeticException", assertInterpreted(true,
+            "return format(\"%s %s %s\", floorMod($b$, 0), parseInt($s$), parseInt($s$));", STRING, -1.5, 3, "x"));
+        // the repeated call fails for constant arguments
+        final String constant =
+            "return format(\"%s %s %s\", parseInt($s$), addExact(2147483647, 1), addExact(2147483647, 1));";
+        assertEquals("throws java.lang.NumberFormatException",
+            assertInterpreted(true, constant, STRING, -1.5, 3, "x"));
+        assertEquals("throws java.lang.ArithmeticException", assertInterpreted(true, constant, STRING, -1.5, 3, "1"));
+    }
+
+    /**
+     * Test that the results of repeated calls are not kept between rows.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRepeatedCallsOfManyRows() throws Exception {
+        final JavaScriptingSettings settings = new JavaScriptingSettings(new JavaScriptingCustomizer());
+        settings.setExpression("return join(\"-\", valueOf(parseInt($s$)), valueOf(parseInt($s$)));");
+        settings.setReturnType(STRING);
+        settings.setImports(IMPORTS);
+        settings.setStaticImportsPure(true);
+        try (Expression expression = Expression.compile(settings, SPEC)) {
+            assertTrue(expression.isInterpreted());
+            final ExpressionInstance instance = expression.getInstance();
+            final FieldSetter setter = instance.getFieldSetter(new InputField("s", FieldType.Column));
+            setter.set("12");
+            assertEquals("12-12", instance.evaluate());
+            setter.set("x");
+            try {
+                instance.evaluate();
+                fail("NumberFormatException expected");
+            } catch (EvaluationFailedException e) {
+                assertTrue(e.getCause() instanceof NumberFormatException);
+            }
+            setter.set("34");
+            assertEquals("34-34", instance.evaluate());
+        }
+    }
+
+    /**
+     * Test that expressions beyond nested calls are compiled.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testFallback() throws Exception {
+        assertEquals("java.lang.Integer:4", assertCompiled("return $b$ + 1;", "java.lang.Integer"));
+        assertEquals("java.lang.Integer:5", assertCompiled("return Math.max($b$, 5);", "java.lang.Integer"));
+        assertEquals("java.lang.String:-3", assertCompiled("return valueOf(-$b$);", STRING));
+        assertEquals("java.lang.String:8", assertCompiled("return valueOf(010);", STRING));
+        assertEquals("java.lang.String:.5", assertCompiled("return valueOf(.5).substring(1);", STRING));
+        assertEquals("java.lang.String:1", assertCompiled("int x = 1; return valueOf(x);", STRING));
+        assertEquals("java.lang.String:x", assertCompiled("return valueOf(new StringBuilder($s$));", STRING));
+    }
+}
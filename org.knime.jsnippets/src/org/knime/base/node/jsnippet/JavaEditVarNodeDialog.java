@@ -60,6 +60,7 @@
 import org.knime.base.node.jsnippet.ui.FieldsTableModel;
 import org.knime.base.node.jsnippet.ui.FieldsTableModel.Column;
 import org.knime.base.node.jsnippet.ui.FlowVariableList;
+import org.knime.base.node.jsnippet.ui.InColGroupsTable;
 import org.knime.base.node.jsnippet.ui.InFieldsTable;
 import org.knime.base.node.jsnippet.ui.OutFieldsTable;
 import org.knime.base.node.jsnippet.util.JavaSnippetSettings;
@@ -122,6 +123,15 @@ protected InFieldsTable createInFieldsTable() {
         return table;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected InColGroupsTable createInColGroupsTable() {
+        // there is no input table
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.knime.base.node.jsnippet.expression.AbstractJSnippet;
+import org.knime.base.node.jsnippet.expression.AbstractJSnippetRowFilter;
+import org.knime.base.node.jsnippet.util.FlowVariableRepository;
+import org.knime.base.node.jsnippet.util.ValidationReport;
+import org.knime.base.node.jsnippet.util.field.InColGroup;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * A java snippet deciding for every row whether it is included, used by the Java Snippet Row Filter and Row Splitter
+ * nodes. The snippet extends {@link AbstractJSnippetRowFilter} and assigns its <code>INCLUDE</code> field. Output
+ * columns are not supported, output flow variables are.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ */
+public class JavaRowFilterSnippet extends JavaSnippet {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Class<? extends AbstractJSnippet> getSnippetBaseClass() {
+        return AbstractJSnippetRowFilter.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String[] getSystemImports() {
+        final String[] imports = super.getSystemImports();
+        final String[] filterImports = Arrays.copyOf(imports, imports.length + 1);
+        filterImports[imports.length] = AbstractJSnippetRowFilter.class.getName();
+        return filterImports;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ValidationReport validateSettings(final DataTableSpec spec,
+        final FlowVariableRepository flowVariableRepository) {
+        final ValidationReport report = super.validateSettings(spec, flowVariableRepository);
+        final List<String> errors = new ArrayList<>(Arrays.asList(report.getErrors()));
+        if (getSystemFields().getOutColFields().size() > 0) {
+            errors.add("Output columns are not supported when filtering rows.");
+        }
+        for (final InColGroup field : getSystemFields().getInColGroupFields()) {
+            if (field.getReplaceColumns()) {
+                errors.add("The column group of the field \"" + field.getJavaName()
+                    + "\" cannot replace columns when filtering rows.");
+            }
+        }
+        return new ValidationReport(errors.toArray(new String[errors.size()]), report.getWarnings());
+    }
+
+    /**
+     * Run the snippet for every row of the input and push the row to the output of included or excluded rows. Rows
+     * for which the snippet fails are treated as excluded. Both outputs are closed when all rows are processed.
+     *
+     * @param input the rows at the inport
+     * @param included the output for included rows
+     * @param excluded the output for excluded rows, may be null
+     * @param flowVariableRepository the flow variables at the inport
+     * @param rowCount the number of rows of the input or -1 if unknown
+     * @param exec the execution context to report progress, may be null
+     * @throws InterruptedException when interrupted while pushing rows to an output
+     * @throws CanceledExecutionException when execution is canceled by the user
+     */
+    public void filter(final RowInput input, final RowOutput included, final RowOutput excluded,
+        final FlowVariableRepository flowVariableRepository, final long rowCount, final ExecutionContext exec)
+        throws InterruptedException, CanceledExecutionException {
+        final JavaSnippetCellFactory factory = new JavaSnippetCellFactory(this, input.getDataTableSpec(),
+            flowVariableRepository, (int)Math.min(rowCount, Integer.MAX_VALUE), exec);
+        final AbstractJSnippetRowFilter jsnippet = (AbstractJSnippetRowFilter)factory.getSnippetInstance();
+        try {
+            long rowIndex = 0;
+            DataRow row;
+            while ((row = input.poll()) != null) {
+                if (exec != null) {
+                    exec.checkCanceled();
+                    if (rowCount > 0) {
+                        factory.setProgress(rowIndex, rowCount, row.getKey(), exec);
+                    }
+                }
+                jsnippet.INCLUDE = true;
+                factory.getCells(row);
+                if (!factory.hasLastRowFailed() && jsnippet.INCLUDE) {
+                    included.push(row);
+                } else if (excluded != null) {
+                    excluded.push(row);
+                }
+                rowIndex++;
+            }
+        } finally {
+            factory.afterProcessing();
+        }
+        input.close();
+        included.close();
+        if (excluded != null) {
+            excluded.close();
+        }
+    }
+}
@@ -61,6 +61,7 @@
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -80,6 +81,7 @@
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -109,6 +111,7 @@
 import org.knime.base.node.jsnippet.expression.TypeException;
 import org.knime.base.node.jsnippet.guarded.JavaSnippetDocument;
 import org.knime.base.node.jsnippet.template.JavaSnippetTemplate;
+import org.knime.base.node.jsnippet.type.CollectionViewUtil;
 import org.knime.base.node.jsnippet.type.ConverterUtil;
 import org.knime.base.node.jsnippet.ui.JSnippetParser;
 import org.knime.base.node.jsnippet.util.FlowVariableRepository;
@@ -121,16 +124,15 @@
 import org.knime.base.node.jsnippet.util.JavaSnippetUtil;
 import org.knime.base.node.jsnippet.util.ValidationReport;
 import org.knime.base.node.jsnippet.util.field.InCol;
+import org.knime.base.node.jsnippet.util.field.InColGroup;
 import org.knime.base.node.jsnippet.util.field.InVar;
 import org.knime.base.node.jsnippet.util.field.JavaField;
 import org.knime.base.node.jsnippet.util.field.OutCol;
 import org.knime.base.node.jsnippet.util.field.OutVar;
-import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
-import org.knime.core.data.RowKey;
 import org.knime.core.data.container.CellFactory;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.convert.datacell.ArrayToCollectionConverterFactory;
@@ -142,7 +144,6 @@
 import org.knime.core.data.convert.util.ClassUtil;
 import org.knime.core.data.convert.util.MultiParentClassLoader;
 import org.knime.core.data.date.DateAndTimeCell;
-import org.knime.core.data.def.DefaultRow;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -151,6 +152,7 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.util.FileUtil;
+import org.knime.ext.sun.nodes.script.compile.JavaCodeCompiler;
 import org.knime.rsyntaxtextarea.guarded.GuardedDocument;
 import org.knime.rsyntaxtextarea.guarded.GuardedSection;
 import org.osgi.framework.Bundle;
@@ -161,12 +163,13 @@
 
 /**
  * The java snippet which can be controlled by changing the settings, fields and jar-files to be included or by changing
- * the contents of the snippets document. The document is a java class which is compiled for execution.
+ * the contents of the snippets document. The document is a java class which is compiled for execution. Subclasses
+ * may provide a different base class of the snippet, see {@link #getSnippetBaseClass()}.
  *
  * @author Heiko Hofer
  */
 @SuppressWarnings("restriction")
-public final class JavaSnippet implements JSnippet<JavaSnippetTemplate> {
+public class JavaSnippet implements JSnippet<JavaSnippetTemplate> {
 
     /**
      * Check whether a given source version sufficiently matches a certain target version.
@@ -184,16 +187,24 @@ public static boolean versionMatches(final Version source, final Version target)
     private static class SnippetCache {
         private String m_snippetCode;
 
+        /** The language level the snippet class was compiled for */
+        private String m_javaVersion;
+
         private Class<? extends AbstractJSnippet> m_snippetClass;
 
         /** ClassLoader used to load the compiled JavaSnippet class */
         private URLClassLoader m_classLoader;
 
-        private boolean m_hasCustomFields;
+        /** The custom type class loaders the snippet class was loaded with */
+        private List<ClassLoader> m_customTypeLoaders = Collections.emptyList();
+
+        private boolean m_hasStaticCustomFields;
 
         void invalidate() {
             m_snippetCode = null;
+            m_javaVersion = null;
             m_snippetClass = null;
+            m_customTypeLoaders = Collections.emptyList();
             if (m_classLoader != null) {
                 // The class loader may still have opened some jar files which lie in
                 // temporary directories, because downloaded from an external URL.
@@ -206,46 +217,65 @@ void invalidate() {
             }
         }
 
-        boolean isValid(final Document snippetDoc) {
+        boolean isValid(final Document snippetDoc, final String javaVersion) {
 
             try {
                 String currentCode = snippetDoc.getText(0, snippetDoc.getLength());
-                return m_snippetClass != null && Objects.equals(currentCode, m_snippetCode);
+                return m_snippetClass != null && Objects.equals(currentCode, m_snippetCode)
+                    && Objects.equals(javaVersion, m_javaVersion);
             } catch (BadLocationException ex) {
                 return false;
             }
         }
 
-        boolean hasCustomFields() {
-            return m_hasCustomFields;
+        /**
+         * @return whether the snippet declares static custom fields, whose state must not leak from one execution
+         *         to the next. Such snippets need to be reloaded for every execution.
+         */
+        boolean hasStaticCustomFields() {
+            return m_hasStaticCustomFields;
         }
 
-        Class<? extends AbstractJSnippet> update(final Document snippetDoc,
+        /**
+         * @param customTypeLoaders the custom type class loaders the snippet class would be loaded with now
+         * @return whether the cached class was loaded with exactly these class loaders (in this order)
+         */
+        boolean isLoadedWith(final Collection<ClassLoader> customTypeLoaders) {
+            return m_customTypeLoaders.equals(new ArrayList<>(customTypeLoaders));
+        }
+
+        Class<? extends AbstractJSnippet> update(final Document snippetDoc, final String javaVersion,
             final JavaSnippetSettings settings, final JavaSnippetCompiler compiler,
-            final MultiParentClassLoader customTypeLoader) {
+            final Collection<ClassLoader> customTypeLoaders) {
             try {
+                final MultiParentClassLoader customTypeLoader =
+                    new MultiParentClassLoader(customTypeLoaders.stream().toArray(ClassLoader[]::new));
                 URLClassLoader classLoader = compiler.createClassLoader(customTypeLoader);
                 @SuppressWarnings("unchecked")
                 Class<? extends AbstractJSnippet> snippetClass =
                     (Class<? extends AbstractJSnippet>)classLoader.loadClass("JSnippet");
                 String snippetCode = snippetDoc.getText(0, snippetDoc.getLength());
 
-                boolean hasCustomFields = false;
+                boolean hasStaticCustomFields = false;
                 JavaSnippetFields systemFields = settings.getJavaSnippetFields();
                 for (Field f : snippetClass.getDeclaredFields()) {
-                    if (!isSystemField(systemFields.getInColFields(), f.getName())
+                    if (Modifier.isStatic(f.getModifiers())
+                        && !isSystemField(systemFields.getInColFields(), f.getName())
                         && !isSystemField(systemFields.getOutColFields(), f.getName())
                         && !isSystemField(systemFields.getInVarFields(), f.getName())
-                        && !isSystemField(systemFields.getOutVarFields(), f.getName())) {
-                        hasCustomFields = true;
+                        && !isSystemField(systemFields.getOutVarFields(), f.getName())
+                        && !isSystemField(systemFields.getInColGroupFields(), f.getName())) {
+                        hasStaticCustomFields = true;
                         break;
                     }
 
                 }
                 m_snippetCode = snippetCode;
+                m_javaVersion = javaVersion;
                 m_classLoader = classLoader;
                 m_snippetClass = snippetClass;
-                m_hasCustomFields = hasCustomFields;
+                m_customTypeLoaders = new ArrayList<>(customTypeLoaders);
+                m_hasStaticCustomFields = hasStaticCustomFields;
                 return m_snippetClass;
             } catch (BadLocationException ex) {
                 throw new IllegalStateException("Unable to read snippet source", ex);
@@ -307,6 +337,12 @@ Class<? extends AbstractJSnippet> getSnippetClass() {
 
     private final SnippetCache m_snippetCache = new SnippetCache();
 
+    /**
+     * Cached executor for snippets without input table, used by the Java Edit Variable node. It holds the snippet
+     * class and is dropped whenever the code, the class path or the fields change.
+     */
+    private volatile JavaSnippetFlowVariableExecutor m_flowVariableExecutor;
+
     /**
      * Create a new snippet.
      */
@@ -327,8 +363,9 @@ public JavaSnippet() {
     /**
      * Invalidates the currently compiled classes and resets any class loader (releasing resources).
      */
-    public void invalidate() {
+    public synchronized void invalidate() {
         m_snippetCache.invalidate();
+        m_flowVariableExecutor = null;
     }
 
     /**
@@ -449,6 +486,21 @@ public Iterable<? extends JavaFileObject> getCompilationUnits() throws IOExcepti
         return Collections.singletonList(m_snippet);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Falls back to the language level of the running JVM if the configured level is not supported in this
+     * installation.
+     */
+    @Override
+    public String getJavaVersion() {
+        final String javaVersion = m_settings == null ? null : m_settings.getJavaVersion();
+        if (JavaCodeCompiler.isSupportedJavaVersion(javaVersion)) {
+            return JavaCodeCompiler.normalizeJavaVersion(javaVersion);
+        }
+        return JavaCodeCompiler.getRuntimeJavaVersion();
+    }
+
     @Override
     public boolean isSnippetSource(final JavaFileObject source) {
         return null != m_snippet ? source.equals(m_snippet) : false;
@@ -642,16 +694,19 @@ public GuardedDocument getDocument() {
                 @Override
                 public void removeUpdate(final DocumentEvent e) {
                     m_dirty = true;
+                    m_flowVariableExecutor = null;
                 }
 
                 @Override
                 public void insertUpdate(final DocumentEvent e) {
                     m_dirty = true;
+                    m_flowVariableExecutor = null;
                 }
 
                 @Override
                 public void changedUpdate(final DocumentEvent e) {
                     m_dirty = true;
+                    m_flowVariableExecutor = null;
                 }
             });
             initDocument(m_document);
@@ -698,7 +753,9 @@ private void initGuardedSections(final GuardedDocument doc) {
     private String createFieldsSection() {
         StringBuilder out = new StringBuilder();
         out.append("// system variables\n");
-        out.append("public class JSnippet extends AbstractJSnippet {\n");
+        out.append("public class JSnippet extends ");
+        out.append(getSnippetBaseClass().getSimpleName());
+        out.append(" {\n");
         if (m_fields.getInColFields().size() > 0) {
             out.append("  // Fields for input columns\n");
             for (InCol field : m_fields.getInColFields()) {
@@ -708,6 +765,15 @@ private String createFieldsSection() {
                 appendFields(out, field);
             }
         }
+        if (m_fields.getInColGroupFields().size() > 0) {
+            out.append("  // Fields for input column groups\n");
+            for (InColGroup field : m_fields.getInColGroupFields()) {
+                out.append("  /** Input columns matching: \"");
+                out.append(field.getKnimeName());
+                out.append("\" */\n");
+                appendFields(out, field);
+            }
+        }
         if (m_fields.getInVarFields().size() > 0) {
             out.append("  // Fields for input flow variables\n");
             for (InVar field : m_fields.getInVarFields()) {
@@ -773,6 +839,7 @@ private String createImportsSection() {
         fields.addAll(m_fields.getOutColFields());
         fields.addAll(m_fields.getInVarFields());
         fields.addAll(m_fields.getOutVarFields());
+        fields.addAll(m_fields.getInColGroupFields());
 
         final Set<String> fieldImports = new LinkedHashSet<>();
         for (JavaField field : fields) {
@@ -819,6 +886,17 @@ public Parser getParser() {
         return m_parser;
     }
 
+    /**
+     * Get the class the snippet class extends. Override this method together with {@link #getSystemImports()} to
+     * provide additional fields or methods to the snippet.
+     *
+     * @return the base class of the snippet
+     * @since 4.3
+     */
+    protected Class<? extends AbstractJSnippet> getSnippetBaseClass() {
+        return AbstractJSnippet.class;
+    }
+
     /**
      * Get the list of default imports. Override this method to append or modify this list.
      *
@@ -913,6 +991,53 @@ public ValidationReport validateSettings(final DataTableSpec spec,
             }
         }
 
+        // check input column groups
+        final Set<String> javaNames = Stream
+            .of(m_fields.getInColFields(), m_fields.getInVarFields(), m_fields.getOutColFields(),
+                m_fields.getOutVarFields())
+            .flatMap(List::stream).map(JavaField::getJavaName).collect(Collectors.toSet());
+        for (InColGroup field : m_fields.getInColGroupFields()) {
+            if (!javaNames.add(field.getJavaName())) {
+                errors.add("The java field name \"" + field.getJavaName() + "\" of the column group \""
+                    + field.getKnimeName() + "\" is already used by another field.");
+            }
+            final int[] indices;
+            try {
+                indices = field.findColumnIndices(spec);
+            } catch (PatternSyntaxException e) {
+                errors.add("The column pattern \"" + field.getKnimeName() + "\" of the field \"" + field.getJavaName()
+                    + "\" is not a valid regular expression: " + e.getDescription());
+                continue;
+            }
+            if (indices.length == 0) {
+                warnings.add("No column in the input table matches the pattern \"" + field.getKnimeName()
+                    + "\" of the field \"" + field.getJavaName() + "\".");
+            }
+            final DataType outputType = field.getElementType().getOutputType();
+            if (field.getReplaceColumns() && outputType == null) {
+                errors.add("The field \"" + field.getJavaName() + "\" cannot replace its input columns, "
+                    + "only double and string arrays can be written back.");
+            } else if (field.getReplaceColumns()) {
+                // writing back would change the type of e.g. integer columns
+                final List<String> others = Arrays.stream(indices).mapToObj(spec::getColumnSpec)
+                    .filter(c -> !c.getType().equals(outputType)).map(DataColumnSpec::getName)
+                    .collect(Collectors.toList());
+                if (!others.isEmpty()) {
+                    errors.add("The field \"" + field.getJavaName() + "\" can only be written back to columns of "
+                        + "type \"" + outputType + "\", but the pattern \"" + field.getKnimeName()
+                        + "\" also matches " + others.stream().collect(Collectors.joining("\", \"", "\"", "\""))
+                        + ".");
+                }
+            }
+        }
+        if (!m_fields.getInColGroupFields().isEmpty()) {
+            try {
+                getReplacedColumns(spec);
+            } catch (InvalidSettingsException e) {
+                errors.add(e.getMessage());
+            }
+        }
+
         // check output variables
         for (OutVar field : m_fields.getOutVarFields()) {
             FlowVariable var = flowVariableRepository.getFlowVariable(field.getKnimeName());
@@ -958,6 +1083,14 @@ public ValidationReport validateSettings(final DataTableSpec spec,
             }
         }
 
+        // Check language level
+        final String javaVersion = m_settings.getJavaVersion();
+        if (!JavaCodeCompiler.isSupportedJavaVersion(javaVersion)) {
+            warnings.add(String.format(
+                "Java version \"%s\" is not supported by this installation, the snippet is compiled for Java %s.",
+                javaVersion, getJavaVersion()));
+        }
+
         try {
             // test if snippet compiles and if the file can be created
             // also checks additional jar files.
@@ -1009,7 +1142,7 @@ public DataTableSpec configure(final DataTableSpec spec, final FlowVariableRepos
     public BufferedDataTable execute(final BufferedDataTable table, final FlowVariableRepository flowVariableRepository,
         final ExecutionContext exec) throws CanceledExecutionException, InvalidSettingsException {
         final OutColList outFields = m_fields.getOutColFields();
-        if (outFields.size() > 0) {
+        if (outFields.size() > 0 || getReplacedColumns(table.getDataTableSpec()).length > 0) {
             final ColumnRearranger rearranger =
                 createRearranger(table.getDataTableSpec(), flowVariableRepository, table.getRowCount(), exec);
             return exec.createColumnRearrangeTable(table, rearranger, exec);
@@ -1035,10 +1168,15 @@ public BufferedDataTable execute(final BufferedDataTable table, final FlowVariab
      * @param flowVariableRepository flow variables at the input
      * @param exec the execution context to report progress, may be null when this method is called from configure
      */
-    public void execute(final FlowVariableRepository flowVariableRepository, final ExecutionContext exec) {
-        DataTableSpec spec = new DataTableSpec();
-        CellFactory factory = new JavaSnippetCellFactory(this, spec, flowVariableRepository, 1, exec);
-        factory.getCells(new DefaultRow(RowKey.createRowKey(0L), new DataCell[0]));
+    public synchronized void execute(final FlowVariableRepository flowVariableRepository,
+        final ExecutionContext exec) {
+        JavaSnippetFlowVariableExecutor executor = m_flowVariableExecutor;
+        if (executor == null || !executor.isFor(m_fields)) {
+            executor = new JavaSnippetFlowVariableExecutor(createSnippetClass(), m_fields);
+            // static custom fields must be reset by reloading the class for every execution
+            m_flowVariableExecutor = m_snippetCache.hasStaticCustomFields() ? null : executor;
+        }
+        executor.execute(this, flowVariableRepository, m_logger);
     }
 
     /** The rearranger is the working horse for creating the output table. */
@@ -1051,24 +1189,57 @@ ColumnRearranger createRearranger(final DataTableSpec spec, final FlowVariableRe
         c.append(factory);
 
         // define which new columns do replace others
-        OutColList outFields = m_fields.getOutColFields();
-        for (int i = outFields.size() - 1; i >= 0; i--) {
-            OutCol field = outFields.get(i);
-            int index = spec.findColumnIndex(field.getKnimeName());
-            if (index >= 0) {
-                if (field.getReplaceExisting()) {
-                    c.remove(index);
-                    c.move(offset + i - 1, index);
-                } else {
-                    throw new InvalidSettingsException(
-                        "Field \"" + field.getJavaName() + "\" is configured to " + "replace no existing columns.");
-                }
+        final int[] replaced = getReplacedColumns(spec);
+        for (int i = replaced.length - 1; i >= 0; i--) {
+            if (replaced[i] >= 0) {
+                c.remove(replaced[i]);
+                c.move(offset + i - 1, replaced[i]);
             }
         }
 
         return c;
     }
 
+    /**
+     * Get the input columns replaced by the cells of the cell factory. These are the output columns followed by the
+     * columns of the column groups which write back their array.
+     *
+     * @param spec the spec of the data table at the inport
+     * @return for every cell created by the cell factory the index of the replaced input column or -1 for new columns
+     * @throws InvalidSettingsException if an output column is not configured to replace an existing column or if a
+     *             column would be replaced twice
+     */
+    private int[] getReplacedColumns(final DataTableSpec spec) throws InvalidSettingsException {
+        final List<Integer> replaced = new ArrayList<>();
+        for (final OutCol field : m_fields.getOutColFields()) {
+            final int index = spec.findColumnIndex(field.getKnimeName());
+            if (index >= 0 && !field.getReplaceExisting()) {
+                throw new InvalidSettingsException(
+                    "Field \"" + field.getJavaName() + "\" is configured to " + "replace no existing columns.");
+            }
+            replaced.add(index);
+        }
+        for (final InColGroup field : m_fields.getInColGroupFields()) {
+            if (field.getReplaceColumns() && field.getElementType().getOutputType() != null) {
+                final int[] indices;
+                try {
+                    indices = field.findColumnIndices(spec);
+                } catch (PatternSyntaxException e) {
+                    throw new InvalidSettingsException(e.getMessage(), e);
+                }
+                for (final int index : indices) {
+                    if (replaced.contains(index)) {
+                        throw new InvalidSettingsException("The column \"" + spec.getColumnSpec(index).getName()
+                            + "\" is replaced by more than one field, check the field \"" + field.getJavaName()
+                            + "\".");
+                    }
+                    replaced.add(index);
+                }
+            }
+        }
+        return replaced.stream().mapToInt(Integer::intValue).toArray();
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     public JavaSnippetTemplate createTemplate(final Class metaCategory) {
@@ -1107,6 +1278,7 @@ public void setJarFiles(final String[] jarFiles) {
         if (!Arrays.equals(m_jarFiles, jarFiles)) {
             m_jarFiles = jarFiles.clone();
             m_snippetCache.invalidate();
+            m_flowVariableExecutor = null;
         }
     }
 
@@ -1117,6 +1289,20 @@ public void setAdditionalBundles(final String[] bundles) {
         if (!Arrays.equals(m_settings.getBundles(), bundles)) {
             m_settings.setBundles(bundles);
             m_snippetCache.invalidate();
+            m_flowVariableExecutor = null;
+        }
+    }
+
+    /**
+     * Set the language level the snippet is compiled for.
+     *
+     * @param javaVersion the language level, e.g. "1.8" or "11"
+     */
+    public void setJavaVersion(final String javaVersion) {
+        if (!Objects.equals(m_settings.getJavaVersion(), javaVersion)) {
+            m_settings.setJavaVersion(javaVersion);
+            m_snippetCache.invalidate();
+            m_flowVariableExecutor = null;
         }
     }
 
@@ -1132,10 +1318,13 @@ public void setAdditionalBundles(final String[] bundles) {
     @SuppressWarnings("unchecked")
     private synchronized Class<? extends AbstractJSnippet> createSnippetClass() {
         JavaSnippetCompiler compiler = new JavaSnippetCompiler(this);
+        final Collection<ClassLoader> customTypeClassLoaders = getCustomTypeClassLoaders();
 
-        /* Recompile/Reload either if code changed */
-        if (m_snippetCache.isValid(getDocument())) {
-            if (!m_snippetCache.hasCustomFields()) {
+        /* Recompile/Reload either if code changed, the custom type class loaders changed or static state
+         * of custom fields needs to be reset */
+        final String javaVersion = getJavaVersion();
+        if (m_snippetCache.isValid(getDocument(), javaVersion)) {
+            if (!m_snippetCache.hasStaticCustomFields() && m_snippetCache.isLoadedWith(customTypeClassLoaders)) {
                 return m_snippetCache.getSnippetClass();
             }
         } else {
@@ -1173,6 +1362,14 @@ private synchronized Class<? extends AbstractJSnippet> createSnippetClass() {
 
         invalidate();
 
+        return m_snippetCache.update(getDocument(), javaVersion, m_settings, compiler, customTypeClassLoaders);
+    }
+
+    /**
+     * Collect the class loaders required to load the snippet class with the custom types of its fields and the
+     * additional bundles. The returned collection also serves as fingerprint of the loaded snippet class.
+     */
+    private Collection<ClassLoader> getCustomTypeClassLoaders() {
         final LinkedHashSet<ClassLoader> customTypeClassLoaders = new LinkedHashSet<>();
         customTypeClassLoaders.add(JavaSnippet.class.getClassLoader());
 
@@ -1191,10 +1388,7 @@ private synchronized Class<? extends AbstractJSnippet> createSnippetClass() {
         //   (b) it would collect buddies when used directly (see support ticket #1943)
         customTypeClassLoaders.remove(DataCellToJavaConverterRegistry.class.getClassLoader());
 
-        final MultiParentClassLoader customTypeLoader = new MultiParentClassLoader(
-            customTypeClassLoaders.stream().toArray(ClassLoader[]::new));
-
-        return m_snippetCache.update(getDocument(), m_settings, compiler, customTypeLoader);
+        return customTypeClassLoaders;
     }
 
     /**
@@ -1261,6 +1455,7 @@ synchronized static void cacheCustomTypeClasspaths() {
         Set<DataCellToJavaConverterFactory<?, ?>> dcToJavaFactories = new LinkedHashSet<>();
         dcToJavaFactories.addAll(DataCellToJavaConverterRegistry.getInstance().getAllConverterFactories());
         dcToJavaFactories.addAll(ConverterUtil.getFactoriesForSourceType(DateAndTimeCell.TYPE));
+        dcToJavaFactories.addAll(CollectionViewUtil.getAllDataCellToJavaConverterFactories());
         for (final DataCellToJavaConverterFactory<?, ?> factory : dcToJavaFactories) {
             final Class<?> javaType = factory.getDestinationType();
             CLASSPATH_CACHE.put(factory.getIdentifier(),
@@ -1270,6 +1465,7 @@ synchronized static void cacheCustomTypeClasspaths() {
         Set<JavaToDataCellConverterFactory<?>> javaToDCFactories = new LinkedHashSet<>();
         javaToDCFactories.addAll(JavaToDataCellConverterRegistry.getInstance().getAllConverterFactories());
         javaToDCFactories.addAll(ConverterUtil.getFactoriesForDestinationType(DateAndTimeCell.TYPE));
+        javaToDCFactories.addAll(CollectionViewUtil.getAllJavaToDataCellConverterFactories());
         for (JavaToDataCellConverterFactory<?> factory : javaToDCFactories) {
             final Class<?> javaType = factory.getSourceType();
             CLASSPATH_CACHE.put(factory.getIdentifier(),
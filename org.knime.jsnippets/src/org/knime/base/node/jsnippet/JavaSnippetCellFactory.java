@@ -47,6 +47,7 @@
  */
 package org.knime.base.node.jsnippet;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -61,10 +62,12 @@
 import org.knime.base.node.jsnippet.expression.TypeException;
 import org.knime.base.node.jsnippet.type.ConverterUtil;
 import org.knime.base.node.jsnippet.util.FlowVariableRepository;
+import org.knime.base.node.jsnippet.util.JavaSnippetFields;
 import org.knime.base.node.jsnippet.util.JavaFieldList.InColList;
 import org.knime.base.node.jsnippet.util.JavaFieldList.OutColList;
-import org.knime.base.node.jsnippet.util.JavaFieldList.OutVarList;
 import org.knime.base.node.jsnippet.util.field.InCol;
+import org.knime.base.node.jsnippet.util.field.InColGroup;
+import org.knime.base.node.jsnippet.util.field.InColGroup.ElementType;
 import org.knime.base.node.jsnippet.util.field.InVar;
 import org.knime.base.node.jsnippet.util.field.OutCol;
 import org.knime.base.node.jsnippet.util.field.OutVar;
@@ -74,18 +77,20 @@
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.StringValue;
 import org.knime.core.data.container.AbstractCellFactory;
 import org.knime.core.data.convert.datacell.JavaToDataCellConverter;
 import org.knime.core.data.convert.datacell.JavaToDataCellConverterFactory;
 import org.knime.core.data.convert.java.DataCellToJavaConverter;
 import org.knime.core.data.convert.java.DataCellToJavaConverterFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
 import org.knime.core.data.filestore.FileStoreFactory;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
-import org.knime.core.node.workflow.FlowVariable;
-import org.knime.core.node.workflow.FlowVariable.Type;
 
 /**
  * Cell factory for the java snippet node.
@@ -116,35 +121,24 @@ public class JavaSnippetCellFactory extends AbstractCellFactory {
     private final List<Integer> m_inColIndices = new ArrayList<>();
     private final int m_numInFields;
     private final int m_numOutFields;
+    private final List<ColumnGroupBinding> m_groupBindings = new ArrayList<>();
+    /** Number of output cells, i.e. output fields and replaced columns of column groups. */
+    private final int m_numOutCells;
 
-    private static final Field FIELD_CELLS;
-    private static final Field FIELD_CELLSMAP;
-    private static final Field FIELD_ROWID;
-    private static final Field FIELD_ROWINDEX;
+    private final InVar[] m_inVars;
+    private final Field[] m_inVarFields;
+    private final OutVar[] m_outVars;
+    private final Field[] m_outVarFields;
 
     private int m_rowIndex;
 
-    static {
-        try {
-            FIELD_CELLS = AbstractJSnippet.class.getDeclaredField("m_cells");
-            FIELD_CELLS.setAccessible(true);
-
-            FIELD_CELLSMAP = AbstractJSnippet.class.getDeclaredField("m_cellsMap");
-            FIELD_CELLSMAP.setAccessible(true);
-
-            FIELD_ROWID = AbstractJSnippet.class.getDeclaredField(JavaSnippet.ROWID);
-            FIELD_ROWID.setAccessible(true);
-
-            FIELD_ROWINDEX = AbstractJSnippet.class.getDeclaredField(JavaSnippet.ROWINDEX);
-            FIELD_ROWINDEX.setAccessible(true);
-        } catch (NoSuchFieldException e) {
-            // Will never happen.
-            throw new IllegalStateException(e);
-        } catch (SecurityException e) {
-            // Will never happen.
-            throw new IllegalStateException(e);
-        }
-    }
+    private final JavaSnippetFailureLog m_failureLog = new JavaSnippetFailureLog(LOGGER);
+
+    /** Whether this factory set the warning message of the snippet because of failing rows. */
+    private boolean m_setFailureWarning;
+
+    /** Whether the snippet threw an exception for the row of the last call to {@link #getCells(DataRow)}. */
+    private boolean m_lastRowFailed;
 
     /**
      * Create a new cell factory.
@@ -168,28 +162,13 @@ public JavaSnippetCellFactory(final JavaSnippet snippet, final DataTableSpec spe
             m_jsnippet = m_snippet.createSnippetInstance();
             // populate the fields in the m_jsnippet that are constant
             // across the rows.
-            Field[] fs = m_jsnippet.getClass().getSuperclass().getDeclaredFields();
-            for (Field field : fs) {
-                if (field.getName().equals("m_flowVars")) {
-                    field.setAccessible(true);
-                    field.set(m_jsnippet, m_flowVars);
-                }
-                if (field.getName().equals(JavaSnippet.ROWCOUNT)) {
-                    field.setAccessible(true);
-                    field.set(m_jsnippet, m_rowCount);
-                }
-            }
+            JavaSnippetInstanceAccess.FIELD_FLOWVARS.set(m_jsnippet, m_flowVars);
+            JavaSnippetInstanceAccess.FIELD_ROWCOUNT.set(m_jsnippet, m_rowCount);
             // populate data structure with the input cells
 
             m_columns = Arrays.asList(m_spec.getColumnNames());
-
-            Field field = m_jsnippet.getClass().getSuperclass().getDeclaredField("m_columns");
-            field.setAccessible(true);
-            field.set(m_jsnippet, m_columns);
-
-            field = m_jsnippet.getClass().getSuperclass().getDeclaredField("m_inSpec");
-            field.setAccessible(true);
-            field.set(m_jsnippet, m_spec);
+            JavaSnippetInstanceAccess.FIELD_COLUMNS.set(m_jsnippet, m_columns);
+            JavaSnippetInstanceAccess.FIELD_INSPEC.set(m_jsnippet, m_spec);
 
         } catch (Exception e) {
             // all reflection exceptions which will never happen, but in case
@@ -211,18 +190,9 @@ public JavaSnippetCellFactory(final JavaSnippet snippet, final DataTableSpec spe
                 throw new RuntimeException("Missing converter factory with ID: " + inCol.getConverterFactoryId());
             }
             m_inConverters.add(factory.get().create());
-
-            // Get the java field for this column and cache it
-            try {
-                m_inJavaFields.add(m_jsnippet.getClass().getField(inCol.getJavaName()));
-            } catch (NoSuchFieldException e) {
-                // Field was generated from inCol, this should never happen.
-                throw new IllegalStateException(e);
-            } catch (SecurityException e) {
-                // Field was generated as public, this should never happen.
-                throw new IllegalStateException(e);
-            }
         }
+        // Get the java fields of the columns and cache them
+        m_inJavaFields.addAll(Arrays.asList(JavaSnippetInstanceAccess.getJavaFields(m_jsnippet.getClass(), inFields)));
 
 
         final FileStoreFactory fileStoreFactory = FileStoreFactory.createFileStoreFactory(context);
@@ -237,20 +207,37 @@ public JavaSnippetCellFactory(final JavaSnippet snippet, final DataTableSpec spe
                 throw new RuntimeException("Missing converter factory with ID: " + id);
             }
             m_outConverters.add(((JavaToDataCellConverterFactory<?>)factory.get()).create(fileStoreFactory));
+        }
+        m_outJavaFields.addAll(
+            Arrays.asList(JavaSnippetInstanceAccess.getJavaFields(m_jsnippet.getClass(), outFields)));
+
+        final JavaSnippetFields systemFields = m_snippet.getSystemFields();
+        m_inVars = systemFields.getInVarFields().toArray(new InVar[0]);
+        m_inVarFields = JavaSnippetInstanceAccess.getJavaFields(m_jsnippet.getClass(), systemFields.getInVarFields());
+        m_outVars = systemFields.getOutVarFields().toArray(new OutVar[0]);
+        m_outVarFields =
+            JavaSnippetInstanceAccess.getJavaFields(m_jsnippet.getClass(), systemFields.getOutVarFields());
+
+        int numOutCells = m_numOutFields;
+        for (final InColGroup group : m_snippet.getSystemFields().getInColGroupFields()) {
+            final ColumnGroupBinding binding;
             try {
-                m_outJavaFields.add(m_jsnippet.getClass().getField(outField.getJavaName()));
+                binding = new ColumnGroupBinding(group, m_jsnippet.getClass().getField(group.getJavaName()), m_spec);
             } catch (NoSuchFieldException e) {
-                // Field was generated from inCol, this should never happen.
-                throw new IllegalStateException(e);
-            } catch (SecurityException e) {
-                // Field was generated as public, this should never happen.
+                // Field was generated from the group, this should never happen.
                 throw new IllegalStateException(e);
             }
+            m_groupBindings.add(binding);
+            if (binding.m_replace) {
+                numOutCells += binding.m_indices.length;
+            }
         }
+        m_numOutCells = numOutCells;
     }
 
     @Override
     public DataCell[] getCells(final DataRow row) {
+        m_lastRowFailed = false;
         try {
             final int numCells = row.getNumCells();
             final Map<String, Cell> cellsMap = new LinkedHashMap<>(numCells);
@@ -258,10 +245,10 @@ public DataCell[] getCells(final DataRow row) {
                 cellsMap.put(m_columns.get(i), new DataCellProxy(row, i));
             }
 
-            FIELD_CELLSMAP.set(m_jsnippet, cellsMap);
-            FIELD_CELLS.set(m_jsnippet, new ArrayList<>(cellsMap.values()));
-            FIELD_ROWID.set(m_jsnippet, row.getKey().getString());
-            FIELD_ROWINDEX.set(m_jsnippet, m_rowIndex);
+            JavaSnippetInstanceAccess.FIELD_CELLSMAP.set(m_jsnippet, cellsMap);
+            JavaSnippetInstanceAccess.FIELD_CELLS.set(m_jsnippet, new ArrayList<>(cellsMap.values()));
+            JavaSnippetInstanceAccess.FIELD_ROWID.set(m_jsnippet, row.getKey().getString());
+            JavaSnippetInstanceAccess.FIELD_ROWINDEX.set(m_jsnippet, m_rowIndex);
 
             // populate the system input column fields with data
             for (int i = 0; i < m_numInFields; ++i) {
@@ -278,16 +265,20 @@ public DataCell[] getCells(final DataRow row) {
                 field.set(m_jsnippet, converted);
             }
 
+            // populate the system input column group fields with data
+            for (final ColumnGroupBinding binding : m_groupBindings) {
+                binding.fill(row, m_jsnippet);
+            }
+
             // reset the system output fields to null (see also bug 3781)
             for (final Field field : m_outJavaFields) {
                 field.set(m_jsnippet, null);
             }
 
             // populate the system input flow variable fields with data
-            for (final InVar inCol : m_snippet.getSystemFields().getInVarFields()) {
-                final Field field = m_jsnippet.getClass().getField(inCol.getJavaName());
-                final Object v = m_flowVars.getValueOfType(inCol.getKnimeName(), inCol.getJavaType());
-                field.set(m_jsnippet, v);
+            for (int i = 0; i < m_inVars.length; i++) {
+                final Object v = m_flowVars.getValueOfType(m_inVars[i].getKnimeName(), m_inVars[i].getJavaType());
+                m_inVarFields[i].set(m_jsnippet, v);
             }
         } catch (Exception e) {
             // all reflection exceptions which will never happen, but in case
@@ -300,35 +291,22 @@ public DataCell[] getCells(final DataRow row) {
             m_jsnippet.snippet();
         } catch (final Throwable thr) {
             if (thr instanceof Abort) {
-                final String message = thr.getMessage();
-                throw new RuntimeException(
-                    String.format("Calculation aborted: %s", message == null ? "<no details>" : message), thr);
+                throw JavaSnippetInstanceAccess.createAbortException((Abort)thr);
             } else {
-                final StringBuilder msg = new StringBuilder();
-                msg.append(String.format("Evaluation of java snippet failed for row \"%s\".", row.getKey()));
-
-                final Integer lineNumber = findLineNumberInStackTrace(thr);
-                if (lineNumber != null) {
-                    msg.append(String.format("The exception is caused by line %d of the snippet. ", lineNumber));
-                }
-
-                if (thr.getMessage() != null) {
-                    msg.append(String.format("Exception message (%s): %s", thr.getClass().getSimpleName(), thr.getMessage()));
-                }
-
-                LOGGER.warn(msg.toString(), thr);
-                final OutVarList outVars = m_snippet.getSystemFields().getOutVarFields();
-                if (outVars.size() > 0) {
+                m_failureLog.add(row.getKey(), thr);
+                m_lastRowFailed = true;
+                if (m_outVars.length > 0) {
                     // Abort if flow variables are defined
-                    throw new RuntimeException("An error occured in an expression with output flow variables.", thr);
+                    throw JavaSnippetInstanceAccess.createOutVarFailure(thr);
                 }
 
-                final DataCell[] out = new DataCell[m_numOutFields];
+                final DataCell[] out = new DataCell[m_numOutCells];
                 // Return missing values for output fields
                 Arrays.fill(out, DataType.getMissingCell());
 
                 if(m_snippet.getWarningMessage() == null) {
-                   m_snippet.setWarningMessage("Exceptions in the code caused missing rows to be output.\nCheck log for details.");
+                   m_snippet.setWarningMessage(JavaSnippetInstanceAccess.FAILURE_WARNING);
+                   m_setFailureWarning = true;
                 }
 
                 m_rowIndex++;
@@ -338,28 +316,14 @@ public DataCell[] getCells(final DataRow row) {
 
         try {
             // update m_flowVars with output flow variable fields.
-            for (final OutVar var : m_snippet.getSystemFields().getOutVarFields()) {
-                final Field field = m_jsnippet.getClass().getField(var.getJavaName());
-                final Object value = field.get(m_jsnippet);
-                if (null != value) {
-                    Type type = var.getFlowVarType();
-                    FlowVariable flowVar = null;
-                    if (type.equals(Type.INTEGER)) {
-                        flowVar = new FlowVariable(var.getKnimeName(), (Integer)value);
-                    } else if (type.equals(Type.DOUBLE)) {
-                        flowVar = new FlowVariable(var.getKnimeName(), (Double)value);
-                    } else { // case type.equals(Type.String)
-                        flowVar = new FlowVariable(var.getKnimeName(), (String)value);
-                    }
-                    m_flowVars.put(flowVar);
-                } else {
-                    throw new RuntimeException("Flow variable \"" + var.getKnimeName() + "\" has no value.");
-                }
+            for (int i = 0; i < m_outVars.length; i++) {
+                m_flowVars.put(
+                    JavaSnippetInstanceAccess.createFlowVariable(m_outVars[i], m_outVarFields[i].get(m_jsnippet)));
             }
 
             // get output column fields
-            final DataCell[] out = new DataCell[m_numOutFields];
-            for (int i = 0; i < out.length; i++) {
+            final DataCell[] out = new DataCell[m_numOutCells];
+            for (int i = 0; i < m_numOutFields; i++) {
                 final Field field = m_outJavaFields.get(i);
 
                 final Object value = field.get(m_jsnippet);
@@ -372,6 +336,15 @@ public DataCell[] getCells(final DataRow row) {
                 }
             }
 
+            // write back column groups which replace their input columns
+            int offset = m_numOutFields;
+            for (final ColumnGroupBinding binding : m_groupBindings) {
+                if (binding.m_replace) {
+                    binding.drain(m_jsnippet, out, offset);
+                    offset += binding.m_indices.length;
+                }
+            }
+
             m_rowIndex++;
             return out;
         } catch (Exception e) {
@@ -383,30 +356,51 @@ public DataCell[] getCells(final DataRow row) {
     }
 
     /**
-     * Find line number of last JSnippet stack trace element.
-     *
-     * @param thr Throwable containing the stack trace
-     * @return The line number or <code>null</code> if no element in the stack trace originated from the JSnippet class.
+     * @return the snippet instance evaluated by this factory
      */
-    private static Integer findLineNumberInStackTrace(final Throwable thr) {
-        Integer lineNumber = null;
-        for (final StackTraceElement ste : thr.getStackTrace()) {
-            if (ste.getClassName().equals("JSnippet")) {
-                lineNumber = ste.getLineNumber();
-            }
-        }
+    AbstractJSnippet getSnippetInstance() {
+        return m_jsnippet;
+    }
 
-        return lineNumber;
+    /**
+     * @return whether the snippet threw an exception for the row of the last call to {@link #getCells(DataRow)}, in
+     *         which case missing cells were returned
+     */
+    boolean hasLastRowFailed() {
+        return m_lastRowFailed;
+    }
+
+    @Override
+    public void afterProcessing() {
+        super.afterProcessing();
+        if (m_jsnippet != null) {
+            m_jsnippet.flushLog();
+        }
+        m_failureLog.logSummary();
+        if (m_setFailureWarning) {
+            m_snippet.setWarningMessage(String.format(
+                "Exceptions in the code caused missing values in %d rows.\nCheck log for details.",
+                m_failureLog.getNumFailures()));
+        }
     }
 
     @Override
     public DataColumnSpec[] getColumnSpecs() {
         OutColList outFields = m_snippet.getSystemFields().getOutColFields();
-        DataColumnSpec[] cols = new DataColumnSpec[outFields.size()];
-        for (int i = 0; i < cols.length; i++) {
+        DataColumnSpec[] cols = new DataColumnSpec[m_numOutCells];
+        for (int i = 0; i < outFields.size(); i++) {
             OutCol field = outFields.get(i);
             cols[i] = new DataColumnSpecCreator(field.getKnimeName(), field.getDataType()).createSpec();
         }
+        int offset = outFields.size();
+        for (final ColumnGroupBinding binding : m_groupBindings) {
+            if (binding.m_replace) {
+                final DataType type = binding.m_elementType.getOutputType();
+                for (final int index : binding.m_indices) {
+                    cols[offset++] = new DataColumnSpecCreator(m_columns.get(index), type).createSpec();
+                }
+            }
+        }
         return cols;
     }
 
@@ -416,6 +410,101 @@ public void setProgress(final long curRowNr, final long rowCount, final RowKey l
         exec.setProgress(curRowNr / (double)rowCount, () -> "Processed row " + curRowNr + " (\"" + lastKey + "\")");
     }
 
+    /**
+     * Binds a group of input columns to a single array field of the snippet. The array is allocated once and filled
+     * for every row.
+     */
+    private static final class ColumnGroupBinding {
+        private final Field m_field;
+
+        private final ElementType m_elementType;
+
+        private final int[] m_indices;
+
+        private final boolean m_replace;
+
+        private final Object m_array;
+
+        /** Whether the input cell was missing, only used for {@link ElementType#DOUBLE}. */
+        private final boolean[] m_missing;
+
+        /** Converters per column, only used for {@link ElementType#OBJECT}. */
+        private final DataCellToJavaConverter<?, ?>[] m_converters;
+
+        ColumnGroupBinding(final InColGroup group, final Field field, final DataTableSpec spec) {
+            m_field = field;
+            m_elementType = group.getElementType();
+            m_indices = group.findColumnIndices(spec);
+            // arrays of arbitrary objects are never written back, see JavaSnippet#validateSettings
+            m_replace = group.getReplaceColumns() && m_elementType.getOutputType() != null;
+            m_array = Array.newInstance(m_elementType.getArrayType().getComponentType(), m_indices.length);
+            m_missing = m_elementType == ElementType.DOUBLE ? new boolean[m_indices.length] : null;
+            if (m_elementType == ElementType.OBJECT) {
+                m_converters = new DataCellToJavaConverter<?, ?>[m_indices.length];
+                for (int i = 0; i < m_indices.length; i++) {
+                    final DataType type = spec.getColumnSpec(m_indices[i]).getType();
+                    m_converters[i] = ConverterUtil.getFactoriesForSourceType(type).stream().findFirst()
+                        .orElseThrow(() -> new RuntimeException("Missing converter for column type " + type))
+                        .create();
+                }
+            } else {
+                m_converters = null;
+            }
+        }
+
+        void fill(final DataRow row, final AbstractJSnippet snippet) throws Exception {
+            switch (m_elementType) {
+                case DOUBLE:
+                    final double[] doubles = (double[])m_array;
+                    for (int i = 0; i < m_indices.length; i++) {
+                        final DataCell cell = row.getCell(m_indices[i]);
+                        m_missing[i] = cell.isMissing();
+                        doubles[i] = m_missing[i] ? Double.NaN : ((DoubleValue)cell).getDoubleValue();
+                    }
+                    break;
+                case STRING:
+                    final String[] strings = (String[])m_array;
+                    for (int i = 0; i < m_indices.length; i++) {
+                        final DataCell cell = row.getCell(m_indices[i]);
+                        strings[i] = cell.isMissing() ? null : ((StringValue)cell).getStringValue();
+                    }
+                    break;
+                default:
+                    final Object[] objects = (Object[])m_array;
+                    for (int i = 0; i < m_indices.length; i++) {
+                        final DataCell cell = row.getCell(m_indices[i]);
+                        objects[i] = cell.isMissing() ? null : m_converters[i].convertUnsafe(cell);
+                    }
+            }
+            m_field.set(snippet, m_array);
+        }
+
+        void drain(final AbstractJSnippet snippet, final DataCell[] out, final int offset) throws Exception {
+            final Object value = m_field.get(snippet);
+            if (value == null) {
+                Arrays.fill(out, offset, offset + m_indices.length, DataType.getMissingCell());
+                return;
+            }
+            if (Array.getLength(value) != m_indices.length) {
+                throw new RuntimeException(String.format("The array \"%s\" has to contain %d elements but has %d.",
+                    m_field.getName(), m_indices.length, Array.getLength(value)));
+            }
+            if (m_elementType == ElementType.DOUBLE) {
+                final double[] doubles = (double[])value;
+                for (int i = 0; i < doubles.length; i++) {
+                    // missing cells stay missing, NaN assigned by the snippet is kept like for double output fields
+                    out[offset + i] = Double.isNaN(doubles[i]) && m_missing[i] ? DataType.getMissingCell()
+                        : new DoubleCell(doubles[i]);
+                }
+            } else {
+                final String[] strings = (String[])value;
+                for (int i = 0; i < strings.length; i++) {
+                    out[offset + i] = strings[i] == null ? DataType.getMissingCell() : new StringCell(strings[i]);
+                }
+            }
+        }
+    }
+
     /**
      * Class that wraps a DataRow for access from inside the Java Snippet.
      *
@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.knime.core.data.RowKey;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Collects the exceptions thrown by the user code of a java snippet for single rows.
+ *
+ * Failures are aggregated by exception type and line of the snippet. The first occurrences of every kind of failure
+ * are logged including the stack trace, later ones only every {@link #SAMPLE_INTERVAL}th time and without stack trace.
+ * A summary of all failures is logged by {@link #logSummary()} once all rows have been processed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JavaSnippetFailureLog {
+
+    /** Number of occurrences of a kind of failure that are logged including their stack trace. */
+    static final int FULL_LOG_LIMIT = 10;
+
+    /** After {@link #FULL_LOG_LIMIT} occurrences, only every n-th occurrence of a kind of failure is logged. */
+    static final int SAMPLE_INTERVAL = 1000;
+
+    private final NodeLogger m_logger;
+
+    private final Map<FailureKind, FailureCount> m_failures = new LinkedHashMap<>();
+
+    private long m_numFailures;
+
+    /**
+     * @param logger the logger to write to
+     */
+    JavaSnippetFailureLog(final NodeLogger logger) {
+        m_logger = logger;
+    }
+
+    /**
+     * Record that the evaluation of the snippet failed for a row.
+     *
+     * @param rowKey the key of the row
+     * @param thr the exception thrown by the snippet
+     */
+    void add(final RowKey rowKey, final Throwable thr) {
+        m_numFailures++;
+        final Integer lineNumber = findLineNumberInStackTrace(thr);
+        final FailureKind kind = new FailureKind(thr.getClass().getName(), lineNumber);
+        FailureCount count = m_failures.get(kind);
+        if (count == null) {
+            count = new FailureCount(rowKey, thr.getMessage());
+            m_failures.put(kind, count);
+        }
+        final long n = ++count.m_count;
+
+        if (n <= FULL_LOG_LIMIT) {
+            m_logger.warn(createMessage(rowKey, thr, lineNumber), thr);
+            if (n == FULL_LOG_LIMIT) {
+                m_logger.warn(String.format(
+                    "Further %s exceptions at this line are only logged every %d occurrences, "
+                        + "a summary is logged at the end.",
+                    thr.getClass().getSimpleName(), SAMPLE_INTERVAL));
+            }
+        } else if ((n - FULL_LOG_LIMIT) % SAMPLE_INTERVAL == 0) {
+            m_logger.warn(createMessage(rowKey, thr, lineNumber) + String.format(" (occurrence %d)", n));
+        }
+    }
+
+    /**
+     * @return the number of failed rows
+     */
+    long getNumFailures() {
+        return m_numFailures;
+    }
+
+    /**
+     * Log a summary of all failures, if there were any.
+     */
+    void logSummary() {
+        if (m_numFailures == 0) {
+            return;
+        }
+        final StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Evaluation of java snippet failed for %d rows:", m_numFailures));
+        for (final Map.Entry<FailureKind, FailureCount> e : m_failures.entrySet()) {
+            final FailureKind kind = e.getKey();
+            final FailureCount count = e.getValue();
+            summary.append(String.format("%n  %d x %s", count.m_count, kind.m_exceptionClass));
+            if (kind.m_lineNumber != null) {
+                summary.append(String.format(" at line %d", kind.m_lineNumber));
+            }
+            summary.append(String.format(", first in row \"%s\"", count.m_firstRow));
+            if (count.m_firstMessage != null) {
+                summary.append(": ").append(count.m_firstMessage);
+            }
+        }
+        m_logger.warn(summary.toString());
+    }
+
+    private static String createMessage(final RowKey rowKey, final Throwable thr, final Integer lineNumber) {
+        final StringBuilder msg = new StringBuilder();
+        msg.append(String.format("Evaluation of java snippet failed for row \"%s\".", rowKey));
+
+        if (lineNumber != null) {
+            msg.append(String.format("The exception is caused by line %d of the snippet. ", lineNumber));
+        }
+
+        if (thr.getMessage() != null) {
+            msg.append(String.format("Exception message (%s): %s", thr.getClass().getSimpleName(), thr.getMessage()));
+        }
+        return msg.toString();
+    }
+
+    /**
+     * Find line number of last JSnippet stack trace element.
+     *
+     * @param thr Throwable containing the stack trace
+     * @return The line number or <code>null</code> if no element in the stack trace originated from the JSnippet class.
+     */
+    private static Integer findLineNumberInStackTrace(final Throwable thr) {
+        Integer lineNumber = null;
+        for (final StackTraceElement ste : thr.getStackTrace()) {
+            if (ste.getClassName().equals("JSnippet")) {
+                lineNumber = ste.getLineNumber();
+            }
+        }
+
+        return lineNumber;
+    }
+
+    /** Identifies a kind of failure by exception type and line of the snippet. */
+    private static final class FailureKind {
+        private final String m_exceptionClass;
+
+        private final Integer m_lineNumber;
+
+        FailureKind(final String exceptionClass, final Integer lineNumber) {
+            m_exceptionClass = exceptionClass;
+            m_lineNumber = lineNumber;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof FailureKind)) {
+                return false;
+            }
+            final FailureKind other = (FailureKind)obj;
+            return m_exceptionClass.equals(other.m_exceptionClass) && Objects.equals(m_lineNumber, other.m_lineNumber);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(m_exceptionClass, m_lineNumber);
+        }
+    }
+
+    /** Number of occurrences of a kind of failure and the details of the first one. */
+    private static final class FailureCount {
+        private final RowKey m_firstRow;
+
+        private final String m_firstMessage;
+
+        private long m_count;
+
+        FailureCount(final RowKey firstRow, final String firstMessage) {
+            m_firstRow = firstRow;
+            m_firstMessage = firstMessage;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+import org.knime.base.node.jsnippet.expression.Abort;
+import org.knime.base.node.jsnippet.expression.AbstractJSnippet;
+import org.knime.base.node.jsnippet.util.FlowVariableRepository;
+import org.knime.base.node.jsnippet.util.JavaSnippetFields;
+import org.knime.base.node.jsnippet.util.field.InVar;
+import org.knime.base.node.jsnippet.util.field.JavaField;
+import org.knime.base.node.jsnippet.util.field.OutVar;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Executes a java snippet which only reads and writes flow variables, as done by the Java Edit Variable node.
+ *
+ * All reflective lookups are done once on construction, so that executing the snippet, e.g. inside of a loop, only
+ * needs to bind the flow variables. The snippet instance is reused as long as the snippet does not declare custom
+ * instance fields, whose state would otherwise leak from one execution to the next.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JavaSnippetFlowVariableExecutor {
+
+    /** Row id of the single fake row, for compatibility with execution through the cell factory. */
+    private static final String ROWID = RowKey.createRowKey(0L).getString();
+
+    private final JavaSnippetFields m_fields;
+
+    private final Constructor<? extends AbstractJSnippet> m_constructor;
+
+    private final InVar[] m_inVars;
+
+    private final Field[] m_inVarFields;
+
+    private final OutVar[] m_outVars;
+
+    private final Field[] m_outVarFields;
+
+    private final boolean m_reuseInstance;
+
+    private AbstractJSnippet m_instance;
+
+    /**
+     * Create a new executor, resolving all fields of the given snippet class.
+     *
+     * @param snippetClass the compiled snippet class
+     * @param fields the system fields the snippet class was generated for
+     */
+    JavaSnippetFlowVariableExecutor(final Class<? extends AbstractJSnippet> snippetClass,
+        final JavaSnippetFields fields) {
+        m_fields = fields;
+        try {
+            m_constructor = snippetClass.getConstructor();
+        } catch (NoSuchMethodException e) {
+            // the snippet class is generated with a default constructor, this should never happen.
+            throw new IllegalStateException(e);
+        }
+        m_inVars = fields.getInVarFields().toArray(new InVar[0]);
+        m_inVarFields = JavaSnippetInstanceAccess.getJavaFields(snippetClass, fields.getInVarFields());
+        m_outVars = fields.getOutVarFields().toArray(new OutVar[0]);
+        m_outVarFields = JavaSnippetInstanceAccess.getJavaFields(snippetClass, fields.getOutVarFields());
+
+        final Set<String> systemFields = new HashSet<>();
+        for (final JavaField f : fields.getInColFields()) {
+            systemFields.add(f.getJavaName());
+        }
+        for (final JavaField f : fields.getOutColFields()) {
+            systemFields.add(f.getJavaName());
+        }
+        for (final JavaField f : fields.getInColGroupFields()) {
+            systemFields.add(f.getJavaName());
+        }
+        for (final InVar f : m_inVars) {
+            systemFields.add(f.getJavaName());
+        }
+        for (final OutVar f : m_outVars) {
+            systemFields.add(f.getJavaName());
+        }
+        boolean hasCustomInstanceFields = false;
+        for (final Field f : snippetClass.getDeclaredFields()) {
+            if (!Modifier.isStatic(f.getModifiers()) && !systemFields.contains(f.getName())) {
+                hasCustomInstanceFields = true;
+                break;
+            }
+        }
+        m_reuseInstance = !hasCustomInstanceFields;
+    }
+
+    /**
+     * @param fields the current system fields
+     * @return whether this executor was created for the given fields
+     */
+    boolean isFor(final JavaSnippetFields fields) {
+        return m_fields == fields;
+    }
+
+    /**
+     * Execute the snippet once, reading the input flow variables from and writing the output flow variables to the
+     * given repository.
+     *
+     * @param snippet the snippet, used to report warnings
+     * @param flowVars the flow variables at the input
+     * @param logger the logger to attach to the snippet instance, may be <code>null</code>
+     */
+    void execute(final JavaSnippet snippet, final FlowVariableRepository flowVars, final NodeLogger logger) {
+        final AbstractJSnippet jsnippet = getInstance();
+        try {
+            JavaSnippetInstanceAccess.FIELD_FLOWVARS.set(jsnippet, flowVars);
+            jsnippet.ROWID = ROWID;
+            jsnippet.ROWINDEX = 0;
+            jsnippet.ROWCOUNT = 1;
+            if (logger != null) {
+                jsnippet.attachLogger(logger);
+            }
+
+            for (int i = 0; i < m_inVars.length; i++) {
+                final InVar inVar = m_inVars[i];
+                m_inVarFields[i].set(jsnippet, flowVars.getValueOfType(inVar.getKnimeName(), inVar.getJavaType()));
+            }
+            // reset the output fields, they may still hold the values of the previous execution
+            for (final Field field : m_outVarFields) {
+                field.set(jsnippet, null);
+            }
+        } catch (IllegalAccessException e) {
+            // fields are public or were made accessible, this should never happen
+            throw new IllegalStateException(e);
+        }
+
+        try {
+            // evaluate user script
+            jsnippet.snippet();
+        } catch (final Throwable thr) {
+            if (thr instanceof Abort) {
+                throw JavaSnippetInstanceAccess.createAbortException((Abort)thr);
+            }
+            final StringBuilder msg = new StringBuilder("Evaluation of java snippet failed.");
+            if (thr.getMessage() != null) {
+                msg.append(
+                    String.format(" Exception message (%s): %s", thr.getClass().getSimpleName(), thr.getMessage()));
+            }
+            JavaSnippet.LOGGER.warn(msg.toString(), thr);
+            if (m_outVars.length > 0) {
+                // Abort if flow variables are defined
+                throw JavaSnippetInstanceAccess.createOutVarFailure(thr);
+            }
+            if (snippet.getWarningMessage() == null) {
+                snippet.setWarningMessage(JavaSnippetInstanceAccess.FAILURE_WARNING);
+            }
+            return;
+        } finally {
+            jsnippet.flushLog();
+        }
+
+        try {
+            // update flowVars with output flow variable fields.
+            for (int i = 0; i < m_outVars.length; i++) {
+                flowVars.put(
+                    JavaSnippetInstanceAccess.createFlowVariable(m_outVars[i], m_outVarFields[i].get(jsnippet)));
+            }
+        } catch (IllegalAccessException e) {
+            // fields are public, this should never happen
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private AbstractJSnippet getInstance() {
+        if (m_reuseInstance && m_instance != null) {
+            return m_instance;
+        }
+        final AbstractJSnippet instance;
+        try {
+            instance = m_constructor.newInstance();
+            // the snippet has no input table, provide empty data structures
+            JavaSnippetInstanceAccess.FIELD_CELLSMAP.set(instance, new LinkedHashMap<>());
+            JavaSnippetInstanceAccess.FIELD_CELLS.set(instance, new ArrayList<>());
+            JavaSnippetInstanceAccess.FIELD_COLUMNS.set(instance, Collections.emptyList());
+            JavaSnippetInstanceAccess.FIELD_INSPEC.set(instance, new DataTableSpec());
+        } catch (ReflectiveOperationException e) {
+            // cannot happen, but rethrow just in case
+            throw new RuntimeException(e);
+        }
+        if (m_reuseInstance) {
+            m_instance = instance;
+        }
+        return instance;
+    }
+}
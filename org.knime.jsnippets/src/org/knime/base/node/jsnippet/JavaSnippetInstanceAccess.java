@@ -0,0 +1,173 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.knime.base.node.jsnippet.expression.Abort;
+import org.knime.base.node.jsnippet.expression.AbstractJSnippet;
+import org.knime.base.node.jsnippet.util.field.JavaField;
+import org.knime.base.node.jsnippet.util.field.OutVar;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.FlowVariable.Type;
+
+/**
+ * Reflective access to the fields of snippet instances and the handling of failing snippets, shared by the
+ * {@link JavaSnippetCellFactory} and the {@link JavaSnippetFlowVariableExecutor}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class JavaSnippetInstanceAccess {
+
+    /** Warning set on the snippet when it failed for a row and missing values were output instead. */
+    static final String FAILURE_WARNING =
+        "Exceptions in the code caused missing rows to be output.\nCheck log for details.";
+
+    static final Field FIELD_CELLS;
+
+    static final Field FIELD_CELLSMAP;
+
+    static final Field FIELD_COLUMNS;
+
+    static final Field FIELD_INSPEC;
+
+    static final Field FIELD_FLOWVARS;
+
+    static final Field FIELD_ROWID;
+
+    static final Field FIELD_ROWINDEX;
+
+    static final Field FIELD_ROWCOUNT;
+
+    static {
+        try {
+            FIELD_CELLS = getDeclaredField("m_cells");
+            FIELD_CELLSMAP = getDeclaredField("m_cellsMap");
+            FIELD_COLUMNS = getDeclaredField("m_columns");
+            FIELD_INSPEC = getDeclaredField("m_inSpec");
+            FIELD_FLOWVARS = getDeclaredField("m_flowVars");
+            FIELD_ROWID = getDeclaredField(JavaSnippet.ROWID);
+            FIELD_ROWINDEX = getDeclaredField(JavaSnippet.ROWINDEX);
+            FIELD_ROWCOUNT = getDeclaredField(JavaSnippet.ROWCOUNT);
+        } catch (NoSuchFieldException | SecurityException e) {
+            // Will never happen.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JavaSnippetInstanceAccess() {
+    }
+
+    private static Field getDeclaredField(final String name) throws NoSuchFieldException {
+        final Field field = AbstractJSnippet.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+    /**
+     * Resolve the java fields of system fields in a compiled snippet class.
+     *
+     * @param snippetClass the compiled snippet class
+     * @param fields the system fields the class was generated for
+     * @return the public java field of each system field, in the same order
+     */
+    static Field[] getJavaFields(final Class<? extends AbstractJSnippet> snippetClass,
+        final List<? extends JavaField> fields) {
+        final Field[] javaFields = new Field[fields.size()];
+        for (int i = 0; i < javaFields.length; i++) {
+            try {
+                javaFields[i] = snippetClass.getField(fields.get(i).getJavaName());
+            } catch (NoSuchFieldException | SecurityException e) {
+                // Fields were generated as public from the settings, this should never happen.
+                throw new IllegalStateException(e);
+            }
+        }
+        return javaFields;
+    }
+
+    /**
+     * @param abort the abort thrown by the snippet
+     * @return the exception to fail the execution with
+     */
+    static RuntimeException createAbortException(final Abort abort) {
+        final String message = abort.getMessage();
+        return new RuntimeException(
+            String.format("Calculation aborted: %s", message == null ? "<no details>" : message), abort);
+    }
+
+    /**
+     * @param thr the exception thrown by a snippet with output flow variables
+     * @return the exception to fail the execution with, since the flow variables would have no value
+     */
+    static RuntimeException createOutVarFailure(final Throwable thr) {
+        return new RuntimeException("An error occured in an expression with output flow variables.", thr);
+    }
+
+    /**
+     * Create the flow variable of an output field.
+     *
+     * @param var the output field
+     * @param value the value of the java field
+     * @return the flow variable
+     * @throws RuntimeException if the value is <code>null</code>
+     */
+    static FlowVariable createFlowVariable(final OutVar var, final Object value) {
+        if (null == value) {
+            throw new RuntimeException("Flow variable \"" + var.getKnimeName() + "\" has no value.");
+        }
+        final Type type = var.getFlowVarType();
+        if (type.equals(Type.INTEGER)) {
+            return new FlowVariable(var.getKnimeName(), (Integer)value);
+        } else if (type.equals(Type.DOUBLE)) {
+            return new FlowVariable(var.getKnimeName(), (Double)value);
+        } else { // case type.equals(Type.String)
+            return new FlowVariable(var.getKnimeName(), (String)value);
+        }
+    }
+}
@@ -50,6 +50,7 @@
 import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.Dimension;
+import java.awt.FlowLayout;
 import java.awt.Frame;
 import java.awt.GridLayout;
 import java.io.ByteArrayInputStream;
@@ -61,9 +62,12 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.Vector;
 
 import javax.swing.BorderFactory;
+import javax.swing.DefaultComboBoxModel;
 import javax.swing.JButton;
+import javax.swing.JComboBox;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
@@ -84,6 +88,7 @@
 import org.fife.rsta.ac.LanguageSupportFactory;
 import org.fife.rsta.ac.java.JarManager;
 import org.fife.rsta.ac.java.JavaLanguageSupport;
+import org.fife.rsta.ac.java.buildpath.LibraryInfo;
 import org.fife.ui.rsyntaxtextarea.ErrorStrip;
 import org.fife.ui.rsyntaxtextarea.SyntaxConstants;
 import org.fife.ui.rsyntaxtextarea.folding.Fold;
@@ -99,10 +104,12 @@
 import org.knime.base.node.jsnippet.template.TemplateProvider;
 import org.knime.base.node.jsnippet.template.TemplatesPanel;
 import org.knime.base.node.jsnippet.ui.BundleListPanel;
+import org.knime.base.node.jsnippet.ui.ClassPathIndex;
 import org.knime.base.node.jsnippet.ui.ColumnList;
 import org.knime.base.node.jsnippet.ui.FieldsTableModel;
 import org.knime.base.node.jsnippet.ui.FieldsTableModel.Column;
 import org.knime.base.node.jsnippet.ui.FlowVariableList;
+import org.knime.base.node.jsnippet.ui.InColGroupsTable;
 import org.knime.base.node.jsnippet.ui.InFieldsTable;
 import org.knime.base.node.jsnippet.ui.JSnippetFieldsController;
 import org.knime.base.node.jsnippet.ui.JSnippetTextArea;
@@ -121,6 +128,7 @@
 import org.knime.core.node.NotConfigurableException;
 import org.knime.core.node.util.ViewUtils;
 import org.knime.core.node.workflow.FlowVariable;
+import org.knime.ext.sun.nodes.script.compile.JavaCodeCompiler;
 import org.knime.rsyntaxtextarea.guarded.GuardedDocument;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.Version;
@@ -154,10 +162,15 @@ public class JavaSnippetNodeDialog extends NodeDialogPane implements TemplateNod
 
     private OutFieldsTable m_outFieldsTable;
 
+    /** The table of the input column groups, null if the dialog has none. */
+    private InColGroupsTable m_inColGroupsTable;
+
     private JSnippetFieldsController m_fieldsController;
 
     private JarListPanel m_jarPanel;
 
+    private JComboBox<String> m_javaVersionComboBox;
+
     private BundleListPanel m_bundleListPanel;
 
     private DefaultTemplateController<JavaSnippetTemplate> m_templatesController;
@@ -192,10 +205,11 @@ public JavaSnippetNodeDialog(final Class<?> templateMetaCategory) {
     protected JavaSnippetNodeDialog(final Class<?> templateMetaCategory, final boolean isPreview) {
         m_templateMetaCategory = templateMetaCategory;
         m_settings = new JavaSnippetSettings();
-        m_snippet = new JavaSnippet();
+        m_snippet = createJavaSnippet();
 
         final JPanel panel = createPanel(isPreview);
-        m_fieldsController = new JSnippetFieldsController(m_snippet, m_inFieldsTable, m_outFieldsTable);
+        m_fieldsController = new JSnippetFieldsController(m_snippet, m_inFieldsTable, m_outFieldsTable,
+            m_inColGroupsTable);
         m_colList.install(m_snippetTextArea);
         m_colList.install(m_fieldsController);
         m_flowVarsList.install(m_snippetTextArea);
@@ -255,6 +269,7 @@ private JPanel createPanel(final boolean isPreview) {
 
         m_inFieldsTable = createInFieldsTable();
         m_outFieldsTable = createOutFieldsTable();
+        m_inColGroupsTable = createInColGroupsTable();
         final TableModelListener tableModelListener = e -> {
             if (e.getType() != TableModelEvent.DELETE) {
                 // Updating completion can result in a small delay,
@@ -271,8 +286,22 @@ private JPanel createPanel(final boolean isPreview) {
         m_inFieldsTable.setBorder(BorderFactory.createTitledBorder("Input"));
         m_outFieldsTable.setBorder(BorderFactory.createTitledBorder("Output"));
 
+        final JComponent inputPane;
+        if (null != m_inColGroupsTable) {
+            m_inColGroupsTable.getTable().getModel().addTableModelListener(tableModelListener);
+            m_inColGroupsTable.setBorder(BorderFactory.createTitledBorder("Input Column Groups"));
+            final JSplitPane inputSplitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT);
+            inputSplitPane.setTopComponent(m_inFieldsTable);
+            inputSplitPane.setBottomComponent(m_inColGroupsTable);
+            inputSplitPane.setOneTouchExpandable(true);
+            inputSplitPane.setResizeWeight(0.7); // single fields are more common than groups
+            inputPane = inputSplitPane;
+        } else {
+            inputPane = m_inFieldsTable;
+        }
+
         final JSplitPane fieldsPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT);
-        fieldsPane.setTopComponent(m_inFieldsTable);
+        fieldsPane.setTopComponent(inputPane);
         fieldsPane.setBottomComponent(m_outFieldsTable);
         fieldsPane.setOneTouchExpandable(true);
 
@@ -375,7 +404,40 @@ public void contentsChanged(final ListDataEvent e) {
     private JPanel createAdditionalLibsPanel() {
         m_jarPanel = new JarListPanel();
         m_jarPanel.addListDataListener(forceReparseListener);
-        return m_jarPanel;
+
+        final JPanel p = new JPanel(new BorderLayout());
+        p.add(m_jarPanel, BorderLayout.CENTER);
+        p.add(createJavaVersionPanel(), BorderLayout.SOUTH);
+        return p;
+    }
+
+    /** Create the panel to choose the language level the snippet is compiled for. */
+    private JPanel createJavaVersionPanel() {
+        m_javaVersionComboBox = new JComboBox<>(new Vector<>(JavaCodeCompiler.getSupportedJavaVersions()));
+        m_javaVersionComboBox.addActionListener(e -> {
+            final String javaVersion = (String)m_javaVersionComboBox.getSelectedItem();
+            if (javaVersion != null && !javaVersion.equals(m_settings.getJavaVersion())) {
+                m_snippet.setJavaVersion(javaVersion);
+                // force reparsing of the snippet
+                for (int i = 0; i < m_snippetTextArea.getParserCount(); i++) {
+                    m_snippetTextArea.forceReparsing(i);
+                }
+            }
+        });
+
+        final JPanel p = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        p.add(new JLabel("Java version:"));
+        p.add(m_javaVersionComboBox);
+        return p;
+    }
+
+    /** Select the given language level, adding it to the choices if it is not supported in this installation. */
+    private void setJavaVersionSelection(final String javaVersion) {
+        final DefaultComboBoxModel<String> model = (DefaultComboBoxModel<String>)m_javaVersionComboBox.getModel();
+        if (model.getIndexOf(javaVersion) < 0) {
+            model.addElement(javaVersion);
+        }
+        model.setSelectedItem(javaVersion);
     }
 
     /** Create the templates tab. */
@@ -399,6 +461,16 @@ protected JavaSnippetNodeDialog createPreview() {
         return new JavaSnippetNodeDialog(m_templateMetaCategory, true);
     }
 
+    /**
+     * Create the snippet edited by this dialog. Called from the constructor.
+     *
+     * @return a new snippet
+     * @since 4.3
+     */
+    protected JavaSnippet createJavaSnippet() {
+        return new JavaSnippet();
+    }
+
     /**
      * Create table do display the input fields.
      *
@@ -408,6 +480,16 @@ protected InFieldsTable createInFieldsTable() {
         return new InFieldsTable();
     }
 
+    /**
+     * Create table do display the groups of input columns which are bound to an array field.
+     *
+     * @return the table or <code>null</code> if column groups cannot be defined in this dialog
+     * @since 4.3
+     */
+    protected InColGroupsTable createInColGroupsTable() {
+        return new InColGroupsTable();
+    }
+
     /**
      * Create table do display the output fields.
      *
@@ -484,24 +566,32 @@ protected JPanel createOptionsPanel() {
 
     private void updateAutocompletion() {
         try {
+            final File[] classPath = m_snippet.getCompiletimeClassPath();
             if (m_autoCompletionJars == null || !Arrays.stream(m_autoCompletionJars).allMatch(file -> file.exists())
-                || !Arrays.equals(m_autoCompletionJars, m_snippet.getCompiletimeClassPath())) {
-
-                final LanguageSupportFactory lsf = LanguageSupportFactory.get();
-                final LanguageSupport support =
-                    lsf.getSupportFor(org.fife.ui.rsyntaxtextarea.SyntaxConstants.SYNTAX_STYLE_JAVA);
-                final JavaLanguageSupport jls = (JavaLanguageSupport)support;
-                final JarManager jarManager = jls.getJarManager();
-
-                m_autoCompletionJars = m_snippet.getCompiletimeClassPath();
-                jarManager.clearClassFileSources();
-                jarManager.addCurrentJreClassFileSource();
-                for (final File jarFile : m_autoCompletionJars) {
-                    if (!jarFile.getName().endsWith(".jar")) {
-                        continue;
-                    }
-                    jarManager.addClassFileSource(jarFile);
-                }
+                || !Arrays.equals(m_autoCompletionJars, classPath)) {
+                m_autoCompletionJars = classPath;
+                // the jar files and bundles are indexed in the background, the dialog stays responsive
+                ClassPathIndex.getInstance().index(classPath)
+                    .thenAccept(libraries -> SwingUtilities.invokeLater(() -> {
+                        if (m_autoCompletionJars != classPath) {
+                            // the class path has changed in the meantime
+                            return;
+                        }
+                        final LanguageSupportFactory lsf = LanguageSupportFactory.get();
+                        final LanguageSupport support =
+                            lsf.getSupportFor(org.fife.ui.rsyntaxtextarea.SyntaxConstants.SYNTAX_STYLE_JAVA);
+                        final JavaLanguageSupport jls = (JavaLanguageSupport)support;
+                        final JarManager jarManager = jls.getJarManager();
+                        try {
+                            jarManager.clearClassFileSources();
+                            jarManager.addCurrentJreClassFileSource();
+                            for (final LibraryInfo library : libraries) {
+                                jarManager.addClassFileSource(library);
+                            }
+                        } catch (IOException ioe) {
+                            LOGGER.error(ioe.getMessage(), ioe);
+                        }
+                    }));
             }
         } catch (IOException ioe) {
             LOGGER.error(ioe.getMessage(), ioe);
@@ -541,7 +631,11 @@ protected void setEnabled(final boolean enabled) {
             m_flowVarsList.setEnabled(enabled);
             m_inFieldsTable.setEnabled(enabled);
             m_outFieldsTable.setEnabled(enabled);
+            if (null != m_inColGroupsTable) {
+                m_inColGroupsTable.setEnabled(enabled);
+            }
             m_jarPanel.setEnabled(enabled);
+            m_javaVersionComboBox.setEnabled(enabled);
             m_bundleListPanel.setEnabled(enabled);
             m_snippetTextArea.setEnabled(enabled);
 
@@ -575,6 +669,7 @@ protected void loadSettingsFromInternal(final NodeSettingsRO settings, final Dat
         m_flowVarsList.setFlowVariables(getAvailableFlowVariables().values());
         m_snippet.setSettings(m_settings);
         m_jarPanel.setJarFiles(m_settings.getJarFiles());
+        setJavaVersionSelection(m_settings.getJavaVersion());
         m_bundleListPanel.setBundles(m_settings.getBundles());
         updateCustomTypesBundles();
 
@@ -629,6 +724,7 @@ public void applyTemplate(final JavaSnippetTemplate template, final DataTableSpe
         m_flowVarsList.setFlowVariables(flowVariables.values());
         m_snippet.setSettings(m_settings);
         m_jarPanel.setJarFiles(m_settings.getJarFiles());
+        setJavaVersionSelection(m_settings.getJavaVersion());
         m_bundleListPanel.setBundles(m_settings.getBundles());
 
         updateCustomTypesBundles();
@@ -716,6 +812,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
             if (null != m_outFieldsTable.getTable().getCellEditor()) {
                 m_outFieldsTable.getTable().getCellEditor().stopCellEditing();
             }
+            if (null != m_inColGroupsTable && null != m_inColGroupsTable.getTable().getCellEditor()) {
+                m_inColGroupsTable.getTable().getCellEditor().stopCellEditing();
+            }
         });
         final JavaSnippetSettings s = m_snippet.getSettings();
 
@@ -729,9 +828,14 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         if (!outFieldsModel.validateValues()) {
             throw new IllegalArgumentException("The output fields table has errors.");
         }
+        if (null != m_inColGroupsTable
+            && !((FieldsTableModel)m_inColGroupsTable.getTable().getModel()).validateValues()) {
+            throw new IllegalArgumentException("The input column groups table has errors.");
+        }
 
         s.setBundles(m_bundleListPanel.getBundles());
         validateBundlesSetting();
+        s.setJavaVersion((String)m_javaVersionComboBox.getSelectedItem());
 
         // give subclasses the chance to modify settings
         preSaveSettings(s);
@@ -0,0 +1,396 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.swing.text.BadLocationException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.knime.base.node.jsnippet.guarded.JavaSnippetDocument;
+import org.knime.base.node.jsnippet.util.FlowVariableRepository;
+import org.knime.base.node.jsnippet.util.JavaSnippetSettings;
+import org.knime.base.node.jsnippet.util.ValidationReport;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.OutputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.streamable.simple.SimpleStreamableOperatorInternals;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.FlowVariable.Type;
+
+/**
+ * The node model of the java snippet row filter and row splitter nodes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ */
+public class JavaSnippetRowSplitterNodeModel extends NodeModel {
+
+    /* config key to store the row count in a streamable operator internals */
+    private static final String CFG_ROW_COUNT = "row_count";
+
+    private final JavaSnippetSettings m_settings;
+
+    private final JavaRowFilterSnippet m_snippet;
+
+    /** The flow variables after the snippet ran in streaming mode, pushed in finishStreamableExecution. */
+    private volatile FlowVariableRepository m_streamedFlowVars;
+
+    /**
+     * Create a new instance.
+     *
+     * @param hasFalsePort whether excluded rows are written to a second output
+     */
+    public JavaSnippetRowSplitterNodeModel(final boolean hasFalsePort) {
+        super(1, hasFalsePort ? 2 : 1);
+        m_settings = new JavaSnippetSettings("INCLUDE = true;");
+        m_snippet = new JavaRowFilterSnippet();
+        m_snippet.attachLogger(getLogger());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+        m_snippet.setSettings(m_settings);
+
+        FlowVariableRepository flowVarRepository = new FlowVariableRepository(getAvailableInputFlowVariables());
+        // The following method also compile-checks the code and checks for missing converter factories
+        ValidationReport report = m_snippet.validateSettings(inSpecs[0], flowVarRepository);
+        if (report.hasWarnings()) {
+            setWarningMessage(StringUtils.join(report.getWarnings(), "\n"));
+        }
+        if (report.hasErrors()) {
+            throw new InvalidSettingsException(StringUtils.join(report.getErrors(), "\n"));
+        }
+
+        m_snippet.configure(inSpecs[0], flowVarRepository);
+        pushFlowVariables(flowVarRepository);
+
+        DataTableSpec[] outs = new DataTableSpec[getNrOutPorts()];
+        Arrays.fill(outs, inSpecs[0]);
+        return outs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+        throws Exception {
+        m_snippet.setSettings(m_settings);
+
+        DataTableSpec spec = inData[0].getDataTableSpec();
+        BufferedDataContainer included = exec.createDataContainer(spec);
+        BufferedDataContainer excluded = getNrOutPorts() == 2 ? exec.createDataContainer(spec) : null;
+
+        FlowVariableRepository flowVarRepo = new FlowVariableRepository(getAvailableInputFlowVariables());
+        m_snippet.filter(new DataTableRowInput(inData[0]), new BufferedDataTableRowOutput(included),
+            excluded == null ? null : new BufferedDataTableRowOutput(excluded), flowVarRepo, inData[0].size(), exec);
+        pushFlowVariables(flowVarRepo);
+
+        setWarningMessage(m_snippet.getWarningMessage());
+
+        return Stream.of(included, excluded).filter(c -> c != null).map(BufferedDataContainer::getTable)
+            .toArray(BufferedDataTable[]::new);
+    }
+
+    private void pushFlowVariables(final FlowVariableRepository flowVarRepo) {
+        for (FlowVariable var : flowVarRepo.getModified()) {
+            Type type = var.getType();
+            if (type.equals(Type.INTEGER)) {
+                pushFlowVariableInt(var.getName(), var.getIntValue());
+            } else if (type.equals(Type.DOUBLE)) {
+                pushFlowVariableDouble(var.getName(), var.getDoubleValue());
+            } else { // case: type.equals(Type.STRING)
+                pushFlowVariableString(var.getName(), var.getStringValue());
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (usesRowIndex() || !m_settings.getJavaSnippetFields().getOutVarFields().isEmpty()) {
+            // rowindex field is used or output flow variables are assigned, which must see all rows:
+            // cannot be distributed
+            return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+        }
+        return new InputPortRole[]{InputPortRole.DISTRIBUTED_STREAMABLE};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutputPortRole[] getOutputPortRoles() {
+        return IntStream.range(0, getNrOutPorts()).mapToObj(i -> OutputPortRole.DISTRIBUTED)
+            .toArray(OutputPortRole[]::new);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperatorInternals createInitialStreamableOperatorInternals() {
+        return new SimpleStreamableOperatorInternals();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean iterate(final StreamableOperatorInternals internals) {
+        // needs one iteration to determine the row count if the ROWCOUNT field is used
+        return usesRowCount()
+            && !((SimpleStreamableOperatorInternals)internals).getConfig().containsKey(CFG_ROW_COUNT);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        m_snippet.setSettings(m_settings);
+        return new StreamableOperator() {
+
+            private SimpleStreamableOperatorInternals m_internals;
+
+            @Override
+            public void loadInternals(final StreamableOperatorInternals internals) {
+                m_internals = (SimpleStreamableOperatorInternals)internals;
+            }
+
+            @Override
+            public void runIntermediate(final PortInput[] inputs, final ExecutionContext exec) throws Exception {
+                //count number of rows
+                long count = 0;
+                RowInput rowInput = (RowInput)inputs[0];
+                while (rowInput.poll() != null) {
+                    count++;
+                }
+                m_internals.getConfig().addLong(CFG_ROW_COUNT, count);
+            }
+
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                long rowCount = -1;
+                if (m_internals != null && m_internals.getConfig().containsKey(CFG_ROW_COUNT)) {
+                    rowCount = m_internals.getConfig().getLong(CFG_ROW_COUNT);
+                }
+                FlowVariableRepository flowVarRepo =
+                    new FlowVariableRepository(getAvailableInputFlowVariables());
+                m_snippet.filter((RowInput)inputs[0], (RowOutput)outputs[0],
+                    outputs.length > 1 ? (RowOutput)outputs[1] : null, flowVarRepo, rowCount, exec);
+                m_streamedFlowVars = flowVarRepo;
+            }
+
+            @Override
+            public StreamableOperatorInternals saveInternals() {
+                return m_internals;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MergeOperator createMergeOperator() {
+        return new MergeOperator() {
+
+            @Override
+            public StreamableOperatorInternals mergeIntermediate(final StreamableOperatorInternals[] operators) {
+                //sum up the row counts
+                long count = 0;
+                for (StreamableOperatorInternals operator : operators) {
+                    SimpleStreamableOperatorInternals simpleInternals = (SimpleStreamableOperatorInternals)operator;
+                    CheckUtils.checkState(simpleInternals.getConfig().containsKey(CFG_ROW_COUNT),
+                        "Config for key " + CFG_ROW_COUNT + " isn't set.");
+                    try {
+                        count += simpleInternals.getConfig().getLong(CFG_ROW_COUNT);
+                    } catch (InvalidSettingsException e) {
+                        // should not happen since we checked already
+                        throw new RuntimeException(e);
+                    }
+                }
+                SimpleStreamableOperatorInternals res = new SimpleStreamableOperatorInternals();
+                res.getConfig().addLong(CFG_ROW_COUNT, count);
+                return res;
+            }
+
+            @Override
+            public StreamableOperatorInternals mergeFinal(final StreamableOperatorInternals[] operators) {
+                //nothing to do here
+                return null;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void finishStreamableExecution(final StreamableOperatorInternals internals, final ExecutionContext exec,
+        final PortOutput[] output) throws Exception {
+        // push the flow variables assigned by the snippet, like in execute
+        if (m_streamedFlowVars != null) {
+            pushFlowVariables(m_streamedFlowVars);
+            m_streamedFlowVars = null;
+        }
+        setWarningMessage(m_snippet.getWarningMessage());
+    }
+
+    private boolean usesRowIndex() {
+        return snippetCodeContains(JavaSnippet.ROWINDEX);
+    }
+
+    private boolean usesRowCount() {
+        return snippetCodeContains(JavaSnippet.ROWCOUNT);
+    }
+
+    private boolean snippetCodeContains(final String field) {
+        //is there a better test?
+        try {
+            String snippetCode = m_snippet.getDocument().getTextBetween(JavaSnippetDocument.GUARDED_BODY_START,
+                JavaSnippetDocument.GUARDED_BODY_END);
+            return snippetCode.contains(field);
+        } catch (BadLocationException e) {
+            //should not happen -> implementation error
+            throw new RuntimeException("Most likely an implementation error.", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void saveSettingsTo(final NodeSettingsWO settings) {
+        m_settings.saveSettings(settings);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        JavaSnippetSettings s = new JavaSnippetSettings();
+        s.loadSettings(settings);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_settings.loadSettings(settings);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void reset() {
+        m_snippet.setWarningMessage(null);
+        m_streamedFlowVars = null;
+    }
+
+    @Override
+    protected void onDispose() {
+        super.onDispose();
+        m_snippet.invalidate();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // no internals.
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        // no internals.
+    }
+}
@@ -50,6 +50,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.knime.base.node.jsnippet.type.ConverterUtil;
 import org.knime.base.node.jsnippet.util.FlowVariableRepository;
@@ -57,8 +58,10 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeLogger.LEVEL;
 
 /**
+ * Base class of the java snippets. The log methods are rate limited per snippet instance and write asynchronously.
  *
  * @author Heiko Hofer
  */
@@ -82,6 +85,8 @@ public abstract class AbstractJSnippet {
 
     private NodeLogger m_logger;
 
+    private final SnippetLog m_log = new SnippetLog();
+
     /**
      * Create new instance.
      */
@@ -326,13 +331,24 @@ public void attachLogger(final NodeLogger logger) {
         m_logger = logger;
     }
 
+    /**
+     * Write the number of log messages dropped by the rate limit of the log methods, if any. Called by the framework
+     * after the snippet processed the last row.
+     *
+     * @since 4.3
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public void flushLog() {
+        m_log.flush();
+    }
+
     /**
      * Write warning message to the logger.
      *
      * @param o The object to print.
      */
     protected void logWarn(final Object o) {
-        m_logger.warn(o);
+        m_log.log(m_logger, LEVEL.WARN, () -> o, null);
     }
 
     /**
@@ -341,7 +357,7 @@ protected void logWarn(final Object o) {
      * @param o The object to print.
      */
     protected void logDebug(final Object o) {
-        m_logger.debug(o);
+        m_log.log(m_logger, LEVEL.DEBUG, () -> o, null);
     }
 
     /**
@@ -350,7 +366,7 @@ protected void logDebug(final Object o) {
      * @param o The object to print.
      */
     protected void logInfo(final Object o) {
-        m_logger.info(o);
+        m_log.log(m_logger, LEVEL.INFO, () -> o, null);
     }
 
     /**
@@ -359,7 +375,7 @@ protected void logInfo(final Object o) {
      * @param o The object to print.
      */
     protected void logError(final Object o) {
-        m_logger.error(o);
+        m_log.log(m_logger, LEVEL.ERROR, () -> o, null);
     }
 
     /**
@@ -368,7 +384,7 @@ protected void logError(final Object o) {
      * @param o The object to print.
      */
     protected void logFatal(final Object o) {
-        m_logger.fatal(o);
+        m_log.log(m_logger, LEVEL.FATAL, () -> o, null);
     }
 
     /**
@@ -378,7 +394,7 @@ protected void logFatal(final Object o) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     protected void logWarn(final Object o, final Throwable t) {
-        m_logger.warn(o, t);
+        m_log.log(m_logger, LEVEL.WARN, () -> o, t);
     }
 
     /**
@@ -388,7 +404,7 @@ protected void logWarn(final Object o, final Throwable t) {
      * @param t The exception to log, including its stack trace.
      */
     protected void logDebug(final Object o, final Throwable t) {
-        m_logger.debug(o, t);
+        m_log.log(m_logger, LEVEL.DEBUG, () -> o, t);
     }
 
     /**
@@ -398,7 +414,7 @@ protected void logDebug(final Object o, final Throwable t) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     protected void logInfo(final Object o, final Throwable t) {
-        m_logger.info(o, t);
+        m_log.log(m_logger, LEVEL.INFO, () -> o, t);
     }
 
     /**
@@ -408,7 +424,7 @@ protected void logInfo(final Object o, final Throwable t) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     protected void logError(final Object o, final Throwable t) {
-        m_logger.error(o, t);
+        m_log.log(m_logger, LEVEL.ERROR, () -> o, t);
     }
 
     /**
@@ -418,6 +434,61 @@ protected void logError(final Object o, final Throwable t) {
      * @param t The exception to log at debug level, including its stack trace.
      */
     protected void logFatal(final Object o, final Throwable t) {
-        m_logger.fatal(o, t);
+        m_log.log(m_logger, LEVEL.FATAL, () -> o, t);
+    }
+
+    /**
+     * Write warning message to the logger. The message is only created if it is actually written, e.g.
+     * {@code logWarn(() -> "value: " + value)}.
+     *
+     * @param message Supplies the object to print.
+     * @since 4.3
+     */
+    protected void logWarn(final Supplier<?> message) {
+        m_log.log(m_logger, LEVEL.WARN, message, null);
+    }
+
+    /**
+     * Write debugging message to the logger. The message is only created if it is actually written, e.g.
+     * {@code logDebug(() -> "value: " + value)}.
+     *
+     * @param message Supplies the object to print.
+     * @since 4.3
+     */
+    protected void logDebug(final Supplier<?> message) {
+        m_log.log(m_logger, LEVEL.DEBUG, message, null);
+    }
+
+    /**
+     * Write info message to the logger. The message is only created if it is actually written, e.g.
+     * {@code logInfo(() -> "value: " + value)}.
+     *
+     * @param message Supplies the object to print.
+     * @since 4.3
+     */
+    protected void logInfo(final Supplier<?> message) {
+        m_log.log(m_logger, LEVEL.INFO, message, null);
+    }
+
+    /**
+     * Write error message to the logger. The message is only created if it is actually written, e.g.
+     * {@code logError(() -> "value: " + value)}.
+     *
+     * @param message Supplies the object to print.
+     * @since 4.3
+     */
+    protected void logError(final Supplier<?> message) {
+        m_log.log(m_logger, LEVEL.ERROR, message, null);
+    }
+
+    /**
+     * Write fatal error message to the logger. The message is only created if it is actually written, e.g.
+     * {@code logFatal(() -> "value: " + value)}.
+     *
+     * @param message Supplies the object to print.
+     * @since 4.3
+     */
+    protected void logFatal(final Supplier<?> message) {
+        m_log.log(m_logger, LEVEL.FATAL, message, null);
     }
 }
@@ -0,0 +1,221 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.expression;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeLogger.LEVEL;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Logging backend of a java snippet instance.
+ *
+ * Messages are only created when the level is enabled, limited to {@link #MAX_MESSAGES_PER_SECOND} per snippet
+ * instance and written in batches by a background thread, so log calls that remain in production snippets hardly
+ * slow down the execution. Errors and fatal errors are never dropped. The number of dropped messages is written
+ * before the next message and by {@link #flush()}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SnippetLog {
+
+    /** Maximum number of messages a single snippet instance writes per second, further messages are dropped. */
+    static final int MAX_MESSAGES_PER_SECOND = 100;
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "KNIME-Java-Snippet-Logger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Queue<Entry> PENDING = new ConcurrentLinkedQueue<>();
+
+    private static final AtomicBoolean SCHEDULED = new AtomicBoolean();
+
+    private long m_windowStart = System.nanoTime();
+
+    private int m_messagesInWindow;
+
+    private long m_suppressed;
+
+    /** The highest level of the dropped messages. */
+    private LEVEL m_suppressedLevel;
+
+    /** The logger of the last dropped message. */
+    private NodeLogger m_suppressedLogger;
+
+    /**
+     * Log a message, if the level is enabled and the rate limit is not exceeded. The message is created on the calling
+     * thread, since it may refer to state of the snippet that changes with the next row.
+     *
+     * @param logger the logger to write to
+     * @param level the level of the message
+     * @param message supplies the message, may be <code>null</code>
+     * @param t the throwable to log, may be <code>null</code>
+     */
+    void log(final NodeLogger logger, final LEVEL level, final Supplier<?> message, final Throwable t) {
+        if (!logger.isEnabledFor(level)) {
+            return;
+        }
+        // errors are never dropped
+        if (level != LEVEL.ERROR && level != LEVEL.FATAL && !tryAcquire()) {
+            if (m_suppressed == 0 || level.ordinal() > m_suppressedLevel.ordinal()) {
+                m_suppressedLevel = level;
+            }
+            m_suppressedLogger = logger;
+            m_suppressed++;
+            return;
+        }
+        flush();
+        enqueue(new Entry(logger, level, String.valueOf(message == null ? null : message.get()), t,
+            NodeContext.getContext()));
+    }
+
+    /**
+     * Write the number of messages dropped since the last written message, if any. Called before every written
+     * message and after the snippet processed the last row, so the count is never lost.
+     */
+    void flush() {
+        if (m_suppressed > 0) {
+            enqueue(new Entry(m_suppressedLogger, m_suppressedLevel,
+                String.format("%d log messages of the snippet were dropped, at most %d messages are written per second",
+                    m_suppressed, MAX_MESSAGES_PER_SECOND),
+                null, NodeContext.getContext()));
+            m_suppressed = 0;
+        }
+    }
+
+    private static void enqueue(final Entry entry) {
+        PENDING.add(entry);
+        if (SCHEDULED.compareAndSet(false, true)) {
+            WRITER.execute(SnippetLog::writePending);
+        }
+    }
+
+    private boolean tryAcquire() {
+        final long now = System.nanoTime();
+        if (now - m_windowStart >= WINDOW_NANOS) {
+            m_windowStart = now;
+            m_messagesInWindow = 0;
+        }
+        if (m_messagesInWindow < MAX_MESSAGES_PER_SECOND) {
+            m_messagesInWindow++;
+            return true;
+        }
+        return false;
+    }
+
+    /** Writes all pending messages, runs on the writer thread. */
+    private static void writePending() {
+        // reset before polling, messages added afterwards schedule another run
+        SCHEDULED.set(false);
+        Entry entry;
+        while ((entry = PENDING.poll()) != null) {
+            if (entry.m_context != null) {
+                NodeContext.pushContext(entry.m_context);
+            }
+            try {
+                entry.write();
+            } finally {
+                if (entry.m_context != null) {
+                    NodeContext.removeLastContext();
+                }
+            }
+        }
+    }
+
+    /** A message waiting to be written. */
+    private static final class Entry {
+        private final NodeLogger m_logger;
+
+        private final LEVEL m_level;
+
+        private final String m_message;
+
+        private final Throwable m_throwable;
+
+        private final NodeContext m_context;
+
+        Entry(final NodeLogger logger, final LEVEL level, final String message, final Throwable throwable,
+            final NodeContext context) {
+            m_logger = logger;
+            m_level = level;
+            m_message = message;
+            m_throwable = throwable;
+            m_context = context;
+        }
+
+        void write() {
+            switch (m_level) {
+                case DEBUG:
+                    m_logger.debug(m_message, m_throwable);
+                    break;
+                case INFO:
+                    m_logger.info(m_message, m_throwable);
+                    break;
+                case WARN:
+                    m_logger.warn(m_message, m_throwable);
+                    break;
+                case ERROR:
+                    m_logger.error(m_message, m_throwable);
+                    break;
+                default:
+                    m_logger.fatal(m_message, m_throwable);
+            }
+        }
+    }
+}
@@ -55,8 +55,16 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.knime.base.node.jsnippet.util.JSnippetTemplate;
 import org.knime.core.node.NodeLogger;
@@ -64,7 +72,8 @@
 import org.knime.core.node.NodeSettingsRO;
 
 /**
- * A {@link TemplateRepository} which stores templates on the disk.
+ * A {@link TemplateRepository} which stores templates on the disk. The templates are guarded by the monitor of the
+ * repository.
  * <p>This class might change and is not meant as public API.
  *
  * @author Heiko Hofer
@@ -79,17 +88,33 @@
     private static NodeLogger logger
         = NodeLogger.getLogger(FileTemplateRepository.class);
 
+    /** Number of template files read concurrently, hides the latency of network drives. */
+    private static final int READER_THREADS = 4;
+
+    private static final AtomicInteger READER_COUNT = new AtomicInteger();
+
+    /** Reads template files, the blocking I/O must not occupy the common pool. */
+    private static final ExecutorService READER = Executors.newFixedThreadPool(READER_THREADS, r -> {
+        final Thread thread = new Thread(r, "KNIME-Java-Snippet-Template-Reader-" + READER_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private File m_folder;
     private boolean m_readonly;
 
     /** Templates grouped by meta category. */
     private Map<Class, Collection<T>> m_templates;
 
+    /** Names of the meta category folders whose templates have been read. */
+    private final Set<String> m_loadedFolders = new HashSet<>();
+
     private SnippetTemplateFactory<T> m_factory;
 
 
     /**
-     * Create a new file base template repository.
+     * Create a new file base template repository. The templates are read lazily per meta category, i.e. when the
+     * templates of a meta category are requested for the first time.
      *
      * @param folder the folder with templates
      * @param readonly if the repository is read only
@@ -104,44 +129,67 @@ private FileTemplateRepository(final File folder, final boolean readonly, final
         m_factory = factory;
 
         m_templates = new HashMap<>();
+    }
 
-        Collection<T> templates = new ArrayList<>();
-
-        if (m_folder.exists()) {
-            for (File meta : m_folder.listFiles()) {
-                if (meta.isDirectory()) {
-                    for (File file : meta.listFiles()) {
-                        addIfTemplate(templates, file);
-                    }
+    /**
+     * Read the templates of the given meta category folder unless this has already been done.
+     * @param folderName the name of the folder, which is the class name of the meta category
+     */
+    private synchronized void ensureLoaded(final String folderName) {
+        if (!m_loadedFolders.add(folderName)) {
+            return;
+        }
+        final File[] files = new File(m_folder, folderName).listFiles();
+        if (files == null) {
+            return;
+        }
+        // reading in parallel hides the latency of network drives
+        final List<Future<T>> futures = new ArrayList<>(files.length);
+        for (final File file : files) {
+            if (file.getName().endsWith(".xml")) {
+                futures.add(READER.submit(() -> readTemplate(file)));
+            }
+        }
+        final List<T> templates = new ArrayList<>(futures.size());
+        for (final Future<T> future : futures) {
+            try {
+                final T template = future.get();
+                if (template != null) {
+                    templates.add(template);
                 }
+            } catch (ExecutionException e) {
+                // readTemplate catches all exceptions, this should never happen
+                logger.error("Cannot read a template.", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // not all templates are read, read them again on the next request
+                m_loadedFolders.remove(folderName);
+                futures.forEach(f -> f.cancel(true));
+                return;
             }
         }
         appendTemplates(templates);
-
     }
 
     /**
-     * Adds the template to the give collection o a successful read. The
-     * template file is supposed to end with ".xml".
-     * @param templates the templates to add to
+     * Read the template in the given file. The template file is supposed to end with ".xml".
      * @param file the file to read
+     * @return the template or null if the file cannot be read
      */
-    private void addIfTemplate(final Collection<T> templates, final File file) {
-        if (file.getName().endsWith(".xml")) {
-            try (FileInputStream in = new FileInputStream(file)){
-                NodeSettingsRO settings =
-                    NodeSettings.loadFromXML(in);
-                templates.add(m_factory.create(settings));
-            } catch (Exception e) {
-                logger.error("The following file seems to be no template. "
-                        + file.getAbsolutePath(), e);
-            }
+    private T readTemplate(final File file) {
+        try (FileInputStream in = new FileInputStream(file)){
+            NodeSettingsRO settings =
+                NodeSettings.loadFromXML(in);
+            return m_factory.create(settings);
+        } catch (Exception e) {
+            logger.error("The following file seems to be no template. "
+                    + file.getAbsolutePath(), e);
+            return null;
         }
-
     }
 
     /**
-     * Append given templates to the list of templates.
+     * Append given templates to the list of templates. The caller must hold the lock of this repository.
      * @param templates the templates to append.
      */
     private void appendTemplates(final Collection<T> templates) {
@@ -187,9 +235,14 @@ public static <T extends JSnippetTemplate> FileTemplateRepository<T> create(fina
      * {@inheritDoc}
      */
     @Override
-    public Collection<T> getTemplates(final Collection<Class> metaCategories) {
+    public synchronized Collection<T> getTemplates(final Collection<Class> metaCategories) {
+        for (Class c : metaCategories) {
+            ensureLoaded(c.getName());
+        }
         if (metaCategories.size() == 1) {
-            return m_templates.get(metaCategories.iterator().next());
+            // a copy, the templates may be changed by other threads
+            final Collection<T> templates = m_templates.get(metaCategories.iterator().next());
+            return null != templates ? new ArrayList<>(templates) : null;
         } else {
             Collection<T> templates =
                 new ArrayList<>();
@@ -215,7 +268,8 @@ public boolean isRemoveable(final T template) {
     }
 
     /** Returns true when the given template is in this repository. */
-    private boolean isInRepository(final T template) {
+    private synchronized boolean isInRepository(final T template) {
+        ensureLoaded(template.getMetaCategory().getName());
         Collection<T> templates = m_templates.get(template.getMetaCategory());
         return null != templates ? templates.contains(template) : false;
     }
@@ -228,14 +282,21 @@ public boolean removeTemplate(final T template) {
         if (m_readonly) {
             return false;
         }
-        Collection<T> templates =
-            m_templates.get(template.getMetaCategory());
-        boolean removed = templates.remove(template);
-        if (removed) {
-            File file = getFile(template);
-            if (file.exists()) {
-                file.delete();
+        final boolean removed;
+        synchronized (this) {
+            ensureLoaded(template.getMetaCategory().getName());
+            Collection<T> templates =
+                m_templates.get(template.getMetaCategory());
+            removed = null != templates && templates.remove(template);
+            if (removed) {
+                File file = getFile(template);
+                if (file.exists()) {
+                    file.delete();
+                }
             }
+        }
+        if (removed) {
+            // outside of the lock, listeners may read the templates from another thread
             fireStateChanged();
         }
         return removed;
@@ -246,11 +307,13 @@ public boolean removeTemplate(final T template) {
      * @param template the template
      */
     @Override
-    public void addTemplate(final T template) {
+    public synchronized void addTemplate(final T template) {
         if (m_readonly) {
             throw new RuntimeException("This repository is read only."
                     + "Cannot add a template.");
         }
+        // read the existing templates first, the new file must not be read a second time
+        ensureLoaded(template.getMetaCategory().getName());
         try {
             File file = getFile(template);
             boolean isNew = file.createNewFile();
@@ -297,6 +360,41 @@ private File getFile(final JSnippetTemplate template) {
     @Override
     public T getTemplate(final UUID id) {
         String refID = id.toString();
+        T template = findTemplate(refID);
+        if (null == template && m_folder.exists()) {
+            // the file name ends with the id, only read the meta category containing it
+            final String suffix = "_" + refID + ".xml";
+            for (File meta : m_folder.listFiles()) {
+                if (meta.isDirectory() && !isLoaded(meta.getName())) {
+                    final String[] names = meta.list((dir, name) -> name.endsWith(suffix));
+                    if (names != null && names.length > 0) {
+                        ensureLoaded(meta.getName());
+                        template = findTemplate(refID);
+                        if (null != template) {
+                            return template;
+                        }
+                    }
+                }
+            }
+            // files of other repositories (e.g. protected or provided by extensions) may be named differently
+            for (File meta : m_folder.listFiles()) {
+                if (meta.isDirectory() && !isLoaded(meta.getName())) {
+                    ensureLoaded(meta.getName());
+                    template = findTemplate(refID);
+                    if (null != template) {
+                        return template;
+                    }
+                }
+            }
+        }
+        return template;
+    }
+
+    private synchronized boolean isLoaded(final String folderName) {
+        return m_loadedFolders.contains(folderName);
+    }
+
+    private synchronized T findTemplate(final String refID) {
         for (Collection<T> templates : m_templates.values()) {
             for (T template : templates) {
                 if (template.getUUID().equals(refID)) {
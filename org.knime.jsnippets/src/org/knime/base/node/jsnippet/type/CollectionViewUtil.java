@@ -0,0 +1,316 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.type;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.collection.CollectionCellFactory;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.collection.ListCell;
+import org.knime.core.data.collection.ListDataValue;
+import org.knime.core.data.convert.datacell.JavaToDataCellConverterFactory;
+import org.knime.core.data.convert.datacell.SimpleJavaToDataCellConverterFactory;
+import org.knime.core.data.convert.java.DataCellToJavaConverterFactory;
+import org.knime.core.data.convert.java.SimpleDataCellToJavaConverterFactory;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Contains converter factories for collection columns which avoid the per element boxing and copying of the
+ * registered collection converters, which convert every collection cell into a newly allocated array.
+ *
+ * Input columns can be read as read-only {@link List} view backed directly by the {@link ListDataValue}, elements are
+ * only converted when they are accessed, or as unboxed <code>double[]</code>. Output columns can be created from a
+ * {@link List} or <code>double[]</code> in a single pass without an intermediate object array.
+ *
+ * The factories are not registered at the converter registries and are only offered via {@link ConverterUtil}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+@SuppressWarnings("rawtypes")
+public final class CollectionViewUtil {
+
+    /** Collection of numbers as <code>double[]</code>, missing elements are NaN. */
+    public static final SimpleDataCellToJavaConverterFactory<CollectionDataValue, double[]> toDoubleArrayFactory =
+        new SimpleDataCellToJavaConverterFactory<>(CollectionDataValue.class, double[].class,
+            CollectionViewUtil::toDoubleArray, "double[] (unboxed)");
+
+    /** List of numbers as view of {@link Double Doubles}, missing elements are <code>null</code>. */
+    public static final SimpleDataCellToJavaConverterFactory<ListDataValue, List> toDoubleListFactory =
+        new SimpleDataCellToJavaConverterFactory<>(ListDataValue.class, List.class,
+            val -> new ListView<Double>(val, c -> ((DoubleValue)c).getDoubleValue()), "List of Double (view)");
+
+    /** List of longs as view of {@link Long Longs}, missing elements are <code>null</code>. */
+    public static final SimpleDataCellToJavaConverterFactory<ListDataValue, List> toLongListFactory =
+        new SimpleDataCellToJavaConverterFactory<>(ListDataValue.class, List.class,
+            val -> new ListView<Long>(val, c -> ((LongValue)c).getLongValue()), "List of Long (view)");
+
+    /** List of integers as view of {@link Integer Integers}, missing elements are <code>null</code>. */
+    public static final SimpleDataCellToJavaConverterFactory<ListDataValue, List> toIntegerListFactory =
+        new SimpleDataCellToJavaConverterFactory<>(ListDataValue.class, List.class,
+            val -> new ListView<Integer>(val, c -> ((IntValue)c).getIntValue()), "List of Integer (view)");
+
+    /** List of strings as view of {@link String Strings}, missing elements are <code>null</code>. */
+    public static final SimpleDataCellToJavaConverterFactory<ListDataValue, List> toStringListFactory =
+        new SimpleDataCellToJavaConverterFactory<>(ListDataValue.class, List.class,
+            val -> new ListView<String>(val, c -> ((StringValue)c).getStringValue()), "List of String (view)");
+
+    /**
+     * <code>double[]</code> as list of doubles. NaN elements are kept like for double output columns, a
+     * <code>double[]</code> cannot express missing elements; use a {@link List} for that.
+     */
+    public static final SimpleJavaToDataCellConverterFactory<double[]> fromDoubleArrayFactory =
+        new SimpleJavaToDataCellConverterFactory<>(double[].class, ListCell.getCollectionType(DoubleCell.TYPE),
+            CollectionViewUtil::fromDoubleArray, "double[]");
+
+    /** {@link List} of {@link Number Numbers} as list of doubles, <code>null</code> elements become missing cells. */
+    public static final SimpleJavaToDataCellConverterFactory<List> fromDoubleListFactory =
+        new SimpleJavaToDataCellConverterFactory<>(List.class, ListCell.getCollectionType(DoubleCell.TYPE),
+            val -> fromList(val, o -> new DoubleCell(((Number)o).doubleValue())), "List of Double");
+
+    /** {@link List} of {@link Number Numbers} as list of longs, <code>null</code> elements become missing cells. */
+    public static final SimpleJavaToDataCellConverterFactory<List> fromLongListFactory =
+        new SimpleJavaToDataCellConverterFactory<>(List.class, ListCell.getCollectionType(LongCell.TYPE),
+            val -> fromList(val, o -> new LongCell(((Number)o).longValue())), "List of Long");
+
+    /** {@link List} of {@link Number Numbers} as list of integers, <code>null</code> elements become missing cells. */
+    public static final SimpleJavaToDataCellConverterFactory<List> fromIntegerListFactory =
+        new SimpleJavaToDataCellConverterFactory<>(List.class, ListCell.getCollectionType(IntCell.TYPE),
+            val -> fromList(val, o -> new IntCell(((Number)o).intValue())), "List of Integer");
+
+    /** {@link List} of objects as list of strings, <code>null</code> elements become missing cells. */
+    public static final SimpleJavaToDataCellConverterFactory<List> fromStringListFactory =
+        new SimpleJavaToDataCellConverterFactory<>(List.class, ListCell.getCollectionType(StringCell.TYPE),
+            val -> fromList(val, o -> new StringCell(o.toString())), "List of String");
+
+    private static final List<DataCellToJavaConverterFactory<?, ?>> TO_JAVA_FACTORIES =
+        Arrays.asList(toDoubleArrayFactory, toDoubleListFactory, toLongListFactory, toIntegerListFactory,
+            toStringListFactory);
+
+    /** The value class the elements of a collection need to be compatible to, per factory in TO_JAVA_FACTORIES. */
+    private static final List<Class<? extends DataValue>> TO_JAVA_ELEMENT_VALUES =
+        Arrays.asList(DoubleValue.class, DoubleValue.class, LongValue.class, IntValue.class, StringValue.class);
+
+    private static final List<JavaToDataCellConverterFactory<?>> TO_DATACELL_FACTORIES =
+        Arrays.asList(fromDoubleArrayFactory, fromDoubleListFactory, fromLongListFactory, fromIntegerListFactory,
+            fromStringListFactory);
+
+    private CollectionViewUtil() {
+    }
+
+    private static double[] toDoubleArray(final CollectionDataValue val) {
+        final double[] result = new double[val.size()];
+        int i = 0;
+        for (final DataCell cell : val) {
+            result[i++] = cell.isMissing() ? Double.NaN : ((DoubleValue)cell).getDoubleValue();
+        }
+        return result;
+    }
+
+    private static DataCell fromDoubleArray(final double[] val) {
+        final List<DataCell> cells = new ArrayList<>(val.length);
+        for (final double d : val) {
+            cells.add(new DoubleCell(d));
+        }
+        return CollectionCellFactory.createListCell(cells);
+    }
+
+    private static DataCell fromList(final List<?> val, final Function<Object, DataCell> elementConverter) {
+        final List<DataCell> cells = new ArrayList<>(val.size());
+        for (final Object o : val) {
+            cells.add(o == null ? DataType.getMissingCell() : elementConverter.apply(o));
+        }
+        return CollectionCellFactory.createListCell(cells);
+    }
+
+    /**
+     * Get the factories of this utility which can convert cells of the given type.
+     *
+     * @param sourceType the type of the input column
+     * @return the applicable factories, empty if the type is not a collection type
+     */
+    public static Collection<DataCellToJavaConverterFactory<?, ?>>
+        getFactoriesForSourceType(final DataType sourceType) {
+        final List<DataCellToJavaConverterFactory<?, ?>> result = new ArrayList<>();
+        if (!sourceType.isCollectionType()) {
+            return result;
+        }
+        final DataType elementType = sourceType.getCollectionElementType();
+        for (int i = 0; i < TO_JAVA_FACTORIES.size(); i++) {
+            final DataCellToJavaConverterFactory<?, ?> factory = TO_JAVA_FACTORIES.get(i);
+            if (sourceType.isCompatible(factory.getSourceType())
+                && elementType.isCompatible(TO_JAVA_ELEMENT_VALUES.get(i))) {
+                result.add(factory);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the factories of this utility which create cells of the given type.
+     *
+     * @param destType the type of the output column
+     * @return the applicable factories
+     */
+    public static Collection<JavaToDataCellConverterFactory<?>> getFactoriesForDestinationType(final DataType destType) {
+        final List<JavaToDataCellConverterFactory<?>> result = new ArrayList<>();
+        for (final JavaToDataCellConverterFactory<?> factory : TO_DATACELL_FACTORIES) {
+            if (factory.getDestinationType().equals(destType)) {
+                result.add(factory);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get one of the factories of this utility for the given types.
+     *
+     * @param source Source type
+     * @param dest Destination type
+     * @return an optional converter factory
+     */
+    public static Optional<DataCellToJavaConverterFactory<?, ?>> getConverterFactory(final DataType source,
+        final Class<?> dest) {
+        return getFactoriesForSourceType(source).stream().filter(f -> f.getDestinationType().equals(dest))
+            .findFirst();
+    }
+
+    /**
+     * Get one of the factories of this utility for the given types.
+     *
+     * @param source Source type
+     * @param dest Destination type
+     * @return an optional converter factory
+     */
+    public static Optional<JavaToDataCellConverterFactory<?>> getConverterFactory(final Class<?> source,
+        final DataType dest) {
+        return getFactoriesForDestinationType(dest).stream().filter(f -> f.getSourceType().equals(source))
+            .findFirst();
+    }
+
+    /**
+     * Get one of the factories of this utility using its identifier.
+     *
+     * @param id the identifier
+     * @return an optional converter factory
+     */
+    public static Optional<DataCellToJavaConverterFactory<?, ?>> getDataCellToJavaConverterFactory(final String id) {
+        return TO_JAVA_FACTORIES.stream().filter(f -> f.getIdentifier().equals(id)).findFirst();
+    }
+
+    /**
+     * Get one of the factories of this utility using its identifier.
+     *
+     * @param id the identifier
+     * @return an optional converter factory
+     */
+    public static Optional<JavaToDataCellConverterFactory<?>> getJavaToDataCellConverterFactory(final String id) {
+        return TO_DATACELL_FACTORIES.stream().filter(f -> f.getIdentifier().equals(id)).findFirst();
+    }
+
+    /**
+     * @return all factories of this utility which convert cells into java objects
+     */
+    public static Collection<DataCellToJavaConverterFactory<?, ?>> getAllDataCellToJavaConverterFactories() {
+        return TO_JAVA_FACTORIES;
+    }
+
+    /**
+     * @return all factories of this utility which convert java objects into cells
+     */
+    public static Collection<JavaToDataCellConverterFactory<?>> getAllJavaToDataCellConverterFactories() {
+        return TO_DATACELL_FACTORIES;
+    }
+
+    /**
+     * Read-only list backed by a {@link ListDataValue}, converting elements when they are accessed.
+     *
+     * @param <T> the java type of the elements
+     */
+    private static final class ListView<T> extends AbstractList<T> implements RandomAccess {
+        private final ListDataValue m_list;
+
+        private final Function<DataCell, T> m_elementConverter;
+
+        ListView(final ListDataValue list, final Function<DataCell, T> elementConverter) {
+            m_list = list;
+            m_elementConverter = elementConverter;
+        }
+
+        @Override
+        public T get(final int index) {
+            final DataCell cell = m_list.get(index);
+            return cell.isMissing() ? null : m_elementConverter.apply(cell);
+        }
+
+        @Override
+        public int size() {
+            return m_list.size();
+        }
+    }
+}
@@ -92,7 +92,9 @@ public static Optional<JavaToDataCellConverterFactory<?>> getConverterFactory(fi
         Optional<?> factory = converterFactories.stream().findFirst();
         if (!factory.isPresent()) {
             // check deprecated types
-            return DeprecatedDateAndTimeUtil.getConverterFactory(source, dest);
+            final Optional<JavaToDataCellConverterFactory<?>> deprecated =
+                DeprecatedDateAndTimeUtil.getConverterFactory(source, dest);
+            return deprecated.isPresent() ? deprecated : CollectionViewUtil.getConverterFactory(source, dest);
         }
         return (Optional<JavaToDataCellConverterFactory<?>>)factory;
     }
@@ -115,7 +117,9 @@ public static Optional<JavaToDataCellConverterFactory<?>> getConverterFactory(fi
         final Optional<?> factory =
             DataCellToJavaConverterRegistry.getInstance().getPreferredConverterFactory(knimeType, javaType);
         if (!factory.isPresent()) {
-            return DeprecatedDateAndTimeUtil.getConverterFactory(knimeType.getPreferredValueClass(), javaType);
+            final Optional<DataCellToJavaConverterFactory<?, ?>> deprecated =
+                DeprecatedDateAndTimeUtil.getConverterFactory(knimeType.getPreferredValueClass(), javaType);
+            return deprecated.isPresent() ? deprecated : CollectionViewUtil.getConverterFactory(knimeType, javaType);
         }
         return (Optional<DataCellToJavaConverterFactory<?, ?>>)factory;
     }
@@ -156,7 +160,15 @@ public static Collection<DataType> getAllDestinationDataTypes() {
                 registry.getCollectionConverterFactory(DeprecatedDateAndTimeUtil.toDateConverterFactory));
         }
 
-        return DataCellToJavaConverterRegistry.getInstance().getFactoriesForSourceType(sourceType);
+        final Collection<DataCellToJavaConverterFactory<?, ?>> factories =
+            DataCellToJavaConverterRegistry.getInstance().getFactoriesForSourceType(sourceType);
+        if (sourceType.isCollectionType()) {
+            // offer the views after the registered factories, which stay the preferred ones
+            final ArrayList<DataCellToJavaConverterFactory<?, ?>> withViews = new ArrayList<>(factories);
+            withViews.addAll(CollectionViewUtil.getFactoriesForSourceType(sourceType));
+            return withViews;
+        }
+        return factories;
     }
 
     /**
@@ -170,7 +182,9 @@ public static Collection<DataType> getAllDestinationDataTypes() {
             DataCellToJavaConverterRegistry.getInstance().getConverterFactory(id);
 
         if (!factory.isPresent()) {
-            return DeprecatedDateAndTimeUtil.getDataCellToJavaConverterFactory(id);
+            final Optional<DataCellToJavaConverterFactory<?, ?>> deprecated =
+                DeprecatedDateAndTimeUtil.getDataCellToJavaConverterFactory(id);
+            return deprecated.isPresent() ? deprecated : CollectionViewUtil.getDataCellToJavaConverterFactory(id);
         }
 
         return factory;
@@ -187,7 +201,9 @@ public static Optional<JavaToDataCellConverterFactory<?>> getJavaToDataCellConve
             JavaToDataCellConverterRegistry.getInstance().getConverterFactory(id);
 
         if (!factory.isPresent()) {
-            return DeprecatedDateAndTimeUtil.getJavaToDataCellConverterFactory(id);
+            final Optional<JavaToDataCellConverterFactory<?>> deprecated =
+                DeprecatedDateAndTimeUtil.getJavaToDataCellConverterFactory(id);
+            return deprecated.isPresent() ? deprecated : CollectionViewUtil.getJavaToDataCellConverterFactory(id);
         }
 
         return factory;
@@ -200,6 +216,7 @@ public static Collection<JavaToDataCellConverterFactory<?>> getAllJavaToDataCell
         ArrayList<JavaToDataCellConverterFactory<?>> factories =
             new ArrayList<>(JavaToDataCellConverterRegistry.getInstance().getAllFactories());
         factories.addAll(DeprecatedDateAndTimeUtil.getAllJavaToDataCellConverterFactories());
+        factories.addAll(CollectionViewUtil.getAllJavaToDataCellConverterFactories());
         return factories;
     }
 
@@ -218,7 +235,14 @@ public static Collection<JavaToDataCellConverterFactory<?>> getAllJavaToDataCell
                     .map(s -> JavaToDataCellConverterRegistry.getInstance().getArrayConverterFactory(s))
                     .collect(Collectors.toList());
         }
-        return JavaToDataCellConverterRegistry.getInstance().getFactoriesForDestinationType(dataType);
+        final Collection<JavaToDataCellConverterFactory<?>> factories =
+            JavaToDataCellConverterRegistry.getInstance().getFactoriesForDestinationType(dataType);
+        if (dataType.isCollectionType()) {
+            final ArrayList<JavaToDataCellConverterFactory<?>> withViews = new ArrayList<>(factories);
+            withViews.addAll(CollectionViewUtil.getFactoriesForDestinationType(dataType));
+            return withViews;
+        }
+        return factories;
     }
 
     /**
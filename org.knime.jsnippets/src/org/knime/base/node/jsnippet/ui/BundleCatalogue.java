@@ -0,0 +1,366 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.ui;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.AbstractListModel;
+import javax.swing.SwingUtilities;
+
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Catalogue of the installed bundles shared by all {@link BundleListPanel}s. The catalogue is built in a background
+ * thread, kept up to date by a bundle listener and indexed for fast prefix and substring search.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ */
+final class BundleCatalogue {
+
+    private static BundleCatalogue instance;
+
+    private final ExecutorService m_executor = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "KNIME-Java-Snippet-Bundle-Catalogue");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Sorts ignoring case, names that differ only in case are distinct and sorted by their exact form. The lower case
+     * forms of sorted names are therefore sorted as well.
+     */
+    private static final Comparator<String> ORDER =
+        Comparator.comparing(BundleCatalogue::toLowerCase).thenComparing(Comparator.naturalOrder());
+
+    /** "&lt;symbolic name&gt; &lt;version&gt;" of all bundles, only accessed by the catalogue thread. */
+    private final TreeSet<String> m_entries = new TreeSet<>(ORDER);
+
+    private volatile Index m_index = new Index(Collections.emptyList());
+
+    private final CompletableFuture<Void> m_ready;
+
+    /** The list models to notify about changes, only accessed in the event dispatch thread. */
+    private final Set<FilteredListModel> m_models = Collections.newSetFromMap(new WeakHashMap<>());
+
+    private BundleCatalogue() {
+        final BundleContext ctx = FrameworkUtil.getBundle(BundleCatalogue.class).getBundleContext();
+        ctx.addBundleListener(e -> m_executor.execute(() -> update(ctx, e)));
+        m_ready = CompletableFuture.runAsync(() -> rescan(ctx), m_executor);
+    }
+
+    /**
+     * @return the shared catalogue, which starts to build in the background on the first call
+     */
+    static synchronized BundleCatalogue getInstance() {
+        if (instance == null) {
+            instance = new BundleCatalogue();
+        }
+        return instance;
+    }
+
+    /**
+     * @return a future completed when the catalogue has been built for the first time
+     */
+    CompletableFuture<Void> whenReady() {
+        return m_ready;
+    }
+
+    /**
+     * @return the names and versions of all installed bundles, sorted ignoring case, empty until the catalogue is
+     *         ready
+     */
+    List<String> getNames() {
+        return m_index.m_names;
+    }
+
+    /**
+     * Search the catalogue ignoring case. Bundles starting with the filter come first, followed by the bundles
+     * containing it; each group sorted by name.
+     *
+     * @param filter the text to search for, empty to get all bundles
+     * @return the matching bundle names and versions
+     */
+    List<String> search(final String filter) {
+        return m_index.search(toLowerCase(filter));
+    }
+
+    private static String toLowerCase(final String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+
+    /** Runs in the catalogue thread. */
+    private void rescan(final BundleContext ctx) {
+        m_entries.clear();
+        for (final Bundle bundle : ctx.getBundles()) {
+            add(bundle);
+        }
+        publish();
+    }
+
+    /** Runs in the catalogue thread. */
+    private void update(final BundleContext ctx, final BundleEvent event) {
+        switch (event.getType()) {
+            case BundleEvent.INSTALLED:
+                add(event.getBundle());
+                break;
+            case BundleEvent.UNINSTALLED:
+                final String name = toString(event.getBundle());
+                if (name != null) {
+                    m_entries.remove(name);
+                }
+                break;
+            case BundleEvent.UPDATED:
+                // the previous version is not known anymore
+                rescan(ctx);
+                return;
+            default:
+                return;
+        }
+        publish();
+    }
+
+    private void add(final Bundle bundle) {
+        final String name = toString(bundle);
+        if (name != null) {
+            m_entries.add(name);
+        }
+    }
+
+    private static String toString(final Bundle bundle) {
+        return bundle.getSymbolicName() == null ? null : bundle.getSymbolicName() + " " + bundle.getVersion();
+    }
+
+    private void publish() {
+        m_index = new Index(new ArrayList<>(m_entries));
+        SwingUtilities.invokeLater(() -> {
+            for (final FilteredListModel model : new ArrayList<>(m_models)) {
+                model.refresh();
+            }
+        });
+    }
+
+    /** Immutable search index over a snapshot of the catalogue, package-private for tests. */
+    static final class Index {
+        private final List<String> m_names;
+
+        /** Lower case names, only used for searching, sorted. Names differing in case have equal entries. */
+        private final String[] m_lower;
+
+        /** Indices of the names containing a trigram, in ascending order. */
+        private final Map<String, int[]> m_trigrams = new HashMap<>();
+
+        /**
+         * @param names the bundle names and versions, in any order
+         */
+        Index(final List<String> names) {
+            names.sort(ORDER);
+            m_names = Collections.unmodifiableList(names);
+            m_lower = names.stream().map(BundleCatalogue::toLowerCase).toArray(String[]::new);
+            final Map<String, List<Integer>> postings = new HashMap<>();
+            for (int i = 0; i < m_lower.length; i++) {
+                final String lower = m_lower[i];
+                for (int j = 0; j + 3 <= lower.length(); j++) {
+                    final List<Integer> list =
+                        postings.computeIfAbsent(lower.substring(j, j + 3), k -> new ArrayList<>());
+                    if (list.isEmpty() || list.get(list.size() - 1) != i) {
+                        list.add(i);
+                    }
+                }
+            }
+            postings.forEach((k, v) -> m_trigrams.put(k, v.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        List<String> search(final String filter) {
+            if (filter.isEmpty()) {
+                return m_names;
+            }
+            final Set<Integer> result = new LinkedHashSet<>();
+            // prefix matches are a contiguous range of the sorted names
+            for (int i = lowerBound(filter); i < m_lower.length && m_lower[i].startsWith(filter); i++) {
+                result.add(i);
+            }
+            for (final int candidate : getCandidates(filter)) {
+                if (m_lower[candidate].contains(filter)) {
+                    result.add(candidate);
+                }
+            }
+            final List<String> names = new ArrayList<>(result.size());
+            for (final int index : result) {
+                names.add(m_names.get(index));
+            }
+            return names;
+        }
+
+        /** @return the index of the first lower case name not less than the filter */
+        private int lowerBound(final String filter) {
+            // not Arrays.binarySearch, which may find any of several equal names
+            int low = 0;
+            int high = m_lower.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (m_lower[mid].compareTo(filter) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /** @return the indices of the names which may contain the filter, in ascending order */
+        private int[] getCandidates(final String filter) {
+            if (filter.length() < 3) {
+                final int[] all = new int[m_lower.length];
+                Arrays.setAll(all, i -> i);
+                return all;
+            }
+            // the rarest trigram of the filter is the most selective
+            int[] candidates = null;
+            for (int j = 0; j + 3 <= filter.length(); j++) {
+                final int[] posting = m_trigrams.get(filter.substring(j, j + 3));
+                if (posting == null) {
+                    return new int[0];
+                }
+                if (candidates == null || posting.length < candidates.length) {
+                    candidates = posting;
+                }
+            }
+            return candidates;
+        }
+    }
+
+    /**
+     * List model showing the bundles of the catalogue that match a filter, except for excluded ones. The model is
+     * updated when the catalogue changes.
+     */
+    static final class FilteredListModel extends AbstractListModel<String> {
+        private static final long serialVersionUID = 1L;
+
+        private String m_filter = "";
+
+        private final Set<String> m_excluded = new LinkedHashSet<>();
+
+        private List<String> m_elements = Collections.emptyList();
+
+        /** Create a new model registered with the shared catalogue. */
+        FilteredListModel() {
+            getInstance().m_models.add(this);
+            refresh();
+        }
+
+        @Override
+        public int getSize() {
+            return m_elements.size();
+        }
+
+        @Override
+        public String getElementAt(final int index) {
+            return m_elements.get(index);
+        }
+
+        /**
+         * @param filter the text the shown bundles have to contain, ignoring case
+         */
+        void setFilter(final String filter) {
+            m_filter = filter;
+            refresh();
+        }
+
+        /**
+         * @param excluded the bundles not to show
+         */
+        void setExcluded(final String... excluded) {
+            m_excluded.clear();
+            m_excluded.addAll(Arrays.asList(excluded));
+            refresh();
+        }
+
+        /**
+         * @return the bundles not shown
+         */
+        Set<String> getExcluded() {
+            return Collections.unmodifiableSet(m_excluded);
+        }
+
+        /** Re-run the search, e.g. after the catalogue has changed. */
+        void refresh() {
+            final int oldSize = m_elements.size();
+            final List<String> elements = new ArrayList<>();
+            for (final String name : getInstance().search(m_filter)) {
+                if (!m_excluded.contains(name)) {
+                    elements.add(name);
+                }
+            }
+            m_elements = elements;
+            if (oldSize > 0) {
+                fireIntervalRemoved(this, 0, oldSize - 1);
+            }
+            if (!elements.isEmpty()) {
+                fireIntervalAdded(this, 0, elements.size() - 1);
+            }
+        }
+    }
+}
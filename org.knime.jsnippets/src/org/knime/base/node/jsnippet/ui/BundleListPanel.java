@@ -62,7 +62,6 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -92,12 +91,9 @@
 
 import org.eclipse.core.runtime.Platform;
 import org.knime.base.node.jsnippet.JavaSnippet;
-import org.knime.core.node.util.FilterableListModel;
 import org.knime.core.node.util.ViewUtils;
 import org.knime.core.node.util.filter.ArrayListModel;
 import org.osgi.framework.Bundle;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.Version;
 import org.osgi.framework.namespace.BundleNamespace;
 import org.osgi.framework.wiring.BundleWire;
@@ -264,24 +260,8 @@ public Component getTreeCellRendererComponent(final JTree tree, final Object val
 
     final JList<String> m_bundleList;
 
-    final FilterableListModel m_bundleModel = new FilterableListModel(bundleNames);
-
-    /* All available bundle names */
-    final static List<String> bundleNames = new ArrayList<>();
-
-    /* Find all available bundles */
-    private static void initBundleNames() {
-        if (!bundleNames.isEmpty()) {
-            return;
-        }
-
-        final BundleContext ctx = FrameworkUtil.getBundle(BundleListPanel.class).getBundleContext();
-        for (final Bundle bundle : ctx.getBundles()) {
-            bundleNames.add(bundle.getSymbolicName() + " " + bundle.getVersion().toString());
-        }
-
-        Collections.sort(bundleNames);
-    }
+    /* Available bundles, searched in the catalogue shared by all panels */
+    final BundleCatalogue.FilteredListModel m_bundleModel = new BundleCatalogue.FilteredListModel();
 
     /**
      * Constructor
@@ -289,8 +269,6 @@ private static void initBundleNames() {
     public BundleListPanel() {
         setLayout(new BoxLayout(this, BoxLayout.PAGE_AXIS));
 
-        initBundleNames();
-
         final BundleListEntryRenderer renderer = new BundleListEntryRenderer();
         m_tree.setCellRenderer(renderer);
         m_tree.setRootVisible(false);
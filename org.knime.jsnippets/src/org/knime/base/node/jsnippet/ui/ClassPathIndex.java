@@ -0,0 +1,298 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.ui;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.fife.rsta.ac.java.buildpath.DirLibraryInfo;
+import org.fife.rsta.ac.java.buildpath.JarLibraryInfo;
+import org.fife.rsta.ac.java.buildpath.LibraryInfo;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Index of the classes on the class path of a snippet used for code completion. The package structure of every jar
+ * file is read once in a background thread and kept in memory. It is also cached on disk so that it survives restarts.
+ * There is one entry per jar path, which is replaced when the size or modification time of the jar changes. Class
+ * directories are read in the background thread
+ * whenever they are indexed and are not cached, since their contents can change without changing their modification
+ * time.
+ *
+ * <p>The returned {@link LibraryInfo} instances hand out copies of the indexed package structure, adding them to the
+ * completion's <code>JarManager</code> therefore does not read the jar files in the event dispatch thread.
+ *
+ * <p>This class might change and is not meant as public API.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ClassPathIndex {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ClassPathIndex.class);
+
+    /** Version of the format of the files in the disk cache. */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String CACHE_DIRECTORY = "java-snippet-completion-index";
+
+    private static final ClassPathIndex INSTANCE = new ClassPathIndex();
+
+    private final ExecutorService m_executor = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r, "KNIME-Java-Snippet-Indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The indexed package structures of jar files by absolute path. */
+    private final Map<String, IndexedPackages> m_packageMaps = new ConcurrentHashMap<>();
+
+    private ClassPathIndex() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    public static ClassPathIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Index the given class path in the background.
+     *
+     * @param classPath jar files and class directories, other files are ignored
+     * @return a future completed with the indexed libraries in the order of the class path
+     */
+    public CompletableFuture<List<LibraryInfo>> index(final File[] classPath) {
+        return CompletableFuture.supplyAsync(() -> {
+            final List<LibraryInfo> libraries = new ArrayList<>(classPath.length);
+            for (final File file : classPath) {
+                try {
+                    if (file.isDirectory()) {
+                        libraries.add(new IndexedDirLibraryInfo(file, new DirLibraryInfo(file).createPackageMap()));
+                    } else if (file.isFile() && file.getName().endsWith(".jar")) {
+                        libraries.add(new IndexedJarLibraryInfo(file, getPackageMap(file, new JarLibraryInfo(file))));
+                    }
+                } catch (IOException e) {
+                    LOGGER.debug("Cannot index \"" + file + "\" for code completion: " + e.getMessage(), e);
+                }
+            }
+            return libraries;
+        }, m_executor);
+    }
+
+    /** Runs in the indexer thread, only for jar files. */
+    private TreeMap<String, Object> getPackageMap(final File file, final LibraryInfo info) throws IOException {
+        final String path = file.getAbsolutePath();
+        final String key = path + "|" + file.length() + "|" + file.lastModified();
+        final IndexedPackages indexed = m_packageMaps.get(path);
+        if (indexed != null && indexed.m_key.equals(key)) {
+            return indexed.m_packageMap;
+        }
+        // the cache file of a replaced jar is overwritten, its key does not match anymore
+        TreeMap<String, Object> packageMap = null;
+        final File cacheFile = getCacheFile(path);
+        if (cacheFile != null && cacheFile.isFile()) {
+            try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+                if (in.readInt() == FORMAT_VERSION && in.readUTF().equals(key)) {
+                    packageMap = read(in);
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Cannot read the completion index of \"" + file + "\", rebuilding it.", e);
+            }
+        }
+        if (packageMap == null) {
+            packageMap = info.createPackageMap();
+            if (cacheFile != null) {
+                write(cacheFile, key, packageMap);
+            }
+        }
+        m_packageMaps.put(path, new IndexedPackages(key, packageMap));
+        return packageMap;
+    }
+
+    /** @return the cache file of the jar with the given path or <code>null</code> if there is no cache directory */
+    private static File getCacheFile(final String path) {
+        final File dir = new File(new File(KNIMEConstants.getKNIMEHomeDir()), CACHE_DIRECTORY);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            return null;
+        }
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-1").digest(path.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder name = new StringBuilder();
+            for (final byte b : digest) {
+                name.append(String.format("%02x", b));
+            }
+            return new File(dir, name.append(".idx").toString());
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-1 is available on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void write(final File cacheFile, final String key, final TreeMap<String, Object> packageMap) {
+        File tmp = null;
+        try {
+            // write to a temporary file first, concurrent KNIME instances may share the cache
+            tmp = File.createTempFile("index", ".tmp", cacheFile.getParentFile());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(key);
+                write(out, packageMap);
+            }
+            Files.move(tmp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.debug("Cannot write the completion index to \"" + cacheFile + "\".", e);
+        } finally {
+            // only left if writing or moving failed
+            if (tmp != null && tmp.exists() && !tmp.delete()) {
+                tmp.deleteOnExit();
+            }
+        }
+    }
+
+    /** Packages are nested maps, classes are leaves which are resolved lazily by the completion. */
+    private static void write(final DataOutputStream out, final Map<String, Object> map) throws IOException {
+        out.writeInt(map.size());
+        for (final Map.Entry<String, Object> entry : map.entrySet()) {
+            out.writeUTF(entry.getKey());
+            final boolean isPackage = entry.getValue() instanceof Map;
+            out.writeBoolean(isPackage);
+            if (isPackage) {
+                @SuppressWarnings("unchecked")
+                final Map<String, Object> child = (Map<String, Object>)entry.getValue();
+                write(out, child);
+            }
+        }
+    }
+
+    private static TreeMap<String, Object> read(final DataInputStream in) throws IOException {
+        final TreeMap<String, Object> map = new TreeMap<>();
+        final int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            final String name = in.readUTF();
+            map.put(name, in.readBoolean() ? read(in) : null);
+        }
+        return map;
+    }
+
+    /** The completion resolves classes into the map, every library therefore gets its own copy. */
+    private static TreeMap<String, Object> copy(final Map<String, Object> map) {
+        final TreeMap<String, Object> copy = new TreeMap<>();
+        for (final Map.Entry<String, Object> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                @SuppressWarnings("unchecked")
+                final Map<String, Object> child = (Map<String, Object>)entry.getValue();
+                copy.put(entry.getKey(), copy(child));
+            } else {
+                copy.put(entry.getKey(), null);
+            }
+        }
+        return copy;
+    }
+
+    /** The package structure of a jar along with the key it was indexed for. */
+    private static final class IndexedPackages {
+        private final String m_key;
+
+        private final TreeMap<String, Object> m_packageMap;
+
+        IndexedPackages(final String key, final TreeMap<String, Object> packageMap) {
+            m_key = key;
+            m_packageMap = packageMap;
+        }
+    }
+
+    private static final class IndexedJarLibraryInfo extends JarLibraryInfo {
+        private final TreeMap<String, Object> m_packageMap;
+
+        IndexedJarLibraryInfo(final File jarFile, final TreeMap<String, Object> packageMap) {
+            super(jarFile);
+            m_packageMap = packageMap;
+        }
+
+        @Override
+        public TreeMap<String, Object> createPackageMap() {
+            return copy(m_packageMap);
+        }
+    }
+
+    private static final class IndexedDirLibraryInfo extends DirLibraryInfo {
+        private final TreeMap<String, Object> m_packageMap;
+
+        IndexedDirLibraryInfo(final File dir, final TreeMap<String, Object> packageMap) {
+            super(dir);
+            m_packageMap = packageMap;
+        }
+
+        @Override
+        public TreeMap<String, Object> createPackageMap() {
+            return copy(m_packageMap);
+        }
+    }
+}
@@ -53,12 +53,14 @@
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
 
-import javax.swing.DefaultListModel;
 import javax.swing.JList;
 import javax.swing.ListSelectionModel;
 
 import org.knime.base.node.jsnippet.JavaSnippet;
+import org.knime.base.node.util.SnippetList;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.util.DataColumnSpecListCellRenderer;
@@ -74,7 +76,7 @@
  * @noreference This class is not intended to be referenced by clients.
  */
 @SuppressWarnings("serial")
-public class ColumnList extends JList {
+public class ColumnList extends SnippetList<Object> {
     private JSnippetTextArea m_snippet;
     private JSnippetFieldsController m_fields;
 
@@ -82,7 +84,6 @@ public class ColumnList extends JList {
      *
      */
     public ColumnList() {
-        super(new DefaultListModel());
         setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         addKeyListener(new KeyAdapter() {
             /** {@inheritDoc} */
@@ -177,16 +178,14 @@ public Component getListCellRendererComponent(final JList list,
      * @param spec the data table spec of the input
      */
     public void setSpec(final DataTableSpec spec) {
-        DefaultListModel listModel = (DefaultListModel)getModel();
-        listModel.removeAllElements();
-        listModel.addElement(JavaSnippet.ROWID);
-        listModel.addElement(JavaSnippet.ROWINDEX);
-        listModel.addElement(JavaSnippet.ROWCOUNT);
-
-        for (int i = 0; i < spec.getNumColumns(); i++) {
-            DataColumnSpec colSpec = spec.getColumnSpec(i);
-            listModel.addElement(colSpec);
+        List<Object> elements = new ArrayList<>(spec.getNumColumns() + 3);
+        elements.add(JavaSnippet.ROWID);
+        elements.add(JavaSnippet.ROWINDEX);
+        elements.add(JavaSnippet.ROWCOUNT);
+        for (DataColumnSpec colSpec : spec) {
+            elements.add(colSpec);
         }
+        setElements(elements);
     }
 
 }
@@ -47,9 +47,12 @@
  */
 package org.knime.base.node.jsnippet.ui;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.swing.event.TableModelEvent;
+
 import org.knime.core.node.util.DefaultConfigTableModel;
 
 /**
@@ -87,6 +90,13 @@ public enum Column {
     private Map<Column, Integer> m_columns;
     private Map<Integer, Column> m_columnsReverse;
 
+    /** Nesting depth of {@link #beginUpdate()} calls. */
+    private int m_updateDepth;
+    private boolean m_changedDuringUpdate;
+
+    /** Number of occurrences of the values per column, used by isUnique and reset on every change. */
+    private Map<Column, Map<Object, Integer>> m_valueCounts;
+
     /**
      * Create a model with the given column names.
      * @param columns the column names.
@@ -139,6 +149,48 @@ public void setValueAt(final Object aValue, final int row,
         setValueAt(aValue, row, m_columns.get(column));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setValueAt(final Object aValue, final int row, final int column) {
+        m_valueCounts = null;
+        super.setValueAt(aValue, row, column);
+    }
+
+    /**
+     * Start a bulk update. Until the matching call of {@link #endUpdate()} no events are sent to the listeners, a
+     * single data changed event is sent at the end instead. This keeps filling the table with thousands of fields
+     * linear, as every event would otherwise repaint the whole table and rebuild the snippet fields.
+     */
+    void beginUpdate() {
+        m_updateDepth++;
+    }
+
+    /**
+     * End a bulk update started with {@link #beginUpdate()}.
+     */
+    void endUpdate() {
+        m_updateDepth--;
+        if (m_updateDepth == 0 && m_changedDuringUpdate) {
+            m_changedDuringUpdate = false;
+            fireTableDataChanged();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fireTableChanged(final TableModelEvent e) {
+        m_valueCounts = null;
+        if (m_updateDepth > 0) {
+            m_changedDuringUpdate = true;
+            return;
+        }
+        super.fireTableChanged(e);
+    }
+
     /**
      * Get the index of the column.
      * @param column the column
@@ -242,17 +294,22 @@ public boolean validateValues() {
     boolean isUnique(
             final Object value,
             final int row, final Column column) {
-        boolean isUnique = true;
-        for (int i = 0; i < getRowCount(); i++) {
-            if (i == row) {
-                continue;
-            }
-            Object value2 = getValueAt(i, column);
-            if (value.equals(value2)) {
-                isUnique = false;
-                break;
+        if (null == m_valueCounts) {
+            m_valueCounts = new EnumMap<>(Column.class);
+        }
+        Map<Object, Integer> counts = m_valueCounts.get(column);
+        if (null == counts) {
+            counts = new HashMap<>();
+            for (int i = 0; i < getRowCount(); i++) {
+                counts.merge(getValueAt(i, column), 1, Integer::sum);
             }
+            m_valueCounts.put(column, counts);
+        }
+        Integer count = counts.get(value);
+        int others = null != count ? count : 0;
+        if (value.equals(getValueAt(row, column))) {
+            others--;
         }
-        return isUnique;
+        return others <= 0;
     }
 }
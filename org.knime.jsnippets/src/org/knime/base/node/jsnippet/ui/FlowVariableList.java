@@ -55,10 +55,9 @@
 import java.util.Comparator;
 import java.util.TreeSet;
 
-import javax.swing.DefaultListModel;
-import javax.swing.JList;
 import javax.swing.ListSelectionModel;
 
+import org.knime.base.node.util.SnippetList;
 import org.knime.core.node.util.FlowVariableListCellRenderer;
 import org.knime.core.node.workflow.FlowVariable;
 import org.knime.rsyntaxtextarea.KnimeSyntaxTextArea;
@@ -74,7 +73,7 @@
  * @noreference This class is not intended to be referenced by clients.
  */
 @SuppressWarnings("serial")
-public class FlowVariableList extends JList {
+public class FlowVariableList extends SnippetList<Object> {
     private KnimeSyntaxTextArea m_snippet;
     private JSnippetFieldsController m_fields;
 
@@ -82,7 +81,6 @@ public class FlowVariableList extends JList {
      *
      */
     public FlowVariableList() {
-        super(new DefaultListModel());
         setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         setToolTipText(""); // enable tooltip
         addKeyListener(new KeyAdapter() {
@@ -161,13 +159,7 @@ public int compare(final FlowVariable o1, final FlowVariable o2) {
             }
         });
         sortedFlowVars.addAll(flowVars);
-        DefaultListModel fvListModel =
-            (DefaultListModel)getModel();
-        fvListModel.removeAllElements();
-        for (FlowVariable v : sortedFlowVars) {
-            fvListModel.addElement(v);
-        }
-
+        setElements(sortedFlowVars);
     }
 
 }
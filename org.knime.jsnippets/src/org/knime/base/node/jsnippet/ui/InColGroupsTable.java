@@ -0,0 +1,264 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.ui;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.event.ActionListener;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.swing.DefaultCellEditor;
+import javax.swing.JCheckBox;
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumnModel;
+
+import org.knime.base.node.jsnippet.ui.FieldsTableModel.Column;
+import org.knime.base.node.jsnippet.util.JavaFieldList.InColGroupList;
+import org.knime.base.node.jsnippet.util.JavaSnippetFields;
+import org.knime.base.node.jsnippet.util.field.InColGroup;
+import org.knime.base.node.jsnippet.util.field.InColGroup.ElementType;
+import org.knime.base.node.jsnippet.util.field.JavaField;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.util.ConfigTablePanel;
+
+/**
+ * The table where java snippet fields for groups of input columns can be defined. Every row binds all input columns
+ * whose name matches a regular expression to one array field, see {@link InColGroup}.
+ * <p>This class might change and is not meant as public API.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+@SuppressWarnings("serial")
+public class InColGroupsTable extends ConfigTablePanel {
+
+    private final InColGroupsTableModel m_model;
+
+    private DataTableSpec m_spec;
+
+    /**
+     * Create a new empty table.
+     */
+    public InColGroupsTable() {
+        super(new InColGroupsTableModel());
+        final JTable table = getTable();
+        m_model = (InColGroupsTableModel)getModel();
+        // editing a java identifier can invalidate others (duplicate names), repaint the whole table
+        m_model.addTableModelListener(e -> table.tableChanged(new TableModelEvent(m_model, 0, m_model.getRowCount())));
+
+        // commit editor on focus lost
+        table.putClientProperty("terminateEditOnFocusLost", Boolean.TRUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected ActionListener createAddButtonListener() {
+        return e -> {
+            final Set<String> taken = new HashSet<>(m_model.getOtherJavaFields());
+            for (int r = 0; r < m_model.getRowCount(); r++) {
+                taken.add((String)m_model.getValueAt(r, Column.JAVA_FIELD));
+            }
+            final InColGroup group = new InColGroup();
+            group.setJavaName(FieldsTableUtil.createUniqueJavaIdentifier("columns", taken, "g_"));
+            addRow(group);
+        };
+    }
+
+    /**
+     * Adds a row using the values of the given column group.
+     *
+     * @param group the column group definition
+     */
+    public void addRow(final InColGroup group) {
+        final int r = m_model.getRowCount();
+        m_model.beginUpdate();
+        try {
+            m_model.addRow();
+            m_model.setValueAt(group.getKnimeName(), r, Column.COLUMN);
+            m_model.setValueAt(group.getElementType().getArrayType(), r, Column.JAVA_TYPE);
+            m_model.setValueAt(group.getReplaceColumns(), r, Column.REPLACE_EXISTING);
+            m_model.setValueAt(group.getJavaName(), r, Column.JAVA_FIELD);
+        } finally {
+            m_model.endUpdate();
+        }
+    }
+
+    /**
+     * Set the java field names of the input and output fields, a group must not use one of them.
+     *
+     * @param fields the other fields of the snippet
+     */
+    void setOtherFields(final JavaSnippetFields fields) {
+        final Set<String> names = new HashSet<>();
+        for (final JavaField field : fields.getInColFields()) {
+            names.add(field.getJavaName());
+        }
+        for (final JavaField field : fields.getInVarFields()) {
+            names.add(field.getJavaName());
+        }
+        for (final JavaField field : fields.getOutColFields()) {
+            names.add(field.getJavaName());
+        }
+        for (final JavaField field : fields.getOutVarFields()) {
+            names.add(field.getJavaName());
+        }
+        if (!names.equals(m_model.getOtherJavaFields())) {
+            m_model.setOtherJavaFields(names);
+            // validation results may have changed, no model event as the fields are not changed
+            getTable().repaint();
+        }
+    }
+
+    /**
+     * Set the table data.
+     *
+     * @param fields the fields
+     * @param spec the input spec might be null
+     */
+    void updateData(final JavaSnippetFields fields, final DataTableSpec spec) {
+        m_spec = spec;
+        m_model.beginUpdate();
+        try {
+            m_model.clear();
+            fields.getInColGroupFields().forEach(this::addRow);
+        } finally {
+            m_model.endUpdate();
+        }
+        setOtherFields(fields);
+
+        final TableColumnModel columnModel = getTable().getColumnModel();
+        columnModel.getColumn(m_model.getIndex(Column.COLUMN)).setCellRenderer(new PatternTableCellRenderer());
+
+        columnModel.getColumn(m_model.getIndex(Column.JAVA_TYPE))
+            .setCellRenderer(FieldsTableUtil.createJavaTypeTableCellRenderer());
+        columnModel.getColumn(m_model.getIndex(Column.JAVA_TYPE))
+            .setCellEditor(FieldsTableUtil.createJavaTypeTableCellEditor());
+
+        final TableCellRenderer boolRenderer = (table, value, isSelected, hasFocus, row, column) -> {
+            final Component c = table.getDefaultRenderer(Boolean.class).getTableCellRendererComponent(table, value,
+                isSelected, hasFocus, row, column);
+            c.setEnabled(table.isCellEditable(row, column));
+            if (c instanceof JCheckBox) {
+                ((JCheckBox)c).setToolTipText(m_model.getErrorMessage(row, column));
+            }
+            return c;
+        };
+        columnModel.getColumn(m_model.getIndex(Column.REPLACE_EXISTING))
+            .setCellEditor(new DefaultCellEditor(new JCheckBox()));
+        columnModel.getColumn(m_model.getIndex(Column.REPLACE_EXISTING)).setCellRenderer(boolRenderer);
+
+        columnModel.getColumn(m_model.getIndex(Column.JAVA_FIELD))
+            .setCellRenderer(FieldsTableUtil.createJavaFieldTableCellRenderer());
+    }
+
+    /**
+     * Get the field definitions representing groups of input columns, rows with errors are skipped.
+     *
+     * @return fields representing groups of input columns
+     */
+    public InColGroupList getInColGroupFields() {
+        final InColGroupList groups = new InColGroupList();
+        for (int r = 0; r < m_model.getRowCount(); r++) {
+            if (!m_model.validateValues(r)) {
+                // there are errors in this row
+                continue;
+            }
+            final InColGroup group = new InColGroup();
+            group.setKnimeName((String)m_model.getValueAt(r, Column.COLUMN));
+            group.setElementType(ElementType.forArrayType((Class<?>)m_model.getValueAt(r, Column.JAVA_TYPE)));
+            group.setReplaceColumns(Boolean.TRUE.equals(m_model.getValueAt(r, Column.REPLACE_EXISTING)));
+            group.setJavaName((String)m_model.getValueAt(r, Column.JAVA_FIELD));
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    /** Renders the column pattern, the tool tip shows the number of matching input columns. */
+    private class PatternTableCellRenderer extends DefaultTableCellRenderer {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Component getTableCellRendererComponent(final JTable table, final Object value,
+            final boolean isSelected, final boolean hasFocus, final int row, final int column) {
+            // reset values which maybe changed by previous calls of this method
+            setForeground(table.getForeground());
+            setBackground(table.getBackground());
+            super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            if (m_model.isValidValue(row, column)) {
+                setToolTipText(null);
+                if (null != m_spec && m_model.isValidValue(row, Column.JAVA_TYPE)) {
+                    final InColGroup group = new InColGroup();
+                    group.setKnimeName((String)value);
+                    group.setElementType(
+                        ElementType.forArrayType((Class<?>)m_model.getValueAt(row, Column.JAVA_TYPE)));
+                    setToolTipText("Matches " + group.findColumnIndices(m_spec).length + " input columns");
+                }
+            } else {
+                setBackground(reddishBackground());
+                setToolTipText(m_model.getErrorMessage(row, column));
+            }
+            return this;
+        }
+
+        private Color reddishBackground() {
+            Color b = getBackground();
+            return new Color((b.getRed() + 255) / 2, b.getGreen() / 2, b.getBlue() / 2);
+        }
+    }
+}
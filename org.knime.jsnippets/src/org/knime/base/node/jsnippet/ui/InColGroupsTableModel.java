@@ -0,0 +1,241 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.ui;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.knime.base.node.jsnippet.util.field.InColGroup.ElementType;
+
+/**
+ * The table model for the input column groups table. It provides validation.
+ * <p>This class might change and is not meant as public API.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+@SuppressWarnings("serial")
+public class InColGroupsTableModel extends FieldsTableModel {
+
+    /** The java field names of the input and output fields, which must not be used by a group. */
+    private Set<String> m_otherJavaFields = Collections.emptySet();
+
+    /**
+     * Create a new instance.
+     */
+    public InColGroupsTableModel() {
+        super(new String[]{"Column Pattern", "Java Type", "Write Back", "Java Field"});
+        Map<Column, Integer> columns = new HashMap<>();
+        columns.put(Column.COLUMN, 0);
+        columns.put(Column.JAVA_TYPE, 1);
+        columns.put(Column.REPLACE_EXISTING, 2);
+        columns.put(Column.JAVA_FIELD, 3);
+        setColumnsMap(columns);
+    }
+
+    /**
+     * Set the java field names used by the other fields of the snippet.
+     * @param otherJavaFields the java field names of the input and output fields
+     */
+    void setOtherJavaFields(final Set<String> otherJavaFields) {
+        m_otherJavaFields = otherJavaFields;
+    }
+
+    /**
+     * @return the java field names used by the other fields of the snippet
+     */
+    Set<String> getOtherJavaFields() {
+        return m_otherJavaFields;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    boolean isValidValue(final int row, final Column column) {
+        return getErrorMessage(row, column) == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    String getErrorMessage(final int row, final Column column) {
+        switch (column) {
+        case COLUMN:
+            return validateColColumn(row);
+        case JAVA_TYPE:
+            return validateJavaTypeColumn(row);
+        case REPLACE_EXISTING:
+            return validateReplaceColumn(row);
+        case JAVA_FIELD:
+            return validateJavaFieldColumn(row);
+        default:
+            throw new IllegalStateException("Unknown column.");
+        }
+    }
+
+    /**
+     * Validate the column pattern in the given row.
+     * @param row the row to check
+     * @return error message if error occurs
+     */
+    private String validateColColumn(final int row) {
+        Object value = getValueAt(row, Column.COLUMN);
+        if (!(value instanceof String) || ((String)value).isEmpty()) {
+            return "Please define a pattern.";
+        }
+        try {
+            Pattern.compile((String)value);
+            return null;
+        } catch (PatternSyntaxException e) {
+            return "This is not a valid regular expression: " + e.getDescription();
+        }
+    }
+
+    /**
+     * Validate java type in the given row.
+     * @param row the row to check
+     * @return error message if error occurs
+     */
+    private String validateJavaTypeColumn(final int row) {
+        Object value = getValueAt(row, Column.JAVA_TYPE);
+        if (null == value) {
+            return "Please select a value";
+        }
+        return value instanceof Class && null != ElementType.forArrayType((Class<?>)value) ? null
+            : "Cannot find type " + value.toString();
+    }
+
+    /**
+     * Validate whether the array of the given row can be written back.
+     * @param row the row to check
+     * @return error message if error occurs
+     */
+    private String validateReplaceColumn(final int row) {
+        Object replace = getValueAt(row, Column.REPLACE_EXISTING);
+        Object value = getValueAt(row, Column.JAVA_TYPE);
+        if (Boolean.TRUE.equals(replace) && value instanceof Class) {
+            ElementType type = ElementType.forArrayType((Class<?>)value);
+            if (null != type && null == type.getOutputType()) {
+                return "Only double and string arrays can be written back.";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Validate java field name in the given row.
+     * @param row the row to check
+     * @return error message if error occurs
+     */
+    private String validateJavaFieldColumn(final int row) {
+        Object value = getValueAt(row, Column.JAVA_FIELD);
+        if (null == value) {
+            return "Please select a value";
+        }
+        // check if a field with the same name exists, either a group or another field
+        if (!isUnique(value, row, Column.JAVA_FIELD) || m_otherJavaFields.contains(value)) {
+            return "Duplicated field name";
+        }
+        if (!FieldsTableUtil.isValidJavaIdentifier((String)value)) {
+            return "This is not a valid java identifier";
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setValueAt(final Object aValue, final int row, final int column) {
+        if (getColumnForIndex(column) == Column.JAVA_TYPE && aValue instanceof Class) {
+            ElementType type = ElementType.forArrayType((Class<?>)aValue);
+            if (null != type && null == type.getOutputType()
+                && Boolean.TRUE.equals(getValueAt(row, Column.REPLACE_EXISTING))) {
+                // arrays of this type cannot be written back
+                super.setValueAt(Boolean.FALSE, row, getIndex(Column.REPLACE_EXISTING));
+            }
+        }
+        super.setValueAt(aValue, row, column);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCellEditable(final int rowIndex, final int columnIndex) {
+        if (getColumnForIndex(columnIndex) == Column.REPLACE_EXISTING) {
+            // only arrays of types with an output type can be written back
+            Object value = getValueAt(rowIndex, Column.JAVA_TYPE);
+            ElementType type = value instanceof Class ? ElementType.forArrayType((Class<?>)value) : null;
+            return null != type && null != type.getOutputType();
+        }
+        return super.isCellEditable(rowIndex, columnIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Object[] getAllowedJavaTypes(final int row) {
+        ElementType[] types = ElementType.values();
+        Object[] arrayTypes = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            arrayTypes[i] = types[i].getArrayType();
+        }
+        return arrayTypes;
+    }
+}
@@ -52,12 +52,15 @@
 import java.awt.Font;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import javax.swing.DefaultCellEditor;
+import javax.swing.DefaultComboBoxModel;
 import javax.swing.JComboBox;
 import javax.swing.JList;
 import javax.swing.JTable;
@@ -204,6 +207,15 @@ public void actionPerformed(final ActionEvent e) {
      * @return true when the row was added successfully
      */
     public boolean addRow(final DataColumnSpec colSpec) {
+        m_model.beginUpdate();
+        try {
+            return fillRow(colSpec);
+        } finally {
+            m_model.endUpdate();
+        }
+    }
+
+    private boolean fillRow(final DataColumnSpec colSpec) {
         int r = m_model.getRowCount();
         m_model.addRow();
 
@@ -232,6 +244,15 @@ public boolean addRow(final DataColumnSpec colSpec) {
      * @return true when the row was added successfully
      */
     public boolean addRow(final FlowVariable var) {
+        m_model.beginUpdate();
+        try {
+            return fillRow(var);
+        } finally {
+            m_model.endUpdate();
+        }
+    }
+
+    private boolean fillRow(final FlowVariable var) {
         int r = m_model.getRowCount();
         m_model.addRow();
         m_model.setValueAt(var, r, Column.COLUMN);
@@ -259,12 +280,35 @@ void updateData(final JavaSnippetFields fields, final DataTableSpec spec,
         m_spec = spec;
         m_flowVars = flowVars;
 
+        m_model.beginUpdate();
+        try {
+            fillData(fields);
+        } finally {
+            m_model.endUpdate();
+        }
+
+        JTable table = getTable();
+        final TableColumnModel columnModel = table.getColumnModel();
+        columnModel.getColumn(m_model.getIndex(Column.COLUMN)).setCellRenderer(new InputTableCellRenderer());
+        columnModel.getColumn(m_model.getIndex(Column.COLUMN)).setCellEditor(createInputCellEditor());
+
+        columnModel.getColumn(m_model.getIndex(Column.JAVA_FIELD))
+            .setCellRenderer(FieldsTableUtil.createJavaFieldTableCellRenderer());
+
+        columnModel.getColumn(m_model.getIndex(Column.JAVA_TYPE))
+            .setCellRenderer(FieldsTableUtil.createJavaTypeTableCellRenderer());
+        columnModel.getColumn(m_model.getIndex(Column.JAVA_TYPE))
+            .setCellEditor(FieldsTableUtil.createJavaTypeTableCellEditor());
+    }
+
+    /** Fill the model with rows for the given fields. */
+    private void fillData(final JavaSnippetFields fields) {
         m_model.clear();
         for (int r = 0; r < fields.getInColFields().size(); r++) {
             InCol field = fields.getInColFields().get(r);
             m_model.addRow();
             String colName = field.getKnimeName();
-            DataColumnSpec colSpec = spec.getColumnSpec(colName);
+            DataColumnSpec colSpec = m_spec.getColumnSpec(colName);
             Object value = null != colSpec ? colSpec : colName;
             m_model.setValueAt(value, r, Column.COLUMN);
             m_model.setValueAt(field.getJavaName(), r, Column.JAVA_FIELD);
@@ -300,35 +344,22 @@ void updateData(final JavaSnippetFields fields, final DataTableSpec spec,
             m_model.setValueAt(field.getJavaName(), offset + r, Column.JAVA_FIELD);
             m_model.setValueAt(field.getJavaType(), offset + r, Column.JAVA_TYPE);
         }
-
-        JTable table = getTable();
-        final TableColumnModel columnModel = table.getColumnModel();
-        columnModel.getColumn(m_model.getIndex(Column.COLUMN)).setCellRenderer(new InputTableCellRenderer());
-        columnModel.getColumn(m_model.getIndex(Column.COLUMN)).setCellEditor(createInputCellEditor());
-
-        columnModel.getColumn(m_model.getIndex(Column.JAVA_FIELD))
-            .setCellRenderer(FieldsTableUtil.createJavaFieldTableCellRenderer());
-
-        columnModel.getColumn(m_model.getIndex(Column.JAVA_TYPE))
-            .setCellRenderer(FieldsTableUtil.createJavaTypeTableCellRenderer());
-        columnModel.getColumn(m_model.getIndex(Column.JAVA_TYPE))
-            .setCellEditor(FieldsTableUtil.createJavaTypeTableCellEditor());
     }
 
     /** Create cell editor for for the input columns / flow variables. */
     private TableCellEditor createInputCellEditor() {
-        JComboBox comboBox = new JComboBox();
-        comboBox.setRenderer(new InputListCellRenderer());
+        List<Object> items = new ArrayList<>();
         if (null != m_spec) {
             for (DataColumnSpec colSpec : m_spec) {
-                comboBox.addItem(colSpec);
+                items.add(colSpec);
             }
         }
         if (null != m_flowVars) {
-            for (FlowVariable flowVar : m_flowVars.values()) {
-                comboBox.addItem(flowVar);
-            }
+            items.addAll(m_flowVars.values());
         }
+        // fill the model at once, adding items one by one fires an event per item
+        JComboBox comboBox = new JComboBox(new DefaultComboBoxModel(items.toArray()));
+        comboBox.setRenderer(new InputListCellRenderer());
         DefaultCellEditor editor = new DefaultCellEditor(comboBox);
         editor.setClickCountToStart(2);
         return editor;
@@ -61,6 +61,7 @@
 import org.knime.base.node.jsnippet.type.TypeProvider;
 import org.knime.base.node.jsnippet.ui.FieldsTableModel.Column;
 import org.knime.base.node.jsnippet.util.JSnippet;
+import org.knime.base.node.jsnippet.util.JavaFieldList.InColGroupList;
 import org.knime.base.node.jsnippet.util.JavaSnippetFields;
 import org.knime.base.node.jsnippet.util.JavaSnippetSettings;
 import org.knime.core.data.DataColumnSpec;
@@ -84,6 +85,10 @@ public class JSnippetFieldsController {
     private final JSnippet<?> m_snippet;
     private final InFieldsTable m_inFieldsTable;
     private final OutFieldsTable m_outFieldsTable;
+    /** The table of the column groups, null if groups are not edited. */
+    private final InColGroupsTable m_inColGroupsTable;
+    /** The column groups as loaded, used when there is no table for them. */
+    private InColGroupList m_inColGroups = new InColGroupList();
 
     /**
      * Create a new instance.
@@ -95,20 +100,34 @@ public class JSnippetFieldsController {
     public JSnippetFieldsController(final JSnippet<?> snippet,
             final InFieldsTable inFieldsTable,
             final OutFieldsTable outFieldsTable) {
+        this(snippet, inFieldsTable, outFieldsTable, null);
+    }
+
+    /**
+     * Create a new instance.
+     * @param snippet code snippets will be entered in the document of this
+     * snippet.
+     * @param inFieldsTable java fields representing inputs
+     * @param outFieldsTable java fields representing java snippet outputs
+     * @param inColGroupsTable java fields representing groups of input
+     * columns, if null the column groups are kept as loaded
+     * @since 4.3
+     */
+    public JSnippetFieldsController(final JSnippet<?> snippet,
+            final InFieldsTable inFieldsTable,
+            final OutFieldsTable outFieldsTable,
+            final InColGroupsTable inColGroupsTable) {
         m_snippet = snippet;
         m_inFieldsTable = inFieldsTable;
         m_outFieldsTable = outFieldsTable;
+        m_inColGroupsTable = inColGroupsTable;
 
         m_inFieldsTable.getTable().getModel().addTableModelListener(
                 new TableModelListener() {
             @Override
             public void tableChanged(final TableModelEvent e) {
                 // update snippet when table changes.
-                m_snippet.setJavaSnippetFields(new JavaSnippetFields(
-                        m_inFieldsTable.getInColFields(),
-                        m_inFieldsTable.getInVarFields(),
-                        m_outFieldsTable.getOutColFields(),
-                        m_outFieldsTable.getOutVarFields()));
+                updateSnippetFields();
             }
         });
         m_outFieldsTable.getTable().getModel().addTableModelListener(
@@ -116,11 +135,7 @@ public void tableChanged(final TableModelEvent e) {
             @Override
             public void tableChanged(final TableModelEvent e) {
                 // update snippet when table changes.
-                m_snippet.setJavaSnippetFields(new JavaSnippetFields(
-                        m_inFieldsTable.getInColFields(),
-                        m_inFieldsTable.getInVarFields(),
-                        m_outFieldsTable.getOutColFields(),
-                        m_outFieldsTable.getOutVarFields()));
+                updateSnippetFields();
             }
         });
         m_inFieldsTable.addPropertyChangeListener(
@@ -129,11 +144,7 @@ InFieldsTable.PROP_FIELD_ADDED, new PropertyChangeListener() {
             @Override
             public void propertyChange(final PropertyChangeEvent evt) {
                 // update snippet when table changes.
-                m_snippet.setJavaSnippetFields(new JavaSnippetFields(
-                        m_inFieldsTable.getInColFields(),
-                        m_inFieldsTable.getInVarFields(),
-                        m_outFieldsTable.getOutColFields(),
-                        m_outFieldsTable.getOutVarFields()));
+                updateSnippetFields();
             }
         });
         m_outFieldsTable.addPropertyChangeListener(
@@ -142,13 +153,32 @@ OutFieldsTable.PROP_FIELD_ADDED, new PropertyChangeListener() {
             @Override
             public void propertyChange(final PropertyChangeEvent evt) {
                 // update snippet when table changes.
-                m_snippet.setJavaSnippetFields(new JavaSnippetFields(
-                        m_inFieldsTable.getInColFields(),
-                        m_inFieldsTable.getInVarFields(),
-                        m_outFieldsTable.getOutColFields(),
-                        m_outFieldsTable.getOutVarFields()));
+                updateSnippetFields();
             }
         });
+        if (null != m_inColGroupsTable) {
+            m_inColGroupsTable.getTable().getModel().addTableModelListener(
+                e -> updateSnippetFields());
+        }
+    }
+
+    /** Set the fields defined in the tables to the snippet. */
+    private void updateSnippetFields() {
+        final JavaSnippetFields fields = new JavaSnippetFields(
+                m_inFieldsTable.getInColFields(),
+                m_inFieldsTable.getInVarFields(),
+                m_outFieldsTable.getOutColFields(),
+                m_outFieldsTable.getOutVarFields(),
+                new InColGroupList());
+        if (null != m_inColGroupsTable) {
+            // groups must not use the java names of the other fields
+            m_inColGroupsTable.setOtherFields(fields);
+            fields.getInColGroupFields().addAll(
+                m_inColGroupsTable.getInColGroupFields());
+        } else {
+            fields.getInColGroupFields().addAll(m_inColGroups);
+        }
+        m_snippet.setJavaSnippetFields(fields);
     }
 
     /**
@@ -259,12 +289,13 @@ public void updateData(final JavaSnippetSettings settings,
                 spec, flowVars);
         m_outFieldsTable.updateData(settings.getJavaSnippetFields(),
                 spec, flowVars);
+        m_inColGroups = settings.getJavaSnippetFields().getInColGroupFields();
+        if (null != m_inColGroupsTable) {
+            m_inColGroupsTable.updateData(settings.getJavaSnippetFields(),
+                    spec);
+        }
         // update snippet.
-        m_snippet.setJavaSnippetFields(new JavaSnippetFields(
-                m_inFieldsTable.getInColFields(),
-                m_inFieldsTable.getInVarFields(),
-                m_outFieldsTable.getOutColFields(),
-                m_outFieldsTable.getOutVarFields()));
+        updateSnippetFields();
     }
 
 }
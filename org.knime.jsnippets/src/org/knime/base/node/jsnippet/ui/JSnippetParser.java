@@ -47,17 +47,33 @@
  */
 package org.knime.base.node.jsnippet.ui;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
 import javax.tools.Diagnostic;
 import javax.tools.Diagnostic.Kind;
 import javax.tools.DiagnosticCollector;
 import javax.tools.JavaCompiler.CompilationTask;
 import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
 
 import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
+import org.fife.ui.rsyntaxtextarea.RSyntaxTextArea;
 import org.fife.ui.rsyntaxtextarea.parser.AbstractParser;
 import org.fife.ui.rsyntaxtextarea.parser.DefaultParseResult;
 import org.fife.ui.rsyntaxtextarea.parser.DefaultParserNotice;
@@ -68,6 +84,12 @@
 import org.knime.core.node.NodeLogger;
 
 /**
+ * Parser reporting the compile errors and warnings of a snippet in the editor. The snippet is compiled in the
+ * background: {@link #parse(RSyntaxDocument, String)} returns the result of the last finished compilation and
+ * schedules a new one if the text, the class path or the language level has changed since. The class path and the
+ * language level are read in the event dispatch thread when the compilation is scheduled. Compilations are debounced,
+ * reuse the compiler as long as the class path and the language level do not change and only write to memory.
+ * Results for outdated input are discarded.
  *
  * <p>This class might change and is not meant as public API.
  * @author Heiko Hofer
@@ -79,8 +101,40 @@
 public class JSnippetParser extends AbstractParser {
     private static final NodeLogger LOGGER = NodeLogger.getLogger(
             JSnippetParser.class);
+
+    /** Time in milliseconds without further edits before the snippet is compiled. */
+    private static final long DEBOUNCE_DELAY = 300;
+
+    /** Shared by all parsers, compilations of the editors are not run concurrently. */
+    private static final ScheduledExecutorService COMPILER = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "KNIME-Java-Snippet-Parser");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private JSnippet<?> m_snippet;
 
+    /** Reused across compilations, only accessed by the compiler thread. */
+    private JavaSnippetCompiler m_compiler;
+
+    /** The input the compiler was created for, only accessed by the compiler thread. */
+    private CompileInput m_compilerInput;
+
+    /** Incremented whenever a compilation is scheduled, the result of older compilations is discarded. */
+    private final AtomicLong m_generation = new AtomicLong();
+
+    /** The input the current result was computed for, only accessed in the event dispatch thread. */
+    private CompileInput m_resultInput;
+
+    private List<Diagnostic<? extends JavaFileObject>> m_diagnostics = Collections.emptyList();
+
+    /** The input of the scheduled compilation, only accessed in the event dispatch thread. */
+    private CompileInput m_pendingInput;
+
+    private Future<?> m_pending;
+
+    private WeakReference<RSyntaxTextArea> m_textArea = new WeakReference<>(null);
+
     /**
      * Create a new parser.
      * @param snippet the snippet
@@ -89,6 +143,17 @@ public JSnippetParser(final JSnippet<?> snippet) {
         m_snippet = snippet;
     }
 
+    /**
+     * Set the text area using this parser. The text area is asked to parse again when a background compilation has
+     * finished.
+     *
+     * @param textArea the text area
+     * @since 4.3
+     */
+    public void setTextArea(final RSyntaxTextArea textArea) {
+        m_textArea = new WeakReference<>(textArea);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -96,44 +161,166 @@ public JSnippetParser(final JSnippet<?> snippet) {
     public ParseResult parse(final RSyntaxDocument doc, final String style) {
         assert m_snippet.getDocument() == doc;
 
-        JavaSnippetCompiler compiler = new JavaSnippetCompiler(m_snippet);
-        StringWriter log = new StringWriter();
-        DiagnosticCollector<JavaFileObject> digsCollector =
-            new DiagnosticCollector<>();
-        CompilationTask compileTask = null;
+        final CompileInput input;
+        try {
+            // snapshot of everything the compilation depends on, the snippet is modified in this thread
+            input = new CompileInput(doc.getText(0, doc.getLength()), m_snippet.getCompiletimeClassPath(),
+                m_snippet.getJavaVersion());
+        } catch (BadLocationException e) {
+            // this should never happen.
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            LOGGER.debug("Cannot determine the class path of the snippet.", e);
+            return createParseResult(m_diagnostics);
+        }
+        if (input.equals(m_resultInput)) {
+            if (m_pending != null) {
+                // the input was changed back, the scheduled compilation is outdated
+                m_pending.cancel(false);
+                m_generation.incrementAndGet();
+                m_pending = null;
+                m_pendingInput = null;
+            }
+        } else if (!input.equals(m_pendingInput)) {
+            schedule(input);
+        }
+        return createParseResult(m_diagnostics);
+    }
+
+    /** Schedule the compilation of the given input, cancelling a compilation which has not yet started. */
+    private void schedule(final CompileInput input) {
+        if (m_pending != null) {
+            m_pending.cancel(false);
+        }
+        final long generation = m_generation.incrementAndGet();
+        m_pendingInput = input;
+        m_pending = COMPILER.schedule(() -> compile(input, generation), DEBOUNCE_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    /** Runs in the compiler thread. */
+    private void compile(final CompileInput input, final long generation) {
+        if (generation != m_generation.get()) {
+            return;
+        }
+        if (m_compiler == null || !input.hasSameClassPath(m_compilerInput)) {
+            // a changed jar or language level must not be compiled against stale state of the old compiler
+            m_compiler = new JavaSnippetCompiler(m_snippet);
+            m_compilerInput = input;
+        }
+        final JavaFileObject source = new SnippetSource(input.m_text);
+        final DiagnosticCollector<JavaFileObject> digsCollector = new DiagnosticCollector<>();
         try {
-            compileTask = compiler.getTask(log, digsCollector);
+            final CompilationTask compileTask = m_compiler.getTask(new StringWriter(), digsCollector,
+                Collections.singletonList(source), false, input.m_classPath, input.m_javaVersion);
+            compileTask.call();
         } catch (IOException e) {
             LOGGER.error("Cannot create an compile task.", e);
-            return new DefaultParseResult(this);
+            return;
+        } catch (RuntimeException e) {
+            LOGGER.debug("Compilation of the snippet failed unexpectedly.", e);
+            return;
+        }
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+        for (final Diagnostic<? extends JavaFileObject> d : digsCollector.getDiagnostics()) {
+            if (d.getSource() == source) {
+                diagnostics.add(d);
+            }
+        }
+        SwingUtilities.invokeLater(() -> publish(input, generation, diagnostics));
+    }
+
+    /** Runs in the event dispatch thread. */
+    private void publish(final CompileInput input, final long generation,
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        if (generation != m_generation.get()) {
+            // the input has changed since, a newer compilation is scheduled
+            return;
         }
-        compileTask.call();
+        m_resultInput = input;
+        m_diagnostics = diagnostics;
+        m_pendingInput = null;
+        m_pending = null;
+        final RSyntaxTextArea textArea = m_textArea.get();
+        if (textArea != null) {
+            textArea.forceReparsing(this);
+        }
+    }
+
+    private ParseResult createParseResult(final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
         DefaultParseResult parseResult = new DefaultParseResult(this);
         parseResult.setError(null);
-        for (Diagnostic<? extends JavaFileObject> d
-                : digsCollector.getDiagnostics()) {
-            boolean isSnippet = m_snippet.isSnippetSource(d.getSource());
-            if (isSnippet) {
-                DefaultParserNotice notice = new DefaultParserNotice(this,
-                        d.getMessage(Locale.US),
-                        (int)d.getLineNumber(),
-                        (int)d.getStartPosition(),
-                        (int)(d.getEndPosition()
-                                - d.getStartPosition() + 1));
-                if (d.getKind().equals(Kind.ERROR)) {
-                    notice.setLevel(ParserNotice.Level.ERROR);
-//                    LOGGER.error(d.getMessage(Locale.US));
-                } else if (d.getKind().equals(Kind.WARNING)) {
-                    notice.setLevel(ParserNotice.Level.WARNING);
-//                    LOGGER.warn(d.getMessage(Locale.US));
-                } else {
-                    notice.setLevel(ParserNotice.Level.INFO);
-//                    LOGGER.debug(d.getMessage(Locale.US));
-                }
-                parseResult.addNotice(notice);
+        for (Diagnostic<? extends JavaFileObject> d : diagnostics) {
+            DefaultParserNotice notice = new DefaultParserNotice(this,
+                    d.getMessage(Locale.US),
+                    (int)d.getLineNumber(),
+                    (int)d.getStartPosition(),
+                    (int)(d.getEndPosition()
+                            - d.getStartPosition() + 1));
+            if (d.getKind().equals(Kind.ERROR)) {
+                notice.setLevel(ParserNotice.Level.ERROR);
+            } else if (d.getKind().equals(Kind.WARNING)) {
+                notice.setLevel(ParserNotice.Level.WARNING);
+            } else {
+                notice.setLevel(ParserNotice.Level.INFO);
             }
+            parseResult.addNotice(notice);
         }
         return parseResult;
     }
 
+    /**
+     * The text, the class path and the language level of a compilation. Files of the class path are compared by path
+     * and modification time, so a replaced jar is compiled against again.
+     */
+    private static final class CompileInput {
+        private final String m_text;
+
+        private final File[] m_classPath;
+
+        private final long[] m_lastModified;
+
+        private final String m_javaVersion;
+
+        CompileInput(final String text, final File[] classPath, final String javaVersion) {
+            m_text = text;
+            m_classPath = classPath;
+            m_lastModified = Arrays.stream(classPath).mapToLong(File::lastModified).toArray();
+            m_javaVersion = javaVersion;
+        }
+
+        /** @return whether the other input has the same class path and language level, the text may differ */
+        boolean hasSameClassPath(final CompileInput other) {
+            return other != null && Arrays.equals(m_classPath, other.m_classPath)
+                && Arrays.equals(m_lastModified, other.m_lastModified) && m_javaVersion.equals(other.m_javaVersion);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof CompileInput)) {
+                return false;
+            }
+            final CompileInput other = (CompileInput)obj;
+            return m_text.equals(other.m_text) && hasSameClassPath(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_text.hashCode();
+        }
+    }
+
+    /** The snippet text held in memory. */
+    private static final class SnippetSource extends SimpleJavaFileObject {
+        private final String m_text;
+
+        SnippetSource(final String text) {
+            super(URI.create("string:///JSnippet.java"), Kind.SOURCE);
+            m_text = text;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return m_text;
+        }
+    }
 }
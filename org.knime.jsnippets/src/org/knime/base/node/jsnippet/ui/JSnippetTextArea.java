@@ -81,6 +81,10 @@ public JSnippetTextArea(final JSnippet<?> snippet) {
 
         setDocument(snippet.getDocument());
         addParser(snippet.getParser());
+        if (snippet.getParser() instanceof JSnippetParser) {
+            // diagnostics are computed in the background and pushed to this text area
+            ((JSnippetParser)snippet.getParser()).setTextArea(this);
+        }
 
         boolean parserInstalled = FoldParserManager.get().getFoldParser(
                 SYNTAX_STYLE_JAVA) instanceof GuardedSectionsFoldParser;
@@ -54,13 +54,16 @@
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import javax.swing.DefaultCellEditor;
+import javax.swing.DefaultComboBoxModel;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JList;
@@ -150,7 +153,7 @@ private void checkColColumn(final TableModelEvent e) {
                 if (e.getType() == TableModelEvent.DELETE) {
                     return;
                 }
-                for (int r = e.getFirstRow(); r <= e.getLastRow(); r++) {
+                for (int r = e.getFirstRow(); r <= getLastRow(e); r++) {
                     if (r < 0) {
                         continue;
                     }
@@ -195,7 +198,7 @@ private void autoUpdateIsArray(final TableModelEvent e) {
                 if (e.getColumn() != m_model.getIndex(Column.FIELD_TYPE)) {
                     return;
                 }
-                for (int r = e.getFirstRow(); r <= e.getLastRow(); r++) {
+                for (int r = e.getFirstRow(); r <= getLastRow(e); r++) {
                     boolean isVariable = m_model.getValueAt(r,
                             Column.FIELD_TYPE).equals(FieldType.FlowVariable);
                     if (isVariable) {
@@ -232,7 +235,7 @@ private void autoUpdateJavaType(final TableModelEvent e) {
                 if (e.getColumn() != m_model.getIndex(Column.IS_COLLECTION)) {
                     return;
                 }
-                for (int r = e.getFirstRow(); r <= e.getLastRow(); r++) {
+                for (int r = e.getFirstRow(); r <= getLastRow(e); r++) {
                     boolean isCollection = (Boolean)m_model.getValueAt(r, Column.IS_COLLECTION);
                     // update the java type
                     Object javaTypeObject = m_model.getValueAt(r, Column.JAVA_TYPE);
@@ -249,6 +252,11 @@ private void autoUpdateJavaType(final TableModelEvent e) {
                     }
                 }
             }
+
+            /** The last row of the event, a data changed event spans up to Integer.MAX_VALUE. */
+            private int getLastRow(final TableModelEvent e) {
+                return Math.min(e.getLastRow(), m_model.getRowCount() - 1);
+            }
         });
 
         // commit editor on focus lost
@@ -445,9 +453,15 @@ void updateData(final JavaSnippetFields fields,
         m_spec = spec;
         m_flowVars = flowVars;
 
-        m_model.clear();
-        fields.getOutColFields().forEach(field -> addRow(field));
-        fields.getOutVarFields().forEach(field -> addRow(field));
+        // a single event for the whole content instead of several per field
+        m_model.beginUpdate();
+        try {
+            m_model.clear();
+            fields.getOutColFields().forEach(field -> addRow(field));
+            fields.getOutVarFields().forEach(field -> addRow(field));
+        } finally {
+            m_model.endUpdate();
+        }
 
         /*
          * There is no simple way of disabling a boolean cell renderer if the cell is not editable.
@@ -929,29 +943,29 @@ public Object getCellEditorValue() {
 
         /** Create an editor component for the input columns. */
         private JComboBox createInputColumnComboBox() {
-            JComboBox comboBox = new JComboBox();
+            List<Object> items = new ArrayList<>();
             if (null != m_spec) {
                 for (DataColumnSpec colSpec : m_spec) {
-                    comboBox.addItem(colSpec);
+                    items.add(colSpec);
                 }
             }
-            return comboBox;
+            return new JComboBox(new DefaultComboBoxModel(items.toArray()));
         }
 
         /** Create an editor component for the flow variables. */
         private JComboBox createFlowVariablesComboBox() {
-            JComboBox comboBox = new JComboBox();
+            List<Object> items = new ArrayList<>();
             if (null != m_flowVars) {
                 for (FlowVariable flowVar : m_flowVars.values()) {
                     // test if a flow variable of this name might be
                     // created.
                     if (FieldsTableUtil.verifyNameOfFlowVariable(
                             flowVar.getName())) {
-                        comboBox.addItem(flowVar);
+                        items.add(flowVar);
                     }
                 }
             }
-            return comboBox;
+            return new JComboBox(new DefaultComboBoxModel(items.toArray()));
         }
 
         /**
@@ -153,4 +153,14 @@ default public File[] getAdditionalBuildPaths() {
         return FileUtils.EMPTY_FILE_ARRAY;
     }
 
+    /**
+     * The language level the snippet is compiled for, passed as <code>-source</code> and <code>-target</code> to
+     * the compiler.
+     * @return the language level, e.g. "1.8" or "11" (default implementation returns "1.8")
+     * @since 4.3
+     */
+    default public String getJavaVersion() {
+        return "1.8";
+    }
+
 }
\ No newline at end of file
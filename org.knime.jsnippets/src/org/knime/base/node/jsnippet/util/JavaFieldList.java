@@ -50,6 +50,7 @@
 import java.util.ArrayList;
 
 import org.knime.base.node.jsnippet.util.field.InCol;
+import org.knime.base.node.jsnippet.util.field.InColGroup;
 import org.knime.base.node.jsnippet.util.field.InVar;
 import org.knime.base.node.jsnippet.util.field.JavaField;
 import org.knime.base.node.jsnippet.util.field.OutCol;
@@ -205,4 +206,22 @@ OutVar createJavaFieldSettings() {
         }
     }
 
+    /**
+     * A wrapper for a list of fields in the java snippet that represents
+     * groups of input columns bound to an array.
+     * @since 4.3
+     */
+    public static class InColGroupList extends JavaFieldList<InColGroup> {
+        /** Create an empty instance. */
+        public InColGroupList() {
+            super(new JavaFieldSettingsFactory<InColGroup>() {
+
+                @Override
+                InColGroup createJavaFieldSettings() {
+                    return new InColGroup();
+                }
+            });
+        }
+    }
+
 }
@@ -56,6 +56,7 @@
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.tools.DiagnosticCollector;
@@ -83,6 +84,8 @@ public class JavaSnippetCompiler {
 
     private JSnippet<?> m_snippet;
     private ArrayList<String> m_compileArgs;
+    private File[] m_classPath;
+    private String m_javaVersion;
 
     private EclipseCompiler m_compiler;
 
@@ -107,32 +110,65 @@ public JavaSnippetCompiler(final JSnippet<?> snippet) {
      */
     public CompilationTask getTask(final Writer out, final DiagnosticCollector<JavaFileObject> digsCollector)
         throws IOException {
+        return getTask(out, digsCollector, m_snippet.getCompilationUnits(), true, m_snippet.getCompiletimeClassPath(),
+            m_snippet.getJavaVersion());
+    }
 
-        if (m_compiler == null) {
+    /**
+     * Creates a compilation task for the given compilation units. The compiler and its arguments are reused as long
+     * as the class path and the language level do not change. Both are passed in rather than read from the snippet,
+     * so the caller can take a consistent snapshot on the thread which modifies the snippet.
+     *
+     * @param out a Writer for additional output from the compiler;
+     * use System.err if null
+     * @param digsCollector a diagnostic listener; if null use the compiler's
+     * default method for reporting diagnostics
+     * @param compilationUnits the sources to compile
+     * @param generateClassFiles whether class files are written, <code>false</code> if only the diagnostics are of
+     *            interest
+     * @param classpaths the compile time class path, see {@link JSnippet#getCompiletimeClassPath()}
+     * @param javaVersion the language level, see {@link JSnippet#getJavaVersion()}
+     * @return an object representing the compilation process
+     * @throws IOException if the file manager cannot be closed
+     * @since 4.3
+     */
+    public CompilationTask getTask(final Writer out, final DiagnosticCollector<JavaFileObject> digsCollector,
+        final Iterable<? extends JavaFileObject> compilationUnits, final boolean generateClassFiles,
+        final File[] classpaths, final String javaVersion) throws IOException {
+        if (m_compileArgs == null || !Arrays.equals(classpaths, m_classPath) || !javaVersion.equals(m_javaVersion)) {
             m_compileArgs = new ArrayList<>();
-            final File[] classpaths = m_snippet.getCompiletimeClassPath();
-
             m_compileArgs.add("-classpath");
             m_compileArgs.add(Arrays.stream(classpaths)
                 .map(f -> f.getAbsolutePath()).map(FilenameUtils::normalize)
                 .collect(Collectors.joining(File.pathSeparator)));
 
             m_compileArgs.add("-source");
-            m_compileArgs.add("1.8");
+            m_compileArgs.add(javaVersion);
             m_compileArgs.add("-target");
-            m_compileArgs.add("1.8");
+            m_compileArgs.add(javaVersion);
             m_compileArgs.add("-encoding");
             m_compileArgs.add("UTF-8");
 
+            m_classPath = classpaths;
+            m_javaVersion = javaVersion;
+        }
+        if (m_compiler == null) {
             m_compiler  = new EclipseCompiler();
         }
 
+        final List<String> compileArgs = new ArrayList<>(m_compileArgs);
+        if (!generateClassFiles) {
+            // ECJ specific: report problems only
+            compileArgs.add("-d");
+            compileArgs.add("none");
+        }
+
         // Ensure that all .jar files that may have been opened are closed properly
         try (final StandardJavaFileManager stdFileMgr =
             m_compiler.getStandardFileManager(digsCollector, null, Charset.forName("UTF-8"))) {
 
-            final CompilationTask compileTask = m_compiler.getTask(out, stdFileMgr, digsCollector, m_compileArgs, null,
-                m_snippet.getCompilationUnits());
+            final CompilationTask compileTask = m_compiler.getTask(out, stdFileMgr, digsCollector, compileArgs, null,
+                compilationUnits);
             return compileTask;
         }
     }
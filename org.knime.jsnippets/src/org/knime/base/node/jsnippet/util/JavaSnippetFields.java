@@ -47,6 +47,7 @@
  */
 package org.knime.base.node.jsnippet.util;
 
+import org.knime.base.node.jsnippet.util.JavaFieldList.InColGroupList;
 import org.knime.base.node.jsnippet.util.JavaFieldList.InColList;
 import org.knime.base.node.jsnippet.util.JavaFieldList.InVarList;
 import org.knime.base.node.jsnippet.util.JavaFieldList.OutColList;
@@ -73,6 +74,7 @@ public class JavaSnippetFields {
     private InVarList m_inVars;
     private OutColList m_outCols;
     private OutVarList m_outVars;
+    private InColGroupList m_inColGroups;
 
     /**
      * @param inCols the fields representing input columns
@@ -88,6 +90,24 @@ public JavaSnippetFields(final InColList inCols,
         m_inVars = CheckUtils.checkArgumentNotNull(inVars);
         m_outCols = CheckUtils.checkArgumentNotNull(outCols);
         m_outVars = CheckUtils.checkArgumentNotNull(outVars);
+        m_inColGroups = new InColGroupList();
+    }
+
+    /**
+     * @param inCols the fields representing input columns
+     * @param inVars the fields representing input variables
+     * @param outCols the fields representing output columns
+     * @param outVars the fields representing output variables
+     * @param inColGroups the fields representing groups of input columns
+     * @since 4.3
+     */
+    public JavaSnippetFields(final InColList inCols,
+            final InVarList inVars,
+            final OutColList outCols,
+            final OutVarList outVars,
+            final InColGroupList inColGroups) {
+        this(inCols, inVars, outCols, outVars);
+        m_inColGroups = CheckUtils.checkArgumentNotNull(inColGroups);
     }
 
     /**
@@ -98,6 +118,7 @@ public JavaSnippetFields() {
         m_inVars = new InVarList();
         m_outCols = new OutColList();
         m_outVars = new OutVarList();
+        m_inColGroups = new InColGroupList();
     }
 
     /**
@@ -131,4 +152,13 @@ public OutColList getOutColFields() {
     public OutVarList getOutVarFields() {
         return m_outVars;
     }
+
+    /**
+     * Get the fields representing groups of input columns which are bound to an array.
+     * @return the fields representing groups of input columns
+     * @since 4.3
+     */
+    public InColGroupList getInColGroupFields() {
+        return m_inColGroups;
+    }
 }
@@ -48,6 +48,7 @@
 package org.knime.base.node.jsnippet.util;
 
 import org.knime.base.node.jsnippet.JavaSnippet;
+import org.knime.base.node.jsnippet.util.JavaFieldList.InColGroupList;
 import org.knime.base.node.jsnippet.util.JavaFieldList.InColList;
 import org.knime.base.node.jsnippet.util.JavaFieldList.InVarList;
 import org.knime.base.node.jsnippet.util.JavaFieldList.OutColList;
@@ -55,6 +56,7 @@
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.ext.sun.nodes.script.compile.JavaCodeCompiler;
 
 /**
  * The settings of the java snippet node.
@@ -79,6 +81,11 @@ public class JavaSnippetSettings {
     private static final String TEMPLATE_UUID = "templateUUID";
     private static final String VERSION = "version";
     private static final String RUN_ON_EXECUTE = "runOnExecute";
+    private static final String JAVA_VERSION = "javaVersion";
+    private static final String IN_COL_GROUPS = "inColGroups";
+
+    /** Language level of snippets created before it was configurable. */
+    private static final String LEGACY_JAVA_VERSION = "1.8";
 
     /** Custom imports. */
     private String m_scriptImports;
@@ -101,6 +108,8 @@ public class JavaSnippetSettings {
     private OutColList m_outCols;
     /** Output variables definition. */
     private OutVarList m_outVars;
+    /** Input column groups definition. */
+    private InColGroupList m_inColGroups;
 
     /** The UUID of the blueprint for this setting. */
     private String m_templateUUID;
@@ -111,6 +120,9 @@ public class JavaSnippetSettings {
     /** If Java Edit Variable should be run during execute, not configure. */
     private boolean m_runOnExecute;
 
+    /** The language level the snippet is compiled for. */
+    private String m_javaVersion;
+
     /**
      * Create a new instance.
      */
@@ -132,9 +144,11 @@ public JavaSnippetSettings(final String defaultContent) {
         m_outVars = new OutVarList();
         m_inCols = new InColList();
         m_inVars = new InVarList();
+        m_inColGroups = new InColGroupList();
         m_version = JavaSnippet.VERSION_1_X;
         m_templateUUID = null;
         m_runOnExecute = false;
+        m_javaVersion = JavaCodeCompiler.getRuntimeJavaVersion();
     }
 
 
@@ -238,7 +252,7 @@ void setVersion(final String version) {
      */
     public JavaSnippetFields getJavaSnippetFields() {
         return new JavaSnippetFields(
-                m_inCols, m_inVars, m_outCols, m_outVars);
+                m_inCols, m_inVars, m_outCols, m_outVars, m_inColGroups);
     }
 
     /**
@@ -270,6 +284,22 @@ public void setRunOnExecute(final boolean runOnExecute) {
         m_runOnExecute = runOnExecute;
     }
 
+    /**
+     * @return the language level the snippet is compiled for, e.g. "1.8" or "11"
+     * @since 4.3
+     */
+    public String getJavaVersion() {
+        return m_javaVersion;
+    }
+
+    /**
+     * @param javaVersion the language level the snippet is compiled for, e.g. "1.8" or "11"
+     * @since 4.3
+     */
+    public void setJavaVersion(final String javaVersion) {
+        m_javaVersion = javaVersion;
+    }
+
     /**
      * Set the system fields definitions of the java snippet.
      * @param fields the system fields definitions of the java snippet
@@ -279,6 +309,7 @@ public void setJavaSnippetFields(final JavaSnippetFields fields) {
         m_inVars = fields.getInVarFields();
         m_outCols = fields.getOutColFields();
         m_outVars = fields.getOutVarFields();
+        m_inColGroups = fields.getInColGroupFields();
     }
 
 
@@ -300,6 +331,10 @@ public void saveSettings(final NodeSettingsWO settings) {
 
         // added in 3.6
         settings.addStringArray(BUNDLES, m_bundles);
+
+        // added in 4.3
+        settings.addString(JAVA_VERSION, m_javaVersion);
+        m_inColGroups.saveSettings(settings.addConfig(IN_COL_GROUPS));
     }
 
     /** Loads parameters in NodeModel.
@@ -325,6 +360,15 @@ public void loadSettings(final NodeSettingsRO settings)
 
         // added in 3.6
         m_bundles = settings.getStringArray(BUNDLES, new String[0]);
+
+        // added in 4.3 -- older snippets were always compiled for Java 8
+        m_javaVersion = settings.getString(JAVA_VERSION, LEGACY_JAVA_VERSION);
+        // added in 4.3
+        if (settings.containsKey(IN_COL_GROUPS)) {
+            m_inColGroups.loadSettings(settings.getConfig(IN_COL_GROUPS));
+        } else {
+            m_inColGroups.clear();
+        }
     }
 
 
@@ -360,5 +404,15 @@ public void loadSettingsForDialog(final NodeSettingsRO settings) {
 
         // added in 3.6
         m_bundles = settings.getStringArray(BUNDLES, new String[0]);
+
+        // added in 4.3 -- older snippets were always compiled for Java 8
+        m_javaVersion = settings.getString(JAVA_VERSION, LEGACY_JAVA_VERSION);
+        // added in 4.3
+        m_inColGroups.clear();
+        try {
+            if (settings.containsKey(IN_COL_GROUPS)) {
+                m_inColGroups.loadSettingsForDialog(settings.getConfig(IN_COL_GROUPS));
+            }
+        } catch (InvalidSettingsException e) {}
     }
 }
@@ -0,0 +1,261 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.jsnippet.util.field;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.knime.base.node.jsnippet.type.ConverterUtil;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValue;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.config.Config;
+
+/**
+ * A field in the java snippet that binds a whole selection of input columns to a single array field, e.g. all
+ * numeric columns whose name matches "sensor_.*" to a <code>double[]</code>. The array is filled for every row in
+ * the order of the columns in the input table and may optionally be written back into the selected columns.
+ * The same array instance is reused for all rows.
+ *
+ * The name of the KNIME column ({@link #getKnimeName()}) holds the regular expression that column names have to
+ * match.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public class InColGroup extends JavaField {
+
+    /* Config Key for the element type of the array */
+    static final String ELEMENT_TYPE = "ElementType";
+
+    /* Config Key for whether the array is written back into the selected columns */
+    static final String REPLACE_COLUMNS = "ReplaceColumns";
+
+    /**
+     * The element type of the array field, which also determines the columns that are selected.
+     */
+    public enum ElementType {
+            /**
+             * Columns compatible to {@link DoubleValue} as <code>double[]</code>, missing cells as NaN. When written
+             * back, a NaN becomes a missing cell again only if the input cell was missing, all other values including
+             * NaN assigned by the snippet are kept as they are.
+             */
+            DOUBLE(double[].class, DoubleValue.class, DoubleCell.TYPE),
+            /** Columns compatible to {@link StringValue} as <code>String[]</code>, missing cells as null. */
+            STRING(String[].class, StringValue.class, StringCell.TYPE),
+            /**
+             * All columns which can be converted to a java object as <code>Object[]</code>, missing cells as null.
+             * Cannot be written back.
+             */
+            OBJECT(Object[].class, DataValue.class, null);
+
+        private final Class<?> m_arrayType;
+
+        private final Class<? extends DataValue> m_valueClass;
+
+        private final DataType m_outputType;
+
+        ElementType(final Class<?> arrayType, final Class<? extends DataValue> valueClass,
+            final DataType outputType) {
+            m_arrayType = arrayType;
+            m_valueClass = valueClass;
+            m_outputType = outputType;
+        }
+
+        /** @return the type of the java field, e.g. <code>double[].class</code> */
+        public Class<?> getArrayType() {
+            return m_arrayType;
+        }
+
+        /**
+         * @return the type of the columns the array is written back to or <code>null</code> if the array cannot be
+         *         written back.
+         */
+        public DataType getOutputType() {
+            return m_outputType;
+        }
+
+        /**
+         * @param arrayType the type of a java field
+         * @return the element type with the given array type or <code>null</code> if there is none
+         */
+        public static ElementType forArrayType(final Class<?> arrayType) {
+            for (final ElementType type : values()) {
+                if (type.m_arrayType.equals(arrayType)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @param type type of an input column
+         * @return whether columns of this type can be bound to an array of this element type
+         */
+        public boolean isCompatible(final DataType type) {
+            if (this == OBJECT) {
+                return !ConverterUtil.getFactoriesForSourceType(type).isEmpty();
+            }
+            return type.isCompatible(m_valueClass);
+        }
+    }
+
+    private ElementType m_elementType = ElementType.DOUBLE;
+
+    private boolean m_replaceColumns;
+
+    /**
+     * Create an instance.
+     */
+    public InColGroup() {
+        m_knimeName = ".*";
+        m_javaType = m_elementType.getArrayType();
+        m_javaTypeName = m_javaType.getName();
+    }
+
+    @Override
+    public FieldType getFieldType() {
+        return FieldType.Column;
+    }
+
+    @Override
+    public boolean isInput() {
+        return true;
+    }
+
+    /**
+     * @return the element type of the array field
+     */
+    public ElementType getElementType() {
+        return m_elementType;
+    }
+
+    /**
+     * @param elementType the element type of the array field
+     */
+    public void setElementType(final ElementType elementType) {
+        m_elementType = elementType;
+        m_javaType = elementType.getArrayType();
+        m_javaTypeName = m_javaType.getName();
+    }
+
+    /**
+     * @return whether the array is written back into the selected columns after the snippet was evaluated, which
+     *         requires all selected columns to be of the {@link ElementType#getOutputType() output type}
+     */
+    public boolean getReplaceColumns() {
+        return m_replaceColumns;
+    }
+
+    /**
+     * @param replaceColumns whether the array is written back into the selected columns after the snippet was
+     *            evaluated
+     */
+    public void setReplaceColumns(final boolean replaceColumns) {
+        m_replaceColumns = replaceColumns;
+    }
+
+    /**
+     * @return the compiled column name pattern
+     * @throws PatternSyntaxException if {@link #getKnimeName()} is not a valid regular expression
+     */
+    public Pattern getPattern() {
+        return Pattern.compile(m_knimeName);
+    }
+
+    /**
+     * Find the columns bound to this field.
+     *
+     * @param spec the spec of the input table
+     * @return indices of all columns whose name matches the pattern and whose type is compatible to the element type,
+     *         in ascending order
+     * @throws PatternSyntaxException if {@link #getKnimeName()} is not a valid regular expression
+     */
+    public int[] findColumnIndices(final DataTableSpec spec) {
+        final Pattern pattern = getPattern();
+        final int[] indices = new int[spec.getNumColumns()];
+        int count = 0;
+        for (int i = 0; i < indices.length; i++) {
+            final DataColumnSpec colSpec = spec.getColumnSpec(i);
+            if (pattern.matcher(colSpec.getName()).matches() && m_elementType.isCompatible(colSpec.getType())) {
+                indices[count++] = i;
+            }
+        }
+        final int[] result = new int[count];
+        System.arraycopy(indices, 0, result, 0, count);
+        return result;
+    }
+
+    @Override
+    public void saveSettings(final Config config) {
+        super.saveSettings(config);
+        config.addString(ELEMENT_TYPE, m_elementType.name());
+        config.addBoolean(REPLACE_COLUMNS, m_replaceColumns);
+    }
+
+    @Override
+    public void loadSettings(final Config config) throws InvalidSettingsException {
+        super.loadSettings(config);
+        final String elementType = config.getString(ELEMENT_TYPE);
+        try {
+            setElementType(ElementType.valueOf(elementType));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException("Unknown element type for column group: " + elementType, e);
+        }
+        m_replaceColumns = config.getBoolean(REPLACE_COLUMNS);
+    }
+}
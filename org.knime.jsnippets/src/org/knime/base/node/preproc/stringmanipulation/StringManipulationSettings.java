@@ -59,6 +59,7 @@
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.Path;
+import org.knime.base.node.preproc.stringmanipulation.manipulator.FusedManipulators;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.Manipulator;
 import org.knime.base.node.util.ManipulatorProvider;
 import org.knime.core.data.DataColumnSpec;
@@ -451,6 +452,10 @@ public JavaScriptingSettings getJavaScriptingSettings()
                 imports.add("static " + toImport + ".*");
             }
             s.setImports(imports.toArray(new String[imports.size()]));
+            // the string manipulators are functions of their arguments only
+            s.setStaticImportsPure(true);
+            // chains of character level manipulators are evaluated in a single pass
+            s.setCallFusion(FusedManipulators.getInstance());
             m_javaScriptingSettings = s;
         }
         return m_javaScriptingSettings;
@@ -82,6 +82,7 @@
 import org.knime.base.node.preproc.stringmanipulation.manipulator.JoinManipulator;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.JoinSepManipulator;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.LastIndexOfCharManipulator;
+import org.knime.base.node.preproc.stringmanipulation.manipulator.LatinCharTable;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.LengthManipulator;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.LowerCaseManipulator;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.MD5ChecksumManipulator;
@@ -90,6 +91,7 @@
 import org.knime.base.node.preproc.stringmanipulation.manipulator.PadLeftManipulator;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.PadRightCharsManipulator;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.PadRightManipulator;
+import org.knime.base.node.preproc.stringmanipulation.manipulator.PatternCache;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.RegexMatcherManipulator;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.RegexReplaceManipulator;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.RemoveCharsManipulator;
@@ -272,6 +274,8 @@ public synchronized File getJarFile() throws IOException {
             Collection<Object> classes = new ArrayList<Object>();
             classes.add(Manipulator.class);
             classes.add(AbstractDefaultToStringManipulator.class);
+            classes.add(LatinCharTable.class);
+            classes.add(PatternCache.class);
             classes.addAll(m_manipulators.get(ALL_CATEGORY));
             // create tree structure for classes
             DefaultMutableTreeNode root = createTree(classes);
@@ -0,0 +1,415 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.stringmanipulation.manipulator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.knime.ext.sun.nodes.script.expression.CallFusion;
+
+/**
+ * Fuses chains of character level manipulators, such as
+ * <code>removeDuplicates(strip(lowerCase(removeDiacritic($s$))))</code>, so that a row is processed in a single pass
+ * over a reused buffer instead of creating an intermediate string per manipulator. The fused pass handles strings
+ * of ASCII characters only, for which the diacritic and umlaut manipulators do not change anything and case
+ * conversion does not depend on the locale (apart from Turkish, Azerbaijani and Lithuanian, which are left to the
+ * manipulators). Any other value, including <code>null</code>, is passed through the manipulators one by one, so
+ * the result is always the same as the one of the chain.
+ * <p>
+ * Each fused manipulator is checked against the actual method on a set of sample strings covering all ASCII
+ * characters; a chain with a manipulator that behaves differently is not fused.
+ * <p>This class might change and is not meant as public API.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class FusedManipulators implements CallFusion {
+
+    private static final FusedManipulators INSTANCE = new FusedManipulators();
+
+    /** Languages with special case mappings of ASCII characters, e.g. the dotless i in Turkish. */
+    private static final List<String> SPECIAL_CASE_LANGUAGES = Arrays.asList("tr", "az", "lt");
+
+    private static final MethodHandle APPLY;
+
+    static {
+        try {
+            APPLY = MethodHandles.lookup().findVirtual(Chain.class, "apply",
+                MethodType.methodType(String.class, String.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** Sample strings each manipulator is checked with before it is fused. */
+    private static final String[] SAMPLES = createSamples();
+
+    private FusedManipulators() {
+    }
+
+    /** @return the fusion of the character level manipulators */
+    public static CallFusion getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MethodHandle fuse(final List<Method> methods, final List<Object[]> constants,
+        final List<MethodHandle> calls) {
+        final List<StageFactory> factories = new ArrayList<>(methods.size());
+        boolean changesCase = false;
+        MethodHandle chain = null;
+        for (int i = 0; i < methods.size(); i++) {
+            final Method method = methods.get(i);
+            final StageFactory factory = createStageFactory(method, constants.get(i));
+            if (factory == null || !isExact(factory, calls.get(i))) {
+                return null;
+            }
+            factories.add(factory);
+            changesCase |= isCaseConversion(method);
+            chain = chain == null ? calls.get(i) : MethodHandles.filterReturnValue(chain, calls.get(i));
+        }
+        return APPLY.bindTo(new Chain(factories, changesCase, chain));
+    }
+
+    /**
+     * @return a factory of the stage doing what the method does to ASCII characters or <code>null</code> if the
+     *         method is not supported
+     */
+    private static StageFactory createStageFactory(final Method method, final Object[] constants) {
+        final String className = method.getDeclaringClass().getName();
+        final String name = method.getName();
+        if (className.equals(LowerCaseManipulator.class.getName()) && name.equals("lowerCase")) {
+            return LowerCase::new;
+        } else if (className.equals(UpperCaseManipulator.class.getName()) && name.equals("upperCase")) {
+            return UpperCase::new;
+        } else if (className.equals(StripManipulator.class.getName()) && name.equals("strip")) {
+            return () -> new Strip(true, true);
+        } else if (className.equals(StripStartManipulator.class.getName()) && name.equals("stripStart")) {
+            return () -> new Strip(true, false);
+        } else if (className.equals(StripEndManipulator.class.getName()) && name.equals("stripEnd")) {
+            return () -> new Strip(false, true);
+        } else if (className.equals(RemoveDiacriticManipulator.class.getName()) && name.equals("removeDiacritic")) {
+            return Identity::new;
+        } else if (className.equals(ReplaceUmlautsManipulator.class.getName()) && name.equals("replaceUmlauts")
+            && constants.length == 1 && constants[0] != null) {
+            return Identity::new;
+        } else if (className.equals(RemoveSpaceCharDuplicatesManipulator.class.getName())
+            && name.equals("removeDuplicates")) {
+            return RemoveDuplicateSpaces::new;
+        } else if (className.equals(RemoveSpaceCharsManipulator.class.getName()) && name.equals("removeChars")) {
+            return () -> new RemoveChars(" ");
+        } else if (className.equals(RemoveCharsManipulator.class.getName()) && name.equals("removeChars")
+            && constants.length == 1 && constants[0] instanceof String) {
+            final String chars = (String)constants[0];
+            return () -> new RemoveChars(chars);
+        }
+        return null;
+    }
+
+    private static boolean isCaseConversion(final Method method) {
+        final String className = method.getDeclaringClass().getName();
+        return className.equals(LowerCaseManipulator.class.getName())
+            || className.equals(UpperCaseManipulator.class.getName());
+    }
+
+    /** @return whether the stage computes the same as the call for all samples */
+    private static boolean isExact(final StageFactory factory, final MethodHandle call) {
+        final Sink sink = new Sink();
+        final Stage stage = factory.create();
+        stage.m_next = sink;
+        try {
+            for (String sample : SAMPLES) {
+                if (!sink.apply(stage, sample).equals((String)call.invokeExact(sample))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static String[] createSamples() {
+        final List<String> samples = new ArrayList<>();
+        samples.add("");
+        samples.add("  processed \t by\n\n  KNIME \u000B ");
+        final StringBuilder all = new StringBuilder();
+        for (char c = 0; c < 128; c++) {
+            all.append(c);
+            samples.add(String.valueOf(c));
+            samples.add("a" + c + c + c + "b");
+            samples.add(" " + c + "  " + c + c + " ");
+        }
+        samples.add(all.toString());
+        return samples.toArray(new String[samples.size()]);
+    }
+
+    /** A fused chain of manipulators. */
+    private static final class Chain {
+        private final boolean m_changesCase;
+
+        /** The manipulators called one by one. */
+        private final MethodHandle m_chain;
+
+        /** The first stage of each thread, the stages and their buffer are reused for all rows. */
+        private final ThreadLocal<Stage> m_stages;
+
+        private final ThreadLocal<Sink> m_sinks = ThreadLocal.withInitial(Sink::new);
+
+        Chain(final List<StageFactory> factories, final boolean changesCase, final MethodHandle chain) {
+            m_changesCase = changesCase;
+            m_chain = chain;
+            m_stages = ThreadLocal.withInitial(() -> {
+                Stage next = m_sinks.get();
+                for (int i = factories.size() - 1; i >= 0; i--) {
+                    final Stage stage = factories.get(i).create();
+                    stage.m_next = next;
+                    next = stage;
+                }
+                return next;
+            });
+        }
+
+        String apply(final String str) throws Throwable {
+            if (str == null || !isAscii(str)
+                || (m_changesCase && SPECIAL_CASE_LANGUAGES.contains(Locale.getDefault().getLanguage()))) {
+                return (String)m_chain.invokeExact(str);
+            }
+            return m_sinks.get().apply(m_stages.get(), str);
+        }
+
+        private static boolean isAscii(final String str) {
+            for (int i = 0, length = str.length(); i < length; i++) {
+                if (str.charAt(i) >= 128) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** Creates the stage of a manipulator, one per thread. */
+    @FunctionalInterface
+    private interface StageFactory {
+        Stage create();
+    }
+
+    /** A manipulator processing one character at a time and passing its output on to the next stage. */
+    private abstract static class Stage {
+        private Stage m_next;
+
+        /** Called before the first character of a string. */
+        void start() {
+            m_next.start();
+        }
+
+        abstract void accept(char c);
+
+        /** Called after the last character of a string. */
+        void end() {
+            m_next.end();
+        }
+
+        void emit(final char c) {
+            m_next.accept(c);
+        }
+    }
+
+    /** The last stage, collecting the result in a buffer that grows as needed. */
+    private static final class Sink extends Stage {
+        private char[] m_buffer = new char[64];
+
+        private int m_length;
+
+        String apply(final Stage first, final String str) {
+            final int length = str.length();
+            if (m_buffer.length < length) {
+                m_buffer = new char[Math.max(length, 2 * m_buffer.length)];
+            }
+            first.start();
+            for (int i = 0; i < length; i++) {
+                first.accept(str.charAt(i));
+            }
+            first.end();
+            return new String(m_buffer, 0, m_length);
+        }
+
+        @Override
+        void start() {
+            m_length = 0;
+        }
+
+        @Override
+        void accept(final char c) {
+            if (m_length == m_buffer.length) {
+                m_buffer = Arrays.copyOf(m_buffer, 2 * m_buffer.length);
+            }
+            m_buffer[m_length++] = c;
+        }
+
+        @Override
+        void end() {
+            // nothing to flush
+        }
+    }
+
+    /** The diacritic and umlaut manipulators, which keep ASCII characters. */
+    private static final class Identity extends Stage {
+        @Override
+        void accept(final char c) {
+            emit(c);
+        }
+    }
+
+    private static final class LowerCase extends Stage {
+        @Override
+        void accept(final char c) {
+            emit(c >= 'A' && c <= 'Z' ? (char)(c + ('a' - 'A')) : c);
+        }
+    }
+
+    private static final class UpperCase extends Stage {
+        @Override
+        void accept(final char c) {
+            emit(c >= 'a' && c <= 'z' ? (char)(c - ('a' - 'A')) : c);
+        }
+    }
+
+    /** Strips whitespace, trailing whitespace is held back until a non-whitespace character follows. */
+    private static final class Strip extends Stage {
+        private final boolean m_stripStart;
+
+        private final boolean m_stripEnd;
+
+        private final StringBuilder m_pending = new StringBuilder();
+
+        private boolean m_isStarted;
+
+        Strip(final boolean stripStart, final boolean stripEnd) {
+            m_stripStart = stripStart;
+            m_stripEnd = stripEnd;
+        }
+
+        @Override
+        void start() {
+            m_isStarted = false;
+            m_pending.setLength(0);
+            super.start();
+        }
+
+        @Override
+        void accept(final char c) {
+            if (Character.isWhitespace(c)) {
+                if (m_stripStart && !m_isStarted) {
+                    return;
+                }
+                if (m_stripEnd) {
+                    m_pending.append(c);
+                    return;
+                }
+            } else {
+                m_isStarted = true;
+                for (int i = 0; i < m_pending.length(); i++) {
+                    emit(m_pending.charAt(i));
+                }
+                m_pending.setLength(0);
+            }
+            emit(c);
+        }
+    }
+
+    /** Replaces runs of space characters with a single one. */
+    private static final class RemoveDuplicateSpaces extends Stage {
+        private boolean m_isSpace;
+
+        @Override
+        void start() {
+            m_isSpace = false;
+            super.start();
+        }
+
+        @Override
+        void accept(final char c) {
+            final boolean isSpace = c == ' ';
+            if (!(isSpace && m_isSpace)) {
+                emit(c);
+            }
+            m_isSpace = isSpace;
+        }
+    }
+
+    /** Removes the given characters. */
+    private static final class RemoveChars extends Stage {
+        private final boolean[] m_isRemoved = new boolean[128];
+
+        RemoveChars(final String chars) {
+            for (int i = 0; i < chars.length(); i++) {
+                if (chars.charAt(i) < 128) {
+                    m_isRemoved[chars.charAt(i)] = true;
+                }
+            }
+        }
+
+        @Override
+        void accept(final char c) {
+            if (!m_isRemoved[c]) {
+                emit(c);
+            }
+        }
+    }
+}
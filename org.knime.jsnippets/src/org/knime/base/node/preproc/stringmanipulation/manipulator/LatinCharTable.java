@@ -0,0 +1,161 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.preproc.stringmanipulation.manipulator;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Lookup table of a string function that replaces characters one by one, like removing diacritics or replacing
+ * umlauts. The results for the Latin-1 and Latin Extended characters are computed once, so a string of those
+ * characters is mapped with one table lookup per character and a string of ASCII characters is returned as is. The
+ * function itself, e.g. a full Unicode normalization, is only applied to strings containing other characters, which
+ * may combine with the preceding character.
+ * <p>
+ * The table is only used if the function treats the characters independently of each other, which is verified on a
+ * string of all characters in the table.
+ * <p>This class is public only to be packaged along with the manipulators and is not meant as public API.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 4.3
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class LatinCharTable {
+
+    /** The first character after the Latin Extended-B block, i.e. the size of the table. */
+    static final char LIMIT = '\u0250';
+
+    private final UnaryOperator<String> m_function;
+
+    /** The result for each character or <code>null</code> if the function does not change it. */
+    private final String[] m_results = new String[LIMIT];
+
+    private final boolean m_isValid;
+
+    private final boolean m_isAsciiUnchanged;
+
+    /**
+     * Computes the table of a function.
+     *
+     * @param function a function mapping each character of a string on its own, must accept <code>null</code>
+     */
+    public LatinCharTable(final UnaryOperator<String> function) {
+        m_function = function;
+        boolean isAsciiUnchanged = true;
+        boolean isComplete = true;
+        for (char c = 0; c < LIMIT; c++) {
+            final String str = String.valueOf(c);
+            final String result = applyFunction(str);
+            isComplete &= result != null;
+            if (!str.equals(result)) {
+                m_results[c] = result;
+                isAsciiUnchanged &= c >= 128;
+            }
+        }
+        m_isAsciiUnchanged = isAsciiUnchanged;
+        final StringBuilder all = new StringBuilder(LIMIT);
+        for (char c = 0; c < LIMIT; c++) {
+            all.append(c);
+        }
+        final String expected = applyFunction(all.toString());
+        m_isValid = isComplete && expected != null && expected.equals(applyTable(all.toString()));
+    }
+
+    /** @return the result of the function or <code>null</code> if it fails, which disables the table */
+    private String applyFunction(final String str) {
+        try {
+            return m_function.apply(str);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Applies the function to a string.
+     *
+     * @param str the string, may be <code>null</code>
+     * @return the same as the function returns for the string
+     */
+    public String apply(final String str) {
+        if (str == null || !m_isValid) {
+            return m_function.apply(str);
+        }
+        final String result = applyTable(str);
+        return result == null ? m_function.apply(str) : result;
+    }
+
+    /** @return the result from the table or <code>null</code> if the string contains other characters */
+    private String applyTable(final String str) {
+        final int length = str.length();
+        int i = 0;
+        if (m_isAsciiUnchanged) {
+            while (i < length && str.charAt(i) < 128) {
+                i++;
+            }
+            if (i == length) {
+                return str;
+            }
+        }
+        StringBuilder result = null;
+        for (; i < length; i++) {
+            final char c = str.charAt(i);
+            if (c >= LIMIT) {
+                return null;
+            }
+            final String mapped = m_results[c];
+            if (mapped != null) {
+                if (result == null) {
+                    result = new StringBuilder(length + 16).append(str, 0, i);
+                }
+                result.append(mapped);
+            } else if (result != null) {
+                result.append(c);
+            }
+        }
+        return result == null ? str : result.toString();
+    }
+}
@@ -63,7 +63,10 @@ public class RegexMatcherManipulator extends AbstractDefaultToStringManipulator
      * @return String True/False (never null)
      */
     public static String regexMatcher(final String str, final String regex) {
-        return KnimeStringUtils.regexMatcher(str, regex);
+        if (str == null || regex == null) {
+            return KnimeStringUtils.regexMatcher(str, regex);
+        }
+        return PatternCache.get(regex).matcher(str).matches() ? "True" : "False";
     }
 
     /**
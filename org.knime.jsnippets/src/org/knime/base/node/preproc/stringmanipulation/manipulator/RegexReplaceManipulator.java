@@ -64,7 +64,10 @@ public class RegexReplaceManipulator extends AbstractDefaultToStringManipulator
      * @return string with replacements (never null)
      */
     public static String regexReplace(final String str, final String regex, final String replaceStr) {
-        return KnimeStringUtils.regexReplace(str, regex, replaceStr);
+        if (str == null || regex == null || replaceStr == null) {
+            return KnimeStringUtils.regexReplace(str, regex, replaceStr);
+        }
+        return PatternCache.get(regex).matcher(str).replaceAll(replaceStr);
     }
 
     /**
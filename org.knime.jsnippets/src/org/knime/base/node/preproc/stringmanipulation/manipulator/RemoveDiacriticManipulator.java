@@ -59,12 +59,15 @@
  */
 public class RemoveDiacriticManipulator extends AbstractDefaultToStringManipulator {
 
+    /** Results for Latin characters, other characters are normalized by {@link KnimeStringUtils}. */
+    private static final LatinCharTable TABLE = new LatinCharTable(KnimeStringUtils::removeDiacritic);
+
     /**
      * @param str input string (must not be null)
      * @return string without diacritics (never null)
      */
     public static String removeDiacritic(final String str) {
-        return KnimeStringUtils.removeDiacritic(str);
+        return TABLE.apply(str);
     }
 
     /**
@@ -57,13 +57,19 @@
  */
 public class ReplaceUmlautsManipulator extends AbstractDefaultToStringManipulator {
 
+    /** Results for Latin characters, other characters are replaced by {@link KnimeStringUtils}. */
+    private static final LatinCharTable TABLE = new LatinCharTable(s -> KnimeStringUtils.replaceUmlauts(s, false));
+
+    private static final LatinCharTable TABLE_OMIT_E =
+        new LatinCharTable(s -> KnimeStringUtils.replaceUmlauts(s, true));
+
     /**
      * @param str where all umlauts should be replaced (must be not null)
      * @param omitE option if 'e' should be omitted. (Ex. 'ä' --> 'ae' or 'a') (must be not null)
      * @return string without umlauts (never null)
      */
     public static String replaceUmlauts(final String str, final boolean omitE) {
-        return KnimeStringUtils.replaceUmlauts(str, omitE);
+        return omitE ? TABLE_OMIT_E.apply(str) : TABLE.apply(str);
     }
 
     /**
@@ -64,6 +64,7 @@
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.Path;
 import org.knime.base.node.preproc.stringmanipulation.StringManipulatorProvider;
+import org.knime.base.node.preproc.stringmanipulation.manipulator.FusedManipulators;
 import org.knime.base.node.preproc.stringmanipulation.manipulator.Manipulator;
 import org.knime.base.node.preproc.stringmanipulation.multicolumn.MultiColumnStringManipulationConfigurator.ColumnAccessor;
 import org.knime.base.node.util.ManipulatorProvider;
@@ -466,6 +467,10 @@ private static Map<DataType, JavaScriptingSettings> getJavaScriptingSettings(
                 imports.add("static " + toImport + ".*");
             }
             s.setImports(imports.toArray(new String[imports.size()]));
+            // the string manipulators are functions of their arguments only
+            s.setStaticImportsPure(true);
+            // chains of character level manipulators are evaluated in a single pass
+            s.setCallFusion(FusedManipulators.getInstance());
 
             result.put(columnType, s);
         }
@@ -135,7 +135,7 @@ public ColumnAccessor(final DataTableSpec spec, final String nameInSourceTable)
          */
         public Object getCellContents(final DataRow r) {
             final DataCell cell = r.getCell(m_indexInSourceTable);
-            return cell.isMissing() ? null : javaSnippetType.asJavaObject(cell);
+            return cell.isMissing() ? null : javaSnippetType.readJavaObject(cell);
         }
 
         /**
@@ -59,7 +59,10 @@
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import javax.swing.BorderFactory;
@@ -116,9 +119,9 @@
  */
 @SuppressWarnings("serial")
 public class JSnippetPanel extends JPanel {
-    private JList<Object> m_colList;
+    private SnippetList<Object> m_colList;
 
-    private JList<Object> m_flowVarsList;
+    private SnippetList<Object> m_flowVarsList;
 
     private JTextComponent m_expEdit;
 
@@ -261,7 +264,7 @@ protected JComponent layoutRightComponent() {
     }
 
     private void initComponents() {
-        m_colList = new JList<>(new DefaultListModel<Object>());
+        m_colList = new SnippetList<>();
         m_colList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         m_colList.addKeyListener(new KeyAdapter() {
             /** {@inheritDoc} */
@@ -288,7 +291,7 @@ public void mouseClicked(final MouseEvent e) {
             }
         });
         m_colList.setCellRenderer(new ListRenderer());
-        m_flowVarsList = new JList<>(new DefaultListModel<Object>());
+        m_flowVarsList = new SnippetList<>();
         m_flowVarsList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         m_flowVarsList.setToolTipText(""); // enable tooltip
         m_flowVarsList.addKeyListener(new KeyAdapter() {
@@ -639,24 +642,15 @@ public void update(final String expression, final DataTableSpec spec,
         m_expEdit.setText(expression);
         m_expEdit.requestFocus();
 
-        DefaultListModel<Object> listModel = (DefaultListModel<Object>)m_colList.getModel();
-        listModel.removeAllElements();
-
         // we have Expression.VERSION_2X
-        for (String exp : expressions) {
-            listModel.addElement(exp);
-        }
-
-        for (int i = 0; i < spec.getNumColumns(); i++) {
-            DataColumnSpec colSpec = spec.getColumnSpec(i);
-            listModel.addElement(colSpec);
+        final List<Object> columns = new ArrayList<>(expressions.length + spec.getNumColumns());
+        columns.addAll(Arrays.asList(expressions));
+        for (DataColumnSpec colSpec : spec) {
+            columns.add(colSpec);
         }
+        m_colList.setElements(columns);
         m_completionProvider.setColumns(spec);
-        DefaultListModel<Object> fvListModel = (DefaultListModel<Object>)m_flowVarsList.getModel();
-        fvListModel.removeAllElements();
-        for (FlowVariable v : flowVariables.values()) {
-            fvListModel.addElement(v);
-        }
+        m_flowVarsList.setElements(flowVariables.values());
         m_completionProvider.setFlowVariables(flowVariables.values());
     }
 
@@ -0,0 +1,229 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   19.10.2026 (KNIME AG, Zurich, Switzerland): created
+ */
+package org.knime.base.node.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.swing.AbstractListModel;
+import javax.swing.text.Position;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.node.workflow.FlowVariable;
+
+/**
+ * A list model for the column and flow variable lists of the snippet dialogs. In contrast to a
+ * {@link javax.swing.DefaultListModel} the content is replaced as a whole, firing a single event instead of one per
+ * element, which matters for inputs with tens of thousands of columns. The model also answers the type-ahead
+ * queries of the list: the lower-case names are computed once per content and the matches of the last prefix are
+ * kept, so that typing further characters only has to narrow down the previous matches.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @param <E> the type of the elements
+ * @since 4.3
+ */
+@SuppressWarnings("serial")
+public class SnippetListModel<E> extends AbstractListModel<E> {
+
+    private List<E> m_elements = Collections.emptyList();
+
+    /** The lower-case names of the elements, created on first use. */
+    private String[] m_keys;
+
+    /** The lower-case prefix of the last type-ahead query. */
+    private String m_lastPrefix;
+
+    /** The ascending indices of the elements matching m_lastPrefix. */
+    private int[] m_lastMatches;
+
+    private E m_prototype;
+
+    /**
+     * Replace the content of the model.
+     *
+     * @param elements the new elements
+     */
+    public void setElements(final Collection<? extends E> elements) {
+        final int oldSize = m_elements.size();
+        m_elements = new ArrayList<>(elements);
+        m_keys = null;
+        m_lastPrefix = null;
+        m_lastMatches = null;
+        m_prototype = null;
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+        if (!m_elements.isEmpty()) {
+            fireIntervalAdded(this, 0, m_elements.size() - 1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSize() {
+        return m_elements.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getElementAt(final int index) {
+        return m_elements.get(index);
+    }
+
+    /**
+     * Get the element with the longest name. Lists can use it as prototype cell value so that they do not have to
+     * render every element to compute their size.
+     *
+     * @return the element with the longest name or null when the model is empty
+     */
+    public E getPrototypeElement() {
+        if (null == m_prototype && !m_elements.isEmpty()) {
+            final String[] keys = getKeys();
+            int longest = 0;
+            for (int i = 1; i < keys.length; i++) {
+                if (keys[i].length() > keys[longest].length()) {
+                    longest = i;
+                }
+            }
+            m_prototype = m_elements.get(longest);
+        }
+        return m_prototype;
+    }
+
+    /**
+     * Get the index of the next element whose name starts with the given prefix, ignoring case. Follows the contract
+     * of {@link javax.swing.JList#getNextMatch(String, int, Position.Bias)}.
+     *
+     * @param prefix the prefix to search for
+     * @param startIndex the index to start the search at
+     * @param bias the search direction
+     * @return the index of the next matching element or -1 if there is none
+     */
+    public int getNextMatch(final String prefix, final int startIndex, final Position.Bias bias) {
+        if (prefix == null) {
+            throw new IllegalArgumentException();
+        }
+        if (startIndex < 0 || startIndex >= getSize()) {
+            throw new IllegalArgumentException();
+        }
+        final int[] matches = getMatches(prefix.toLowerCase(Locale.ENGLISH));
+        if (matches.length == 0) {
+            return -1;
+        }
+        final int pos = Arrays.binarySearch(matches, startIndex);
+        if (pos >= 0) {
+            return startIndex;
+        }
+        final int insertion = -pos - 1;
+        if (bias == Position.Bias.Backward) {
+            return insertion > 0 ? matches[insertion - 1] : matches[matches.length - 1];
+        }
+        return insertion < matches.length ? matches[insertion] : matches[0];
+    }
+
+    private int[] getMatches(final String prefix) {
+        if (prefix.equals(m_lastPrefix)) {
+            return m_lastMatches;
+        }
+        final String[] keys = getKeys();
+        final int[] candidates;
+        if (null != m_lastPrefix && prefix.startsWith(m_lastPrefix)) {
+            // a longer prefix can only match a subset of the previous matches
+            candidates = m_lastMatches;
+        } else {
+            candidates = null;
+        }
+        final int count = null != candidates ? candidates.length : keys.length;
+        final int[] matches = new int[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            final int index = null != candidates ? candidates[i] : i;
+            if (keys[index].startsWith(prefix)) {
+                matches[size++] = index;
+            }
+        }
+        m_lastPrefix = prefix;
+        m_lastMatches = Arrays.copyOf(matches, size);
+        return m_lastMatches;
+    }
+
+    private String[] getKeys() {
+        if (null == m_keys) {
+            final String[] keys = new String[m_elements.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = getName(m_elements.get(i)).toLowerCase(Locale.ENGLISH);
+            }
+            m_keys = keys;
+        }
+        return m_keys;
+    }
+
+    /**
+     * Get the name of the element as it is presented to the user.
+     *
+     * @param element the element
+     * @return the name used for type-ahead and sizing
+     */
+    protected String getName(final E element) {
+        if (element instanceof DataColumnSpec) {
+            return ((DataColumnSpec)element).getName();
+        }
+        if (element instanceof FlowVariable) {
+            return ((FlowVariable)element).getName();
+        }
+        return String.valueOf(element);
+    }
+}